@@ -3,6 +3,11 @@ package seedu.address;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,13 +16,17 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DispatchOn;
+import seedu.address.commons.core.DispatchThread;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.events.ui.ExitAppRequestEvent;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.CommandHistory;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
@@ -29,12 +38,16 @@ import seedu.address.model.ReadOnlyExpenditureTracker;
 import seedu.address.model.ReadOnlyTodoList;
 import seedu.address.model.TodoList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.task.DeadlineStatusService;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.CommandHistoryStorage;
 import seedu.address.storage.ExpenditureTrackerStorage;
+import seedu.address.storage.JournalExpenditureTrackerStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TextCommandHistoryStorage;
 import seedu.address.storage.TodoListStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.storage.XmlAddressBookStorage;
@@ -46,11 +59,14 @@ import seedu.address.ui.UiManager;
 /**
  * The main entry point to the application.
  */
+@DispatchOn(DispatchThread.FX)
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(1, 3, 0, true);
 
     private static final Logger logger = LogsCenter.getLogger(MainApp.class);
+    private static final int DATA_FILE_COUNT = 3;
+    private static final long EVENT_FLUSH_TIMEOUT_SECONDS = 5;
 
     protected Ui ui;
     protected Logic logic;
@@ -70,68 +86,146 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
-        ExpenditureTrackerStorage expenditureTrackerStorage =
-                new XmlExpenditureTrackerStorage(userPrefs.getExpenditureTrackerFilePath());
-        TodoListStorage todoListStorage = new XmlTodoListStorage(userPrefs.getTodoListFilePath());
-        storage = new StorageManager(addressBookStorage, expenditureTrackerStorage, todoListStorage, userPrefsStorage);
+        // invalid records are skipped and logged, so that one bad record does not discard the whole file
+        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath(), true);
+        ExpenditureTrackerStorage expenditureTrackerStorage = initExpenditureTrackerStorage(userPrefs);
+        TodoListStorage todoListStorage = new XmlTodoListStorage(userPrefs.getTodoListFilePath(), true);
+        CommandHistoryStorage commandHistoryStorage = userPrefs.isCommandHistorySaved()
+                ? new TextCommandHistoryStorage(userPrefs.getCommandHistoryFilePath())
+                : null;
+        storage = new StorageManager(addressBookStorage, expenditureTrackerStorage, todoListStorage, userPrefsStorage,
+                commandHistoryStorage, userPrefs.getSaveQuietPeriodMillis());
 
         initLogging(config);
+        initMetrics(config);
 
         model = initModelManager(storage, userPrefs);
 
-        logic = new LogicManager(model);
+        logic = new LogicManager(model, initCommandHistory(storage, userPrefs));
 
         ui = new UiManager(logic, config, userPrefs);
 
-        initEventsCenter();
+        initEventsCenter(userPrefs);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     * Returns a {@code ModelManager} with the data from {@code storage}'s data files and {@code userPrefs}. <br>
+     * The data files are read concurrently. For each file, sample data will be used instead if the file is not found,
+     * or empty data will be used instead if errors occur when reading the file.
      */
     private Model initModelManager(Storage storage, UserPrefs userPrefs) {
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        Optional<ReadOnlyExpenditureTracker> expenditureTrackerOptional;
-        Optional<ReadOnlyTodoList> todoListOptional;
-        ReadOnlyAddressBook initialData;
-        ReadOnlyTodoList initialTodoListData;
-        ReadOnlyExpenditureTracker initialExpenditureTracker;
+        long start = System.nanoTime();
+        ExecutorService loader = Executors.newFixedThreadPool(DATA_FILE_COUNT, runnable -> {
+            Thread thread = new Thread(runnable, "data-loader");
+            thread.setDaemon(true);
+            return thread;
+        });
 
         try {
-            addressBookOptional = storage.readAddressBook();
-            expenditureTrackerOptional = storage.readExpenditureTracker();
-            todoListOptional = storage.readTodoList();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample AddressBook");
-            }
-            if (!todoListOptional.isPresent()) {
-                logger.info("Data file not found. Will be starting with a sample TodoList");
+            CompletableFuture<ReadOnlyAddressBook> addressBook = CompletableFuture.supplyAsync(() ->
+                    loadData("AddressBook", storage::readAddressBook, SampleDataUtil::getSampleAddressBook,
+                            AddressBook::new), loader);
+            CompletableFuture<ReadOnlyExpenditureTracker> expenditureTracker = CompletableFuture.supplyAsync(() ->
+                    loadData("ExpenditureTracker", storage::readExpenditureTracker,
+                            SampleDataUtil::getSampleExpenditureTracker, ExpenditureTracker::new), loader);
+            CompletableFuture<ReadOnlyTodoList> todoList = CompletableFuture.supplyAsync(() ->
+                    loadData("TodoList", storage::readTodoList, SampleDataUtil::getSampleTodoList, TodoList::new),
+                    loader);
+            CompletableFuture.allOf(addressBook, expenditureTracker, todoList).join();
+
+            logger.info(String.format("Loaded all data files in %d ms", elapsedMillisSince(start)));
+            return new ModelManager(addressBook.join(), todoList.join(), expenditureTracker.join(), userPrefs);
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    /**
+     * Returns the data read by {@code reader}, and logs how long the read took. <br>
+     * The data from {@code sampleData} will be used instead if the data file is not found,
+     * or the data from {@code emptyData} will be used instead if errors occur when reading the file.
+     */
+    private static <T> T loadData(String dataName, DataReader<T> reader, Supplier<T> sampleData,
+                                  Supplier<T> emptyData) {
+        long start = System.nanoTime();
+        T data;
+        try {
+            Optional<T> dataOptional = reader.read();
+            if (!dataOptional.isPresent()) {
+                logger.info("Data file not found. Will be starting with a sample " + dataName);
             }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-            initialExpenditureTracker = expenditureTrackerOptional
-                    .orElseGet(SampleDataUtil::getSampleExpenditureTracker);
-            initialTodoListData = todoListOptional.orElseGet(SampleDataUtil::getSampleTodoList);
+            data = dataOptional.orElseGet(sampleData);
         } catch (DataConversionException e) {
-            logger.warning("Data file not in the correct format. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-            initialExpenditureTracker = new ExpenditureTracker();
-            initialTodoListData = new TodoList();
+            logger.warning("Data file not in the correct format. Will be starting with an empty " + dataName);
+            data = emptyData.get();
         } catch (IOException e) {
-            logger.warning("Problem while reading from the file. Will be starting with an empty AddressBook");
-            initialData = new AddressBook();
-            initialExpenditureTracker = new ExpenditureTracker();
-            initialTodoListData = new TodoList();
+            logger.warning("Problem while reading from the file. Will be starting with an empty " + dataName);
+            data = emptyData.get();
         }
+        logger.info(String.format("Loaded %s in %d ms", dataName, elapsedMillisSince(start)));
+        return data;
+    }
 
-        return new ModelManager(initialData, initialTodoListData, initialExpenditureTracker, userPrefs);
+    private static long elapsedMillisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Returns a {@code CommandHistory} with the commands entered in earlier sessions that are in {@code storage}. <br>
+     * An empty history will be used instead if errors occur when reading the history file.
+     */
+    private CommandHistory initCommandHistory(Storage storage, UserPrefs userPrefs) {
+        int capacity = userPrefs.getMaxCommandHistorySize() > 0
+                ? userPrefs.getMaxCommandHistorySize()
+                : CommandHistory.DEFAULT_CAPACITY;
+        long start = System.nanoTime();
+        try {
+            CommandHistory history = new CommandHistory(capacity, storage.readCommandHistory(capacity));
+            logger.info(String.format("Loaded command history in %d ms", elapsedMillisSince(start)));
+            return history;
+        } catch (IOException e) {
+            logger.warning("Problem while reading from the command history file. Will be starting with an empty "
+                    + "command history");
+            return new CommandHistory(capacity);
+        }
+    }
+
+    /**
+     * Returns the {@code ExpenditureTrackerStorage} for the format chosen in {@code userPrefs}. <br>
+     * When the journal format is chosen but no journal exists yet, the XML data file is imported into it.
+     */
+    private ExpenditureTrackerStorage initExpenditureTrackerStorage(UserPrefs userPrefs) {
+        XmlExpenditureTrackerStorage xmlStorage =
+                new XmlExpenditureTrackerStorage(userPrefs.getExpenditureTrackerFilePath(), true);
+        if (userPrefs.getExpenditureTrackerFormat() != UserPrefs.ExpenditureTrackerFormat.JOURNAL) {
+            return xmlStorage;
+        }
 
+        JournalExpenditureTrackerStorage journalStorage =
+                new JournalExpenditureTrackerStorage(userPrefs.getExpenditureTrackerJournalFilePath());
+        try {
+            journalStorage.importIfMissing(xmlStorage);
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to import " + xmlStorage.getExpenditureTrackerFilePath() + " into the journal : "
+                    + StringUtil.getDetails(e));
+        }
+        return journalStorage;
     }
 
     private void initLogging(Config config) {
         LogsCenter.init(config);
+        EventsCenter.getInstance().setTraceSampleInterval(config.getEventSampleInterval());
+    }
+
+    /**
+     * Starts recording command metrics if the {@code config} enables them, and writing them to the metrics file
+     * periodically if it gives an interval.
+     */
+    private void initMetrics(Config config) {
+        MetricsCenter.setEnabled(config.isCommandMetricsEnabled());
+        if (config.isCommandMetricsEnabled() && config.getMetricsDumpIntervalSeconds() > 0) {
+            MetricsCenter.startPeriodicDump(config.getMetricsFilePath(), config.getMetricsDumpIntervalSeconds());
+        }
     }
 
     /**
@@ -202,36 +296,67 @@ public class MainApp extends Application {
         return initializedPrefs;
     }
 
-    private void initEventsCenter() {
-        EventsCenter.getInstance().registerHandler(this);
+    private void initEventsCenter(UserPrefs userPrefs) {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.registerHandler(this);
+        if (userPrefs.isAsyncEventDispatch()) {
+            eventsCenter.startAsyncDispatch();
+        }
     }
 
     @Override
     public void start(Stage primaryStage) {
         logger.info("Starting AddressBook " + MainApp.VERSION);
         ui.start(primaryStage);
+        DeadlineStatusService.getInstance().start();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping Address Book ] =============================");
         ui.stop();
+        DeadlineStatusService.getInstance().stop();
+        flushEvents();
+        storage.flushPendingSaves();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        MetricsCenter.stopPeriodicDump();
+        LogsCenter.flush();
         Platform.exit();
         System.exit(0);
     }
 
+    /**
+     * Waits for the events raised so far to be handled, and logs how long each type of event waited to be handled.
+     */
+    private void flushEvents() {
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        if (!eventsCenter.flush(EVENT_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warning("Some events were still being handled after " + EVENT_FLUSH_TIMEOUT_SECONDS + " s");
+        }
+        eventsCenter.getDispatchLatencies().forEach((eventType, latency) ->
+                logger.info("Dispatch latency of " + eventType + ": " + latency));
+        eventsCenter.stopAsyncDispatch();
+    }
+
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        LogsCenter.logEventHandled(logger, event);
         stop();
     }
 
     public static void main(String[] args) {
         launch(args);
     }
+
+    /**
+     * Reads one data file.
+     */
+    @FunctionalInterface
+    private interface DataReader<T> {
+        Optional<T> read() throws DataConversionException, IOException;
+    }
 }
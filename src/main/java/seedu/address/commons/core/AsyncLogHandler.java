@@ -0,0 +1,197 @@
+package seedu.address.commons.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ErrorManager;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * A {@link Handler} that hands log records to other handlers on a background writer thread, so that logging never
+ * waits for the console or the disk.
+ * Records wait in a bounded queue and are written in batches, with the other handlers flushed once per batch.
+ * When the queue is full, records below {@code WARNING} level are dropped and counted, while records at
+ * {@code WARNING} level or above wait for room in the queue.
+ */
+public class AsyncLogHandler extends Handler {
+
+    private static final long FLUSH_TIMEOUT_MILLIS = 5000;
+
+    /** Tells the writer thread to stop once the records queued before it have been written. */
+    private static final LogRecord END_OF_RECORDS = new LogRecord(Level.OFF, "");
+
+    private final List<Handler> targets;
+    private final BlockingQueue<LogRecord> queue;
+    private final int batchSize;
+    private final Thread writer;
+    private final AtomicLong droppedCount = new AtomicLong();
+    private long reportedDroppedCount;
+    private long pendingCount;
+    private volatile boolean isClosed;
+
+    /**
+     * Creates a handler that queues up to {@code capacity} records and writes up to {@code batchSize} records at a
+     * time to {@code targets}.
+     */
+    public AsyncLogHandler(int capacity, int batchSize, Handler... targets) {
+        if (capacity <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("capacity and batch size must be positive");
+        }
+        this.targets = Arrays.asList(targets.clone());
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        writer = new Thread(this::writeBatches, "log-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    @Override
+    public void publish(LogRecord record) {
+        if (isClosed || !isLoggable(record)) {
+            return;
+        }
+        // the caller is found from the stack, which is only possible on the logging thread
+        record.getSourceClassName();
+
+        synchronized (this) {
+            pendingCount++;
+        }
+        boolean isQueued;
+        if (record.getLevel().intValue() >= Level.WARNING.intValue()) {
+            isQueued = putUninterruptibly(record);
+        } else {
+            isQueued = queue.offer(record);
+            if (!isQueued) {
+                droppedCount.incrementAndGet();
+            }
+        }
+        if (!isQueued) {
+            finishRecords(1);
+        }
+    }
+
+    /**
+     * Waits until the records published so far have been written, and flushes the other handlers.
+     * Gives up waiting after {@value #FLUSH_TIMEOUT_MILLIS} milliseconds.
+     */
+    @Override
+    public void flush() {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(FLUSH_TIMEOUT_MILLIS);
+        synchronized (this) {
+            try {
+                while (pendingCount > 0 && writer.isAlive()) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    TimeUnit.NANOSECONDS.timedWait(this, remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        targets.forEach(Handler::flush);
+    }
+
+    /**
+     * Writes the records published so far, then stops the writer thread and closes the other handlers.
+     */
+    @Override
+    public void close() {
+        if (isClosed) {
+            return;
+        }
+        isClosed = true;
+        putUninterruptibly(END_OF_RECORDS);
+        try {
+            writer.join(FLUSH_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        targets.forEach(Handler::close);
+    }
+
+    /**
+     * Returns the number of records dropped because the queue was full.
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private boolean putUninterruptibly(LogRecord record) {
+        boolean isInterrupted = false;
+        try {
+            while (true) {
+                try {
+                    queue.put(record);
+                    return true;
+                } catch (InterruptedException e) {
+                    isInterrupted = true;
+                }
+            }
+        } finally {
+            if (isInterrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Writes the queued records in batches until {@link #END_OF_RECORDS} is taken from the queue.
+     */
+    private void writeBatches() {
+        List<LogRecord> batch = new ArrayList<>(batchSize);
+        boolean isEnded = false;
+        while (!isEnded) {
+            try {
+                batch.add(queue.take());
+            } catch (InterruptedException e) {
+                continue;
+            }
+            queue.drainTo(batch, batchSize - 1);
+            isEnded = batch.remove(END_OF_RECORDS);
+            write(batch);
+            batch.clear();
+        }
+    }
+
+    private void write(List<LogRecord> batch) {
+        for (LogRecord record : batch) {
+            publishToTargets(record);
+        }
+        long dropped = droppedCount.get();
+        if (dropped > reportedDroppedCount) {
+            LogRecord droppedRecord = new LogRecord(Level.WARNING, "Dropped " + (dropped - reportedDroppedCount)
+                    + " log records as the log queue was full");
+            droppedRecord.setSourceClassName(AsyncLogHandler.class.getName());
+            droppedRecord.setSourceMethodName("write");
+            publishToTargets(droppedRecord);
+            reportedDroppedCount = dropped;
+        }
+        targets.forEach(Handler::flush);
+        finishRecords(batch.size());
+    }
+
+    private void publishToTargets(LogRecord record) {
+        for (Handler target : targets) {
+            try {
+                target.publish(record);
+            } catch (RuntimeException e) {
+                reportError("Failed to write a log record", e, ErrorManager.WRITE_FAILURE);
+            }
+        }
+    }
+
+    private synchronized void finishRecords(int count) {
+        pendingCount -= count;
+        if (pendingCount <= 0) {
+            notifyAll();
+        }
+    }
+}
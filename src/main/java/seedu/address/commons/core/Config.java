@@ -16,6 +16,10 @@ public class Config {
     private String appTitle = "Something Daily";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private int eventSampleInterval = 100;
+    private boolean commandMetricsEnabled = false;
+    private Path metricsFilePath = Paths.get("metrics.txt");
+    private long metricsDumpIntervalSeconds = 60;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +45,48 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns how many events are posted for each one logged at {@code INFO} level.
+     */
+    public int getEventSampleInterval() {
+        return eventSampleInterval;
+    }
+
+    public void setEventSampleInterval(int eventSampleInterval) {
+        this.eventSampleInterval = eventSampleInterval;
+    }
+
+    /**
+     * Returns true if the time spent running each command is recorded.
+     */
+    public boolean isCommandMetricsEnabled() {
+        return commandMetricsEnabled;
+    }
+
+    public void setCommandMetricsEnabled(boolean commandMetricsEnabled) {
+        this.commandMetricsEnabled = commandMetricsEnabled;
+    }
+
+    public Path getMetricsFilePath() {
+        return metricsFilePath;
+    }
+
+    public void setMetricsFilePath(Path metricsFilePath) {
+        this.metricsFilePath = metricsFilePath;
+    }
+
+    /**
+     * Returns how often the command metrics are written to the metrics file.
+     * A value that is not positive means they are never written to it.
+     */
+    public long getMetricsDumpIntervalSeconds() {
+        return metricsDumpIntervalSeconds;
+    }
+
+    public void setMetricsDumpIntervalSeconds(long metricsDumpIntervalSeconds) {
+        this.metricsDumpIntervalSeconds = metricsDumpIntervalSeconds;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +100,17 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && eventSampleInterval == o.eventSampleInterval
+                && commandMetricsEnabled == o.commandMetricsEnabled
+                && Objects.equals(metricsFilePath, o.metricsFilePath)
+                && metricsDumpIntervalSeconds == o.metricsDumpIntervalSeconds;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, eventSampleInterval, commandMetricsEnabled,
+                metricsFilePath, metricsDumpIntervalSeconds);
     }
 
     @Override
@@ -68,6 +119,10 @@ public class Config {
         sb.append("App title : " + appTitle);
         sb.append("\nCurrent log level : " + logLevel);
         sb.append("\nPreference file Location : " + userPrefsFilePath);
+        sb.append("\nEvent sample interval : " + eventSampleInterval);
+        sb.append("\nCommand metrics enabled : " + commandMetricsEnabled);
+        sb.append("\nMetrics file Location : " + metricsFilePath);
+        sb.append("\nMetrics dump interval in seconds : " + metricsDumpIntervalSeconds);
         return sb.toString();
     }
 
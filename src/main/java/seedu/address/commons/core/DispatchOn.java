@@ -0,0 +1,21 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the thread on which the {@link EventsCenter} runs the event handlers of the annotated class when it
+ * dispatches events asynchronously. The handlers of a class without this annotation run on
+ * {@link DispatchThread#POSTER}. Subclasses inherit the annotation of their superclass.
+ */
+@Documented
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DispatchOn {
+    DispatchThread value();
+}
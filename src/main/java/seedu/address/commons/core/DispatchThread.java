@@ -0,0 +1,16 @@
+package seedu.address.commons.core;
+
+/**
+ * The threads on which the {@link EventsCenter} can run event handlers when it dispatches events asynchronously.
+ * @see DispatchOn
+ */
+public enum DispatchThread {
+    /** The thread that posts the event, before {@code post} returns. */
+    POSTER,
+    /** The JavaFX Application Thread, for handlers that update the UI. */
+    FX,
+    /** A single background thread, for handlers that do I/O. Events are handled in the order they were posted. */
+    IO,
+    /** A pool of background threads, for handlers that compute. Events may be handled concurrently. */
+    COMPUTE
+}
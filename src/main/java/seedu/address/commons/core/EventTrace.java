@@ -0,0 +1,91 @@
+package seedu.address.commons.core;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.commons.events.BaseEvent;
+
+/**
+ * Keeps the most recent events posted to the {@link EventsCenter} in a fixed-size ring buffer, to be dumped when
+ * something goes wrong.
+ * Recording an event only fills in a slot of the buffer. Events are formatted when they are dumped, or when they
+ * are logged: every event at {@code FINE} level, or one in every {@code sampleInterval} events at {@code INFO}
+ * level.
+ */
+class EventTrace {
+
+    static final int DEFAULT_CAPACITY = 256;
+    static final int DEFAULT_SAMPLE_INTERVAL = 100;
+
+    private static final DateTimeFormatter TIME_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss.SSS").withZone(ZoneId.systemDefault());
+
+    private final Logger logger;
+    private final BaseEvent[] events;
+    private final long[] postedAtMillis;
+    private final String[] threadNames;
+    private long recordedCount;
+    private volatile int sampleInterval = DEFAULT_SAMPLE_INTERVAL;
+
+    EventTrace(Logger logger, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.logger = logger;
+        events = new BaseEvent[capacity];
+        postedAtMillis = new long[capacity];
+        threadNames = new String[capacity];
+    }
+
+    /**
+     * Sets how many events are posted for each one logged at {@code INFO} level.
+     * An interval that is not positive means that no events are logged at {@code INFO} level.
+     */
+    void setSampleInterval(int sampleInterval) {
+        this.sampleInterval = sampleInterval;
+    }
+
+    /**
+     * Records that {@code event} has just been posted by the current thread.
+     */
+    void record(BaseEvent event) {
+        long sequence;
+        synchronized (this) {
+            int slot = (int) (recordedCount % events.length);
+            events[slot] = event;
+            postedAtMillis[slot] = System.currentTimeMillis();
+            threadNames[slot] = Thread.currentThread().getName();
+            sequence = ++recordedCount;
+        }
+
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine("------[Event Posted] " + describe(event));
+        } else if (sampleInterval > 0 && sequence % sampleInterval == 0 && logger.isLoggable(Level.INFO)) {
+            logger.info("------[Event Posted, 1 in " + sampleInterval + "] " + describe(event));
+        }
+    }
+
+    /**
+     * Returns the recorded events, oldest first, each described with the time and thread it was posted at.
+     * The events are described as they are now, which may differ from when they were posted.
+     */
+    synchronized List<String> getRecentEvents() {
+        int count = (int) Math.min(recordedCount, events.length);
+        List<String> recentEvents = new ArrayList<>(count);
+        for (long sequence = recordedCount - count; sequence < recordedCount; sequence++) {
+            int slot = (int) (sequence % events.length);
+            recentEvents.add(TIME_FORMAT.format(Instant.ofEpochMilli(postedAtMillis[slot]))
+                    + " [" + threadNames[slot] + "] " + describe(events[slot]));
+        }
+        return recentEvents;
+    }
+
+    private static String describe(BaseEvent event) {
+        return event.getClass().getCanonicalName() + ": " + event;
+    }
+}
@@ -1,21 +1,60 @@
 package seedu.address.commons.core;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
+import seedu.address.commons.core.MetricsCenter.CommandRun;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ * By default, every handler runs on the thread that posts the event, before {@code post} returns.
+ * Posted events are kept in a ring buffer that can be dumped with {@link #dumpRecentEvents()}, and are only
+ * formatted for the log at {@code FINE} level or when sampled.
+ * Once {@link #startAsyncDispatch()} is called, each handler instead runs on the {@link DispatchThread} declared by
+ * {@link DispatchOn} on its class, and the time each event waits to be handled is recorded per event type.
+ * The time taken by the handlers of events raised while a command executes, and of the events those handlers raise,
+ * is added up and recorded in {@link MetricsCenter}.
  */
 public class EventsCenter {
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
+    /** The command whose event is being handled on this thread, while its handlers are being timed. */
+    private static final ThreadLocal<CommandRun> timedRun = new ThreadLocal<>();
+
+    /** Delivers to every handler in the order they were registered, when dispatching synchronously. */
     private final EventBus eventBus;
+    /** Delivers to the handlers of each dispatch thread, when dispatching asynchronously. */
+    private final Map<DispatchThread, EventBus> eventBusesByThread = new EnumMap<>(DispatchThread.class);
+    private final Set<DispatchThread> threadsWithHandlers = ConcurrentHashMap.newKeySet();
+    private final Map<Class<?>, DispatchLatency> dispatchLatencies = new ConcurrentHashMap<>();
+    private final EventTrace trace = new EventTrace(logger, EventTrace.DEFAULT_CAPACITY);
+
+    private volatile Map<DispatchThread, Dispatcher> dispatchers = Collections.emptyMap();
+    private final List<ExecutorService> ownedExecutors = new ArrayList<>();
 
     private EventsCenter() {
         eventBus = new EventBus();
+        for (DispatchThread thread : DispatchThread.values()) {
+            eventBusesByThread.put(thread, new EventBus(thread.name()));
+        }
     }
 
     public static EventsCenter getInstance() {
@@ -25,21 +64,321 @@ public class EventsCenter {
         return instance;
     }
 
+    /**
+     * Discards the current instance, stopping its asynchronous dispatch if it was started.
+     */
     public static void clearSubscribers() {
+        if (instance != null) {
+            instance.stopAsyncDispatch();
+        }
         instance = null;
     }
 
+    /**
+     * Registers the event handlers of {@code handler}, to be run on the thread declared by its {@link DispatchOn}.
+     */
     public void registerHandler(Object handler) {
         eventBus.register(handler);
+        DispatchThread thread = getDispatchThread(handler);
+        eventBusesByThread.get(thread).register(handler);
+        threadsWithHandlers.add(thread);
     }
 
     /**
      * Posts an event to the event bus.
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
-        logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        trace.record(event);
+        // events raised by a handler belong to the command whose event it is handling
+        CommandRun handlerRun = timedRun.get();
+        CommandRun run = handlerRun == null ? MetricsCenter.getCurrentRun() : handlerRun;
+        Map<DispatchThread, Dispatcher> currentDispatchers = dispatchers;
+        if (currentDispatchers.isEmpty()) {
+            handle(eventBus, event, run);
+            return this;
+        }
+
+        long postedAt = System.nanoTime();
+        // the other threads are handed the event first, so that events posted by handlers running on the poster
+        // reach them afterwards
+        for (Map.Entry<DispatchThread, Dispatcher> entry : currentDispatchers.entrySet()) {
+            if (threadsWithHandlers.contains(entry.getKey())) {
+                EventBus threadEventBus = eventBusesByThread.get(entry.getKey());
+                if (run != null) {
+                    run.startPart();
+                }
+                boolean isDispatched = entry.getValue().dispatch(() -> {
+                    try {
+                        deliver(threadEventBus, event, postedAt, run);
+                    } finally {
+                        if (run != null) {
+                            run.finishPart();
+                        }
+                    }
+                });
+                if (!isDispatched && run != null) {
+                    run.finishPart();
+                }
+            }
+        }
+        if (threadsWithHandlers.contains(DispatchThread.POSTER)) {
+            deliver(eventBusesByThread.get(DispatchThread.POSTER), event, postedAt, run);
+        }
         return this;
     }
 
+    /**
+     * Starts running handlers on the threads declared by their {@link DispatchOn}.
+     * The I/O thread and compute pool are daemon threads owned by this {@code EventsCenter}.
+     */
+    public synchronized void startAsyncDispatch() {
+        ExecutorService io = Executors.newSingleThreadExecutor(runnable -> newDaemonThread(runnable, "events-io"));
+        ExecutorService compute = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(),
+                runnable -> newDaemonThread(runnable, "events-compute"));
+        ownedExecutors.add(io);
+        ownedExecutors.add(compute);
+        startAsyncDispatch(Platform::runLater, io, compute);
+    }
+
+    /**
+     * Starts running handlers on the threads declared by their {@link DispatchOn}, using the given executors.
+     */
+    synchronized void startAsyncDispatch(Executor fx, Executor io, Executor compute) {
+        Map<DispatchThread, Dispatcher> asyncDispatchers = new EnumMap<>(DispatchThread.class);
+        asyncDispatchers.put(DispatchThread.FX, new Dispatcher(requireNonNull(fx)));
+        asyncDispatchers.put(DispatchThread.IO, new Dispatcher(requireNonNull(io)));
+        asyncDispatchers.put(DispatchThread.COMPUTE, new Dispatcher(requireNonNull(compute)));
+        dispatchers = asyncDispatchers;
+        logger.info("Started asynchronous event dispatch");
+    }
+
+    /**
+     * Goes back to running every handler on the thread that posts the event.
+     * Events already handed to the I/O thread and compute pool are still handled before their threads end.
+     */
+    public synchronized void stopAsyncDispatch() {
+        dispatchers = Collections.emptyMap();
+        ownedExecutors.forEach(ExecutorService::shutdown);
+        ownedExecutors.clear();
+    }
+
+    /**
+     * Waits until every event posted so far has been handled, including events posted by the handlers meanwhile,
+     * or until {@code timeout} has passed.
+     * Handlers due to run on the calling thread are not waited for, since they cannot run until the caller returns.
+     * @return true if every event was handled in time.
+     */
+    public boolean flush(long timeout, TimeUnit unit) {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        Thread caller = Thread.currentThread();
+        try {
+            boolean isIdle;
+            do {
+                isIdle = true;
+                for (Dispatcher dispatcher : dispatchers.values()) {
+                    if (dispatcher.runsOn(caller) || dispatcher.isIdle()) {
+                        continue;
+                    }
+                    isIdle = false;
+                    if (!dispatcher.awaitIdle(deadline)) {
+                        return false;
+                    }
+                }
+            } while (!isIdle);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Returns how long each type of event has waited to be handled while dispatching asynchronously, by the simple
+     * name of the event type.
+     */
+    public Map<String, DispatchLatency> getDispatchLatencies() {
+        Map<String, DispatchLatency> latencies = new TreeMap<>();
+        dispatchLatencies.forEach((eventType, latency) -> latencies.put(eventType.getSimpleName(), latency));
+        return latencies;
+    }
+
+    /**
+     * Sets how many events are posted for each one logged at {@code INFO} level. Every event is logged at
+     * {@code FINE} level. An interval that is not positive means that no events are logged at {@code INFO} level.
+     */
+    public void setTraceSampleInterval(int sampleInterval) {
+        trace.setSampleInterval(sampleInterval);
+    }
+
+    /**
+     * Returns the most recently posted events, oldest first, each described with the time and thread it was
+     * posted at.
+     */
+    public List<String> getRecentEvents() {
+        return trace.getRecentEvents();
+    }
+
+    /**
+     * Logs the most recently posted events, oldest first.
+     */
+    public void dumpRecentEvents() {
+        List<String> recentEvents = trace.getRecentEvents();
+        StringBuilder dump = new StringBuilder("Last " + recentEvents.size() + " events posted:");
+        recentEvents.forEach(recentEvent -> dump.append("\n    ").append(recentEvent));
+        logger.info(dump.toString());
+    }
+
+    /**
+     * Delivers {@code event} to the handlers on {@code threadEventBus}, recording how long it waited since
+     * {@code postedAt}.
+     */
+    private void deliver(EventBus threadEventBus, BaseEvent event, long postedAt, CommandRun run) {
+        dispatchLatencies.merge(event.getClass(), DispatchLatency.of(System.nanoTime() - postedAt),
+                DispatchLatency::plus);
+        handle(threadEventBus, event, run);
+    }
+
+    /**
+     * Delivers {@code event} to the handlers on {@code eventBus}, adding the time they take to {@code run} if the
+     * event belongs to a timed command.
+     * Handlers run while another handler on this thread is being timed are already timed as part of it.
+     */
+    private static void handle(EventBus eventBus, BaseEvent event, CommandRun run) {
+        if (run == null || timedRun.get() != null) {
+            eventBus.post(event);
+            return;
+        }
+        timedRun.set(run);
+        long startTime = System.nanoTime();
+        try {
+            eventBus.post(event);
+        } finally {
+            run.addEventsTime(System.nanoTime() - startTime);
+            timedRun.remove();
+        }
+    }
+
+    private static DispatchThread getDispatchThread(Object handler) {
+        DispatchOn dispatchOn = handler.getClass().getAnnotation(DispatchOn.class);
+        return dispatchOn == null ? DispatchThread.POSTER : dispatchOn.value();
+    }
+
+    private static Thread newDaemonThread(Runnable runnable, String name) {
+        Thread thread = new Thread(runnable, name);
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    /**
+     * Runs deliveries on an executor, keeping count of those that have not finished.
+     */
+    private static class Dispatcher {
+        private final Executor executor;
+        private final Set<Thread> threads = ConcurrentHashMap.newKeySet();
+        private int pendingCount;
+
+        Dispatcher(Executor executor) {
+            this.executor = executor;
+        }
+
+        /**
+         * Runs {@code delivery} on the executor.
+         * @return false if the executor has stopped, so {@code delivery} will not run.
+         */
+        boolean dispatch(Runnable delivery) {
+            synchronized (this) {
+                pendingCount++;
+            }
+            try {
+                executor.execute(() -> {
+                    threads.add(Thread.currentThread());
+                    try {
+                        delivery.run();
+                    } finally {
+                        finish();
+                    }
+                });
+                return true;
+            } catch (RejectedExecutionException e) {
+                finish();
+                logger.warning("Event dropped as its dispatch thread has stopped: " + e);
+                return false;
+            }
+        }
+
+        /**
+         * Returns true if the executor has run deliveries on {@code thread}.
+         */
+        boolean runsOn(Thread thread) {
+            return threads.contains(thread);
+        }
+
+        synchronized boolean isIdle() {
+            return pendingCount == 0;
+        }
+
+        /**
+         * Waits until no delivery is pending or {@code deadline} (in {@link System#nanoTime()}) has passed.
+         * @return true if no delivery is pending.
+         */
+        synchronized boolean awaitIdle(long deadline) throws InterruptedException {
+            while (pendingCount > 0) {
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                TimeUnit.NANOSECONDS.timedWait(this, remaining);
+            }
+            return true;
+        }
+
+        private synchronized void finish() {
+            pendingCount--;
+            if (pendingCount == 0) {
+                notifyAll();
+            }
+        }
+    }
+
+    /**
+     * How long events of one type have waited between being posted and being handed to their handlers.
+     */
+    public static class DispatchLatency {
+        private final long count;
+        private final long totalNanos;
+        private final long maxNanos;
+
+        DispatchLatency(long count, long totalNanos, long maxNanos) {
+            this.count = count;
+            this.totalNanos = totalNanos;
+            this.maxNanos = maxNanos;
+        }
+
+        static DispatchLatency of(long nanos) {
+            return new DispatchLatency(1, nanos, nanos);
+        }
+
+        DispatchLatency plus(DispatchLatency other) {
+            return new DispatchLatency(count + other.count, totalNanos + other.totalNanos,
+                    Math.max(maxNanos, other.maxNanos));
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public double getMeanMillis() {
+            return count == 0 ? 0 : totalNanos / 1e6 / count;
+        }
+
+        public double getMaxMillis() {
+            return maxNanos / 1e6;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%d dispatched, mean %.3f ms, max %.3f ms", count, getMeanMillis(),
+                    getMaxMillis());
+        }
+    }
 }
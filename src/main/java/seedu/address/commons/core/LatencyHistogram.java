@@ -0,0 +1,92 @@
+package seedu.address.commons.core;
+
+/**
+ * Counts durations in buckets, so that percentiles can be estimated in constant space.
+ * Durations under {@value #SUB_BUCKET_COUNT} microseconds get a bucket per microsecond. Longer durations share a
+ * bucket with those in the same eighth of the same power of two of microseconds, so that a percentile is never
+ * overestimated by more than an eighth.
+ */
+class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    /** Enough buckets for durations of up to 2^40 microseconds, which is 12 days. */
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (40 - SUB_BUCKET_BITS + 1);
+
+    private final long[] bucketCounts = new long[BUCKET_COUNT];
+    private long count;
+    private long totalNanos;
+    private long maxNanos;
+
+    /**
+     * Adds a duration of {@code nanos} nanoseconds.
+     */
+    synchronized void record(long nanos) {
+        long duration = Math.max(0, nanos);
+        bucketCounts[bucketOf(duration)]++;
+        count++;
+        totalNanos += duration;
+        maxNanos = Math.max(maxNanos, duration);
+    }
+
+    synchronized long getCount() {
+        return count;
+    }
+
+    synchronized double getMeanMillis() {
+        return count == 0 ? 0 : totalNanos / 1e6 / count;
+    }
+
+    synchronized double getMaxMillis() {
+        return maxNanos / 1e6;
+    }
+
+    /**
+     * Returns an upper bound of the duration that {@code percent} percent of the durations do not exceed, which is
+     * the upper end of the bucket holding that duration, but never more than the longest duration.
+     */
+    synchronized double getPercentileMillis(double percent) {
+        if (count == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(count * percent / 100));
+        long seen = 0;
+        int bucket = 0;
+        while (bucket < BUCKET_COUNT - 1) {
+            seen += bucketCounts[bucket];
+            if (seen >= rank) {
+                break;
+            }
+            bucket++;
+        }
+        return Math.min(maxNanos, upperBoundNanos(bucket)) / 1e6;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return String.format("%6d  mean %8.3f  p50 %8.3f  p95 %8.3f  max %8.3f", count, getMeanMillis(),
+                getPercentileMillis(50), getPercentileMillis(95), getMaxMillis());
+    }
+
+    private static int bucketOf(long nanos) {
+        long micros = nanos / 1000;
+        if (micros < SUB_BUCKET_COUNT) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        int subBucket = (int) (micros >>> shift) - SUB_BUCKET_COUNT;
+        return Math.min(BUCKET_COUNT - 1, SUB_BUCKET_COUNT * (shift + 1) + subBucket);
+    }
+
+    private static long upperBoundNanos(int bucket) {
+        if (bucket == BUCKET_COUNT - 1) {
+            return Long.MAX_VALUE;
+        }
+        if (bucket < SUB_BUCKET_COUNT) {
+            return (bucket + 1) * 1000L;
+        }
+        int shift = bucket / SUB_BUCKET_COUNT - 1;
+        int subBucket = bucket % SUB_BUCKET_COUNT;
+        return ((long) (SUB_BUCKET_COUNT + subBucket + 1) << shift) * 1000;
+    }
+}
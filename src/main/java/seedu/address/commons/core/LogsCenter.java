@@ -4,7 +4,9 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.logging.ConsoleHandler;
 import java.util.logging.FileHandler;
+import java.util.logging.Handler;
 import java.util.logging.Level;
+import java.util.logging.LogRecord;
 import java.util.logging.Logger;
 import java.util.logging.SimpleFormatter;
 
@@ -16,24 +18,31 @@ import seedu.address.commons.events.BaseEvent;
  * These loggers have been configured to output messages to the console and a {@code .log} file by default,
  *   at the {@code INFO} level. A new {@code .log} file with a new numbering will be created after the log
  *   file reaches 5MB big, up to a maximum of 5 files.<br>
+ * Messages are written on a background thread by an {@link AsyncLogHandler}, so that logging does not wait for the
+ *   console or the disk. If messages are logged faster than they can be written, messages below {@code WARNING}
+ *   level are dropped.<br>
  */
 public class LogsCenter {
     private static final int MAX_FILE_COUNT = 5;
     private static final int MAX_FILE_SIZE_IN_BYTES = (int) (Math.pow(2, 20) * 5); // 5MB
     private static final String LOG_FILE = "addressbook.log";
+    private static final int LOG_QUEUE_CAPACITY = 4096;
+    private static final int LOG_BATCH_SIZE = 256;
     private static Level currentLogLevel = Level.INFO;
     private static final Logger logger = LogsCenter.getLogger(LogsCenter.class);
-    private static FileHandler fileHandler;
-    private static ConsoleHandler consoleHandler;
+    private static AsyncLogHandler asyncHandler;
 
     /**
      * Initializes with a custom log level (specified in the {@code config} object)
-     * Loggers obtained *AFTER* this initialization will have their logging level changed<br>
-     * Logging levels for existing loggers will only be updated if the logger with the same name
-     * is requested again from the LogsCenter.
+     * The level applies to all loggers obtained from the LogsCenter, including existing ones.
      */
     public static void init(Config config) {
         currentLogLevel = config.getLogLevel();
+        // loggers without a level of their own, which are all loggers from this class, take the root logger's level
+        Logger.getLogger("").setLevel(currentLogLevel);
+        if (asyncHandler != null) {
+            asyncHandler.setLevel(currentLogLevel);
+        }
         logger.info("currentLogLevel: " + currentLogLevel);
     }
 
@@ -45,8 +54,7 @@ public class LogsCenter {
         logger.setUseParentHandlers(false);
 
         removeHandlers(logger);
-        addConsoleHandler(logger);
-        addFileHandler(logger);
+        addAsyncHandler(logger);
 
         return Logger.getLogger(name);
     }
@@ -62,14 +70,30 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code consoleHandler} to the {@code logger}. <br>
-     * Creates the {@code consoleHandler} if it is null.
+     * Writes out the messages logged so far.
      */
-    private static void addConsoleHandler(Logger logger) {
-        if (consoleHandler == null) {
-            consoleHandler = createConsoleHandler();
+    public static void flush() {
+        if (asyncHandler != null) {
+            asyncHandler.flush();
         }
-        logger.addHandler(consoleHandler);
+    }
+
+    /**
+     * Returns the number of messages dropped because they were logged faster than they could be written.
+     */
+    public static long getDroppedMessageCount() {
+        return asyncHandler == null ? 0 : asyncHandler.getDroppedCount();
+    }
+
+    /**
+     * Adds the {@code asyncHandler} to the {@code logger}. <br>
+     * Creates the {@code asyncHandler}, writing to the console and the log file, if it is null.
+     */
+    private static void addAsyncHandler(Logger logger) {
+        if (asyncHandler == null) {
+            asyncHandler = createAsyncHandler();
+        }
+        logger.addHandler(asyncHandler);
     }
 
     /**
@@ -81,18 +105,20 @@ public class LogsCenter {
     }
 
     /**
-     * Adds the {@code fileHandler} to the {@code logger}. <br>
-     * Creates {@code fileHandler} if it is null.
+     * Creates an {@code AsyncLogHandler} that writes to the console and, if it can be opened, the log file.
      */
-    private static void addFileHandler(Logger logger) {
+    private static AsyncLogHandler createAsyncHandler() {
+        Handler consoleHandler = new ConsoleHandler();
+        consoleHandler.setLevel(Level.ALL);
+        AsyncLogHandler handler;
         try {
-            if (fileHandler == null) {
-                fileHandler = createFileHandler();
-            }
-            logger.addHandler(fileHandler);
+            handler = new AsyncLogHandler(LOG_QUEUE_CAPACITY, LOG_BATCH_SIZE, consoleHandler, createFileHandler());
         } catch (IOException e) {
-            logger.warning("Error adding file handler for logger.");
+            handler = new AsyncLogHandler(LOG_QUEUE_CAPACITY, LOG_BATCH_SIZE, consoleHandler);
+            handler.publish(new LogRecord(Level.WARNING, "Error adding file handler for logger."));
         }
+        handler.setLevel(currentLogLevel);
+        return handler;
     }
 
     /**
@@ -102,14 +128,25 @@ public class LogsCenter {
     private static FileHandler createFileHandler() throws IOException {
         FileHandler fileHandler = new FileHandler(LOG_FILE, MAX_FILE_SIZE_IN_BYTES, MAX_FILE_COUNT, true);
         fileHandler.setFormatter(new SimpleFormatter());
-        fileHandler.setLevel(currentLogLevel);
+        fileHandler.setLevel(Level.ALL);
         return fileHandler;
     }
 
-    private static ConsoleHandler createConsoleHandler() {
-        ConsoleHandler consoleHandler = new ConsoleHandler();
-        consoleHandler.setLevel(currentLogLevel);
-        return consoleHandler;
+    /**
+     * Logs at {@code FINE} level that {@code event} has been handled, with {@code message}.
+     * Nothing is formatted unless {@code logger} logs at that level.
+     */
+    public static void logEventHandled(Logger logger, BaseEvent event, String message) {
+        if (logger.isLoggable(Level.FINE)) {
+            logger.fine(getEventHandlingLogMessage(event, message));
+        }
+    }
+
+    /**
+     * @see #logEventHandled(Logger, BaseEvent, String)
+     */
+    public static void logEventHandled(Logger logger, BaseEvent event) {
+        logEventHandled(logger, event, "");
     }
 
     /**
@@ -0,0 +1,245 @@
+package seedu.address.commons.core;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * Records how long each command word spends in each {@link Stage} of running a command, in histograms that can be
+ * reported with {@link #getReport()} and written to a metrics file periodically.
+ * The stages overlap: handling the events raised by a command, and saving the data it changed, are also part of
+ * executing it when they run on the thread executing the command.
+ * The time spent handling the events of a command is added up over every thread the handlers run on, and recorded
+ * once after the command and all of its events are done.
+ * While disabled, timing a stage costs one volatile read and nothing is recorded.
+ */
+public class MetricsCenter {
+
+    /** Returned by {@link #startTimer()} while disabled. */
+    public static final long NOT_TIMED = Long.MIN_VALUE;
+
+    private static final Logger logger = LogsCenter.getLogger(MetricsCenter.class);
+    private static final Map<String, Map<Stage, LatencyHistogram>> histograms = new ConcurrentHashMap<>();
+    private static volatile boolean isEnabled;
+    private static volatile CommandRun currentRun;
+    private static ScheduledExecutorService dumpWriter;
+    private static Path dumpFilePath;
+
+    /**
+     * The parts of running a command that are timed.
+     */
+    public enum Stage {
+        /** Parsing the command text into a command. */
+        PARSE,
+        /** Executing the command. */
+        EXECUTE,
+        /** Handling the events raised by the command, and the events its handlers raise in turn. */
+        EVENTS,
+        /** Saving the data changed by the command. */
+        SAVE
+    }
+
+    /**
+     * Starts or stops recording. Histograms recorded so far are kept.
+     */
+    public static void setEnabled(boolean enabled) {
+        isEnabled = enabled;
+    }
+
+    public static boolean isEnabled() {
+        return isEnabled;
+    }
+
+    /**
+     * Discards every histogram recorded so far.
+     */
+    public static void reset() {
+        histograms.clear();
+    }
+
+    /**
+     * Marks {@code commandWord} as the command being executed, so that the events it raises and the saves it causes
+     * are recorded under it. A null {@code commandWord} means the command is not timed.
+     */
+    public static void startCommand(String commandWord) {
+        currentRun = commandWord == null ? null : new CommandRun(commandWord);
+    }
+
+    /**
+     * Marks the command being executed as finished. The time its events took is recorded once the events still
+     * being handled are done.
+     */
+    public static void finishCommand() {
+        CommandRun run = currentRun;
+        currentRun = null;
+        if (run != null) {
+            run.finishPart();
+        }
+    }
+
+    /**
+     * Returns the word of the command being executed, or null if no command is being executed or recording is
+     * disabled.
+     */
+    public static String getCurrentCommand() {
+        CommandRun run = getCurrentRun();
+        return run == null ? null : run.commandWord;
+    }
+
+    /**
+     * Returns the run of the command being executed, or null if no command is being executed or recording is
+     * disabled.
+     */
+    static CommandRun getCurrentRun() {
+        return isEnabled ? currentRun : null;
+    }
+
+    /**
+     * Returns the time to pass to {@link #record(String, Stage, long)} at the end of a stage, or {@link #NOT_TIMED}
+     * while disabled.
+     */
+    public static long startTimer() {
+        return isEnabled ? System.nanoTime() : NOT_TIMED;
+    }
+
+    /**
+     * Records the time since {@code startTime} as a run of {@code stage} by {@code commandWord}.
+     * Nothing is recorded if {@code commandWord} is null or {@code startTime} is {@link #NOT_TIMED}.
+     */
+    public static void record(String commandWord, Stage stage, long startTime) {
+        if (commandWord == null || startTime == NOT_TIMED) {
+            return;
+        }
+        recordElapsed(commandWord, stage, System.nanoTime() - startTime);
+    }
+
+    private static void recordElapsed(String commandWord, Stage stage, long elapsed) {
+        histograms.computeIfAbsent(commandWord, unused -> newStageHistograms()).get(stage).record(elapsed);
+    }
+
+    /**
+     * Returns a table of the time spent in each stage by each command word, in milliseconds.
+     */
+    public static String getReport() {
+        if (!isEnabled) {
+            return "Command metrics are disabled.";
+        }
+        if (histograms.isEmpty()) {
+            return "No commands have been timed yet.";
+        }
+
+        StringBuilder report = new StringBuilder("Command latencies in ms (runs, mean, p50, p95, max):");
+        new TreeMap<>(histograms).forEach((commandWord, stageHistograms) -> {
+            report.append('\n').append(commandWord);
+            stageHistograms.forEach((stage, histogram) -> {
+                if (histogram.getCount() > 0) {
+                    report.append(String.format("\n  %-8s%s", stage.name().toLowerCase(), histogram));
+                }
+            });
+        });
+        return report.toString();
+    }
+
+    /**
+     * Writes the report to {@code filePath} every {@code intervalSeconds} on a background thread, replacing the file
+     * each time, until {@link #stopPeriodicDump()} is called.
+     */
+    public static synchronized void startPeriodicDump(Path filePath, long intervalSeconds) {
+        requireNonNull(filePath);
+        stopPeriodicDump();
+        dumpFilePath = filePath;
+        dumpWriter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "metrics-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+        dumpWriter.scheduleWithFixedDelay(() -> writeReport(filePath), intervalSeconds, intervalSeconds,
+                TimeUnit.SECONDS);
+        logger.info("Writing command metrics to " + filePath + " every " + intervalSeconds + " s");
+    }
+
+    /**
+     * Stops writing the report periodically, after writing it one last time.
+     */
+    public static synchronized void stopPeriodicDump() {
+        if (dumpWriter == null) {
+            return;
+        }
+        dumpWriter.shutdownNow();
+        writeReport(dumpFilePath);
+        dumpWriter = null;
+        dumpFilePath = null;
+    }
+
+    private static void writeReport(Path filePath) {
+        try {
+            FileUtil.createIfMissing(filePath);
+            FileUtil.writeToFile(filePath, getReport() + System.lineSeparator());
+        } catch (IOException e) {
+            logger.warning("Failed to write command metrics to " + filePath + ": " + e);
+        }
+    }
+
+    private static Map<Stage, LatencyHistogram> newStageHistograms() {
+        Map<Stage, LatencyHistogram> stageHistograms = new EnumMap<>(Stage.class);
+        for (Stage stage : Stage.values()) {
+            stageHistograms.put(stage, new LatencyHistogram());
+        }
+        return stageHistograms;
+    }
+
+    /**
+     * A run of a command, which adds up the time spent handling its events until it is finished and none of its
+     * events are waiting to be handled.
+     */
+    static final class CommandRun {
+        private final String commandWord;
+        /* The command itself, and each delivery of its events that has not finished. */
+        private final AtomicInteger unfinishedParts = new AtomicInteger(1);
+        private final AtomicLong eventsTime = new AtomicLong();
+        private volatile boolean hasEvents;
+
+        private CommandRun(String commandWord) {
+            this.commandWord = commandWord;
+        }
+
+        /**
+         * Notes a delivery of an event of this command that is yet to be made, so that the time of the events is
+         * not recorded before it is done.
+         */
+        void startPart() {
+            unfinishedParts.incrementAndGet();
+        }
+
+        /**
+         * Notes that the command, or a delivery started with {@link #startPart()}, is done, recording the time of
+         * the events if nothing else is left.
+         */
+        void finishPart() {
+            if (unfinishedParts.decrementAndGet() == 0 && hasEvents) {
+                recordElapsed(commandWord, Stage.EVENTS, eventsTime.get());
+            }
+        }
+
+        /**
+         * Adds {@code elapsed} nanoseconds spent handling events of this command.
+         */
+        void addEventsTime(long elapsed) {
+            eventsTime.addAndGet(elapsed);
+            hasEvents = true;
+        }
+    }
+}
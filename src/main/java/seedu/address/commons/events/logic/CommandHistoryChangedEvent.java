@@ -0,0 +1,18 @@
+package seedu.address.commons.events.logic;
+
+import seedu.address.commons.events.BaseEvent;
+
+/** Indicates that a command was entered and added to the command history. */
+public class CommandHistoryChangedEvent extends BaseEvent {
+
+    public final String userInput;
+
+    public CommandHistoryChangedEvent(String userInput) {
+        this.userInput = userInput;
+    }
+
+    @Override
+    public String toString() {
+        return "command entered: " + userInput;
+    }
+}
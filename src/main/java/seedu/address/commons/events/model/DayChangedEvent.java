@@ -0,0 +1,20 @@
+package seedu.address.commons.events.model;
+
+import java.time.LocalDate;
+
+import seedu.address.commons.events.BaseEvent;
+
+/** Indicates that the date has changed, so that the deadline status of tasks may have changed. */
+public class DayChangedEvent extends BaseEvent {
+
+    public final LocalDate today;
+
+    public DayChangedEvent(LocalDate today) {
+        this.today = today;
+    }
+
+    @Override
+    public String toString() {
+        return "today is " + today;
+    }
+}
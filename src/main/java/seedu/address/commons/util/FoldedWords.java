@@ -0,0 +1,34 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * The distinct words of a text in lower case, as given by {@link StringUtil#toFoldedWords(String)}, for matching
+ * keywords against. The words are worked out on first use and kept.
+ *
+ * The list of words is immutable, so a thread that sees the field set also sees the list it was set to, and it can
+ * be read without locking. At worst, threads that use the words at the same time each work them out.
+ */
+public class FoldedWords {
+
+    private final String text;
+    private List<String> words;
+
+    public FoldedWords(String text) {
+        this.text = requireNonNull(text);
+    }
+
+    /**
+     * Returns the distinct words of the text in lower case, in the order they first appear.
+     */
+    public List<String> get() {
+        List<String> foldedWords = words;
+        if (foldedWords == null) {
+            foldedWords = StringUtil.toFoldedWords(text);
+            words = foldedWords;
+        }
+        return foldedWords;
+    }
+}
@@ -28,6 +28,6 @@ public class SortComparator {
      *Compare two tasks based on their task name
      */
     public static Comparator<Task>compareName() {
-        return Comparator.comparing(Task::getNameString);
+        return Comparator.comparing(a -> a.getName().getCollationKey());
     }
 }
@@ -5,7 +5,12 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 /**
  * Helper functions for handling strings.
@@ -27,9 +32,7 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(word);
 
-        String preppedWord = word.trim();
-        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
-        checkArgument(preppedWord.split("\\s+").length == 1, "Word parameter should be a single word");
+        String preppedWord = prepWord(word);
 
         String preppedSentence = sentence;
         String[] wordsInPreppedSentence = preppedSentence.split("\\s+");
@@ -38,6 +41,126 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns {@code keywords} without leading and trailing whitespace and in lower case, as given by
+     * {@link #foldCase(String)}, to be matched against folded words by {@link #containsAnyWord(List, List)}.
+     * The list is immutable, so it can be computed once and shared.
+     * @param keywords cannot be null; each keyword cannot be null, cannot be empty, must be a single word
+     */
+    public static List<String> toFoldedKeywords(List<String> keywords) {
+        requireNonNull(keywords);
+        String[] foldedKeywords = new String[keywords.size()];
+        for (int i = 0; i < foldedKeywords.length; i++) {
+            foldedKeywords[i] = foldCase(prepWord(requireNonNull(keywords.get(i))));
+        }
+        return List.of(foldedKeywords);
+    }
+
+    /**
+     * Returns true if {@code foldedWords}, the words of a sentence as given by {@link #toFoldedWords(String)},
+     * contain any of {@code foldedKeywords}, as given by {@link #toFoldedKeywords(List)}, without splitting the
+     * sentence or folding the keywords again.
+     * Case is ignored by comparing the words in lower case, whereas {@link #containsWordIgnoreCase(String, String)}
+     * compares them with {@link String#equalsIgnoreCase(String)}. The two can give different results for a few
+     * characters, such as the capital I with a dot above (U+0130).
+     */
+    public static boolean containsAnyWord(List<String> foldedWords, List<String> foldedKeywords) {
+        for (String foldedKeyword : foldedKeywords) {
+            if (foldedWords.contains(foldedKeyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns {@code word} without leading and trailing whitespace.
+     * @throws IllegalArgumentException if {@code word} is empty or has more than one word.
+     */
+    private static String prepWord(String word) {
+        String preppedWord = word.trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+        checkArgument(splitIntoWords(preppedWord).size() == 1, "Word parameter should be a single word");
+        return preppedWord;
+    }
+
+    /**
+     * Returns {@code text} in lower case, the same in every locale, for comparing and matching text ignoring case.
+     */
+    public static String foldCase(String text) {
+        return text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Returns the distinct words of {@code sentence} in lower case, in the order they first appear, split as by
+     * {@link #splitIntoWords(String)}. The list is immutable, so it can be computed once and shared.
+     */
+    public static List<String> toFoldedWords(String sentence) {
+        List<String> words = splitIntoWords(sentence);
+        Set<String> foldedWords = new LinkedHashSet<>();
+        for (String word : words) {
+            foldedWords.add(foldCase(word));
+        }
+        return List.of(foldedWords.toArray(new String[0]));
+    }
+
+    /**
+     * Returns the words of {@code sentence}, separated by the same whitespace as {@code sentence.split("\\s+")}
+     * but without compiling or matching a regular expression. Leading whitespace does not give an empty word.
+     */
+    public static List<String> splitIntoWords(String sentence) {
+        requireNonNull(sentence);
+        List<String> words = new ArrayList<>();
+        int wordStart = -1;
+        for (int i = 0; i < sentence.length(); i++) {
+            if (isWhitespace(sentence.charAt(i))) {
+                if (wordStart >= 0) {
+                    words.add(sentence.substring(wordStart, i));
+                    wordStart = -1;
+                }
+            } else if (wordStart < 0) {
+                wordStart = i;
+            }
+        }
+        if (wordStart >= 0) {
+            words.add(sentence.substring(wordStart));
+        }
+        return words;
+    }
+
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * Returns {@code value} with its backslashes, tabs and line breaks escaped, so that it fits in one field of a line
+     * of tab-separated fields.
+     */
+    public static String escapeLine(String value) {
+        return value.replace("\\", "\\\\").replace("\t", "\\t").replace("\n", "\\n").replace("\r", "\\r");
+    }
+
+    /**
+     * Reverses {@link #escapeLine(String)}.
+     */
+    public static String unescapeLine(String value) {
+        if (value.indexOf('\\') < 0) {
+            return value;
+        }
+
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c != '\\' || i == value.length() - 1) {
+                builder.append(c);
+                continue;
+            }
+            char escaped = value.charAt(++i);
+            builder.append(escaped == 't' ? '\t' : escaped == 'n' ? '\n' : escaped == 'r' ? '\r' : escaped);
+        }
+        return builder.toString();
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -5,6 +5,10 @@ import static java.util.Objects.requireNonNull;
 import java.io.FileNotFoundException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
 import javax.xml.bind.JAXBException;
@@ -13,9 +17,17 @@ import javax.xml.bind.Unmarshaller;
 
 /**
  * Helps with reading from and writing to XML files.
+ *
+ * Creating a {@code JAXBContext} is by far the most expensive part of JAXB, so one context is created per class
+ * and kept for the lifetime of the app. Marshallers and unmarshallers are not thread-safe, so they are pooled and
+ * each one is used by only one thread at a time.
  */
 public class XmlUtil {
 
+    private static final int MAX_POOLED_PER_CLASS = 4;
+
+    private static final ConcurrentMap<Class<?>, JaxbPool> pools = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,10 +49,13 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
-
-        return ((T) um.unmarshal(file.toFile()));
+        JaxbPool pool = getPool(classToConvert);
+        Unmarshaller um = pool.borrowUnmarshaller();
+        try {
+            return ((T) um.unmarshal(file.toFile()));
+        } finally {
+            pool.unmarshallers.offer(um);
+        }
     }
 
     /**
@@ -61,11 +76,68 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
-        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        JaxbPool pool = getPool(data.getClass());
+        Marshaller m = pool.borrowMarshaller();
+        try {
+            m.marshal(data, file.toFile());
+        } finally {
+            pool.marshallers.offer(m);
+        }
+    }
+
+    /**
+     * Returns the pool for {@code clazz}, creating its {@code JAXBContext} if this is the first use of the class.
+     */
+    private static JaxbPool getPool(Class<?> clazz) throws JAXBException {
+        JaxbPool pool = pools.get(clazz);
+        if (pool == null) {
+            JaxbPool created = new JaxbPool(JAXBContext.newInstance(clazz));
+            pool = pools.putIfAbsent(clazz, created);
+            if (pool == null) {
+                pool = created;
+            }
+        }
+        return pool;
+    }
+
+    /**
+     * The {@code JAXBContext} of one class, and the idle marshallers and unmarshallers created from it.
+     */
+    private static class JaxbPool {
+        private final JAXBContext context;
+        private final Queue<Marshaller> marshallers = new BoundedQueue<>();
+        private final Queue<Unmarshaller> unmarshallers = new BoundedQueue<>();
+
+        JaxbPool(JAXBContext context) {
+            this.context = context;
+        }
+
+        /**
+         * Returns an idle marshaller, or a new one if all are in use.
+         */
+        Marshaller borrowMarshaller() throws JAXBException {
+            Marshaller m = marshallers.poll();
+            if (m == null) {
+                m = context.createMarshaller();
+                m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+            }
+            return m;
+        }
+
+        Unmarshaller borrowUnmarshaller() throws JAXBException {
+            Unmarshaller um = unmarshallers.poll();
+            return um == null ? context.createUnmarshaller() : um;
+        }
+    }
 
-        m.marshal(data, file.toFile());
+    /**
+     * A queue that silently drops elements offered once it holds {@code MAX_POOLED_PER_CLASS} of them.
+     */
+    private static class BoundedQueue<E> extends ConcurrentLinkedQueue<E> {
+        @Override
+        public boolean offer(E e) {
+            return size() < MAX_POOLED_PER_CLASS && super.offer(e);
+        }
     }
 
 }
@@ -1,37 +1,101 @@
 package seedu.address.logic;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.LinkedList;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.RandomAccess;
 
 /**
- * Stores the history of commands executed.
+ * Stores the history of commands executed, up to a maximum number of the most recent ones.
+ *
+ * The commands are kept in an array that is only ever appended to, so that a snapshot of the history can share it
+ * instead of copying it. Once the array is full, the most recent commands are moved to a new array, which leaves the
+ * arrays seen by earlier snapshots unchanged. Each command is moved at most once for every command added, and the
+ * array holds at most twice the maximum number of commands.
  */
 public class CommandHistory {
-    private LinkedList<String> userInputHistory;
+
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    private static final int INITIAL_ARRAY_LENGTH = 16;
+
+    private final int capacity;
+    /** The history is {@code entries[start]} to {@code entries[end - 1]}, oldest first. */
+    private String[] entries;
+    private int start;
+    private int end;
 
     public CommandHistory() {
-        userInputHistory = new LinkedList<>();
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Creates an empty history that keeps the {@code capacity} most recent commands.
+     */
+    public CommandHistory(int capacity) {
+        checkArgument(capacity > 0, "Capacity should be positive");
+        this.capacity = capacity;
+        entries = new String[Math.min(INITIAL_ARRAY_LENGTH, 2 * capacity)];
+    }
+
+    /**
+     * Creates a history that keeps the {@code capacity} most recent commands, starting with the most recent of
+     * {@code userInputs}, which are ordered from the oldest to the most recent.
+     */
+    public CommandHistory(int capacity, Collection<String> userInputs) {
+        this(capacity);
+        userInputs.forEach(this::add);
     }
 
     public CommandHistory(CommandHistory commandHistory) {
-        userInputHistory = new LinkedList<>(commandHistory.userInputHistory);
+        capacity = commandHistory.capacity;
+        entries = Arrays.copyOfRange(commandHistory.entries, commandHistory.start, commandHistory.entries.length);
+        end = commandHistory.end - commandHistory.start;
     }
 
     /**
-     * Appends {@code userInput} to the list of user input entered.
+     * Appends {@code userInput} to the list of user input entered, forgetting the oldest input if the history is
+     * full.
      */
     public void add(String userInput) {
         requireNonNull(userInput);
-        userInputHistory.add(userInput);
+        if (end == entries.length) {
+            moveToNewArray();
+        }
+        entries[end++] = userInput;
+        if (end - start > capacity) {
+            start++;
+        }
     }
 
     /**
-     * Returns a defensive copy of {@code userInputHistory}.
+     * Moves the history to the start of a new array with room for more commands.
+     */
+    private void moveToNewArray() {
+        int size = end - start;
+        int length = Math.min(2 * entries.length, 2 * capacity);
+        entries = Arrays.copyOfRange(entries, start, start + Math.max(length, size + 1));
+        start = 0;
+        end = size;
+    }
+
+    /**
+     * Returns the maximum number of commands that are kept.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns an unmodifiable snapshot of the user input entered, from the oldest to the most recent.
+     * The snapshot is not affected by input entered later, and is taken without copying the history.
      */
     public List<String> getHistory() {
-        return new LinkedList<>(userInputHistory);
+        return new Snapshot(entries, start, end);
     }
 
     @Override
@@ -48,11 +112,39 @@ public class CommandHistory {
 
         // state check
         CommandHistory other = (CommandHistory) obj;
-        return userInputHistory.equals(other.userInputHistory);
+        return getHistory().equals(other.getHistory());
     }
 
     @Override
     public int hashCode() {
-        return userInputHistory.hashCode();
+        return getHistory().hashCode();
+    }
+
+    /**
+     * A read-only view of part of an array of entries that are never changed.
+     */
+    private static class Snapshot extends AbstractList<String> implements RandomAccess {
+        private final String[] entries;
+        private final int start;
+        private final int end;
+
+        Snapshot(String[] entries, int start, int end) {
+            this.entries = entries;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size()) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+            }
+            return entries[start + index];
+        }
+
+        @Override
+        public int size() {
+            return end - start;
+        }
     }
 }
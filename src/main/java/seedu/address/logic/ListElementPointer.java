@@ -14,6 +14,8 @@ import java.util.NoSuchElementException;
  */
 public class ListElementPointer {
     private List<String> list;
+    /** The elements appended after {@code list}, which is not modified. */
+    private List<String> addedElements = new ArrayList<>();
     private int index;
 
     /**
@@ -21,15 +23,27 @@ public class ListElementPointer {
      * The cursor points to the last element in {@code list}.
      */
     public ListElementPointer(List<String> list) {
-        this.list = new ArrayList<>(list);
-        index = this.list.size() - 1;
+        this(new ArrayList<>(list), list.size() - 1);
+    }
+
+    private ListElementPointer(List<String> list, int index) {
+        this.list = list;
+        this.index = index;
+    }
+
+    /**
+     * Returns a {@code ListElementPointer} which is backed by {@code snapshot} itself instead of a copy of it.
+     * {@code snapshot} must never change. The cursor points to the last element in {@code snapshot}.
+     */
+    static ListElementPointer ofSnapshot(List<String> snapshot) {
+        return new ListElementPointer(snapshot, snapshot.size() - 1);
     }
 
     /**
      * Appends {@code element} to the end of the list.
      */
     public void add(String element) {
-        list.add(element);
+        addedElements.add(element);
     }
 
     /**
@@ -56,7 +70,15 @@ public class ListElementPointer {
     }
 
     private boolean isWithinBounds(int index) {
-        return index >= 0 && index < list.size();
+        return index >= 0 && index < size();
+    }
+
+    private int size() {
+        return list.size() + addedElements.size();
+    }
+
+    private String get(int index) {
+        return index < list.size() ? list.get(index) : addedElements.get(index - list.size());
     }
 
     /**
@@ -67,7 +89,7 @@ public class ListElementPointer {
         if (!hasNext()) {
             throw new NoSuchElementException();
         }
-        return list.get(++index);
+        return get(++index);
     }
 
     /**
@@ -78,7 +100,7 @@ public class ListElementPointer {
         if (!hasPrevious()) {
             throw new NoSuchElementException();
         }
-        return list.get(--index);
+        return get(--index);
     }
 
     /**
@@ -89,7 +111,7 @@ public class ListElementPointer {
         if (!hasCurrent()) {
             throw new NoSuchElementException();
         }
-        return list.get(index);
+        return get(index);
     }
 
     @Override
@@ -106,6 +128,12 @@ public class ListElementPointer {
 
         // state check
         ListElementPointer iterator = (ListElementPointer) other;
-        return list.equals(iterator.list) && index == iterator.index;
+        return getElements().equals(iterator.getElements()) && index == iterator.index;
+    }
+
+    private List<String> getElements() {
+        List<String> elements = new ArrayList<>(list);
+        elements.addAll(addedElements);
+        return elements;
     }
 }
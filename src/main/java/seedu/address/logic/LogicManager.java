@@ -5,10 +5,16 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Stage;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
+import seedu.address.logic.autocomplete.Autocompleter;
+import seedu.address.logic.autocomplete.Completion;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CliSyntax;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.expenditureinfo.Expenditure;
@@ -24,24 +30,59 @@ public class LogicManager extends ComponentManager implements Logic {
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final Autocompleter autocompleter;
 
     public LogicManager(Model model) {
+        this(model, new CommandHistory());
+    }
+
+    /**
+     * Creates a {@code LogicManager} that adds the commands entered to {@code history}, which may hold the commands
+     * entered in earlier sessions.
+     */
+    public LogicManager(Model model, CommandHistory history) {
         this.model = model;
-        history = new CommandHistory();
+        this.history = history;
         addressBookParser = new AddressBookParser();
+        autocompleter = new Autocompleter(addressBookParser.getCommandWords(), CliSyntax.ALL_PREFIXES,
+                model.getTodoList().getTaskList(), model.getExpenditureTracker().getExpenditureList());
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
         try {
+            long parseStartTime = MetricsCenter.startTimer();
             Command command = addressBookParser.parseCommand(commandText);
-            return command.execute(model, history);
+            String commandWord = parseStartTime == MetricsCenter.NOT_TIMED ? null : getCommandWord(commandText);
+            MetricsCenter.record(commandWord, Stage.PARSE, parseStartTime);
+
+            MetricsCenter.startCommand(commandWord);
+            long executeStartTime = MetricsCenter.startTimer();
+            try {
+                return command.execute(model, history);
+            } finally {
+                MetricsCenter.record(commandWord, Stage.EXECUTE, executeStartTime);
+                MetricsCenter.finishCommand();
+            }
         } finally {
             history.add(commandText);
+            raise(new CommandHistoryChangedEvent(commandText));
         }
     }
 
+    /**
+     * Returns the command word of {@code commandText}, which has been parsed successfully.
+     */
+    private static String getCommandWord(String commandText) {
+        String trimmedText = commandText.trim();
+        int wordEnd = 0;
+        while (wordEnd < trimmedText.length() && !Character.isWhitespace(trimmedText.charAt(wordEnd))) {
+            wordEnd++;
+        }
+        return trimmedText.substring(0, wordEnd);
+    }
+
     @Override
     public ObservableList<Person> getFilteredPersonList() {
         return model.getFilteredPersonList();
@@ -59,7 +100,12 @@ public class LogicManager extends ComponentManager implements Logic {
 
     @Override
     public ListElementPointer getHistorySnapshot() {
-        return new ListElementPointer(history.getHistory());
+        return ListElementPointer.ofSnapshot(history.getHistory());
+    }
+
+    @Override
+    public Completion getCompletion(String commandText, int caretPosition) {
+        return autocompleter.complete(commandText, caretPosition);
     }
 
 }
@@ -0,0 +1,149 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DESCRIPTION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MODULE;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.function.Function;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.task.Task;
+
+/**
+ * Suggests completions for the part of a command being typed: the command word at the start of the command, a prefix
+ * after it, or the value after a prefix that takes one of the module codes, categories or expenditure descriptions
+ * in the model. Those three vocabularies are kept in {@link CompletionTrie}s that are updated as the lists of tasks
+ * and expenditures change, and rank each value by the number of records that have it.
+ */
+public class Autocompleter {
+
+    public static final int MAX_SUGGESTIONS = 8;
+
+    private static final String TASK_COMMAND_START = "TDL_";
+    private static final String EXPENDITURE_COMMAND_START = "ET_";
+
+    private final CompletionTrie commandWords = new CompletionTrie();
+    private final CompletionTrie prefixes = new CompletionTrie();
+    private final List<Prefix> distinctPrefixes;
+    private final CompletionTrie modules = new CompletionTrie();
+    private final CompletionTrie categories = new CompletionTrie();
+    private final CompletionTrie descriptions = new CompletionTrie();
+
+    /**
+     * Creates an autocompleter for {@code commandWordList} and {@code prefixList} that keeps track of the modules of
+     * {@code tasks}, and the categories and descriptions of {@code expenditures}.
+     */
+    public Autocompleter(Collection<String> commandWordList, Collection<Prefix> prefixList,
+                         ObservableList<Task> tasks, ObservableList<Expenditure> expenditures) {
+        requireNonNull(tasks);
+        requireNonNull(expenditures);
+        commandWordList.forEach(commandWords::add);
+        distinctPrefixes = new ArrayList<>(new LinkedHashSet<>(prefixList));
+        distinctPrefixes.forEach(prefix -> prefixes.add(prefix.getPrefix()));
+
+        track(tasks, modules, task -> task.getModule().value);
+        track(expenditures, categories, expenditure -> expenditure.getCategory().categoryName);
+        track(expenditures, descriptions, expenditure -> expenditure.getDescription().descriptionName);
+    }
+
+    /**
+     * Returns the completions of the part of {@code commandText} that ends at {@code caretPosition}.
+     */
+    public Completion complete(String commandText, int caretPosition) {
+        requireNonNull(commandText);
+        checkArgument(caretPosition >= 0 && caretPosition <= commandText.length(), "Caret is outside the text");
+        String head = commandText.substring(0, caretPosition);
+
+        int commandWordStart = skipWhitespace(head, 0);
+        int commandWordEnd = skipNonWhitespace(head, commandWordStart);
+        if (commandWordEnd == head.length()) {
+            return new Completion(commandWordStart, caretPosition,
+                    commandWords.complete(head.substring(commandWordStart), MAX_SUGGESTIONS));
+        }
+        String commandWord = head.substring(commandWordStart, commandWordEnd);
+
+        int valueStart = -1;
+        CompletionTrie values = null;
+        for (Prefix prefix : distinctPrefixes) {
+            int prefixStart = head.lastIndexOf(" " + prefix.getPrefix());
+            if (prefixStart >= commandWordEnd && prefixStart + 1 + prefix.getPrefix().length() > valueStart) {
+                valueStart = prefixStart + 1 + prefix.getPrefix().length();
+                values = getValuesOf(commandWord, prefix);
+            }
+        }
+        // Descriptions can have spaces, but the other values end at the first space
+        if (values != null && (values == descriptions || skipNonWhitespace(head, valueStart) == head.length())) {
+            return new Completion(valueStart, caretPosition,
+                    values.complete(head.substring(valueStart), MAX_SUGGESTIONS));
+        }
+
+        int wordStart = head.length();
+        while (wordStart > commandWordEnd && !Character.isWhitespace(head.charAt(wordStart - 1))) {
+            wordStart--;
+        }
+        String word = head.substring(wordStart);
+        if (word.indexOf('/') >= 0) {
+            return Completion.none(caretPosition);
+        }
+        return new Completion(wordStart, caretPosition, prefixes.complete(word, MAX_SUGGESTIONS));
+    }
+
+    /**
+     * Returns the vocabulary of the values of {@code prefix} in commands with {@code commandWord}, or null if the
+     * values are not completed.
+     */
+    private CompletionTrie getValuesOf(String commandWord, Prefix prefix) {
+        if (commandWord.startsWith(TASK_COMMAND_START) && prefix.equals(PREFIX_MODULE)) {
+            return modules;
+        }
+        if (commandWord.startsWith(EXPENDITURE_COMMAND_START) && prefix.equals(PREFIX_CATEGORY)) {
+            return categories;
+        }
+        if (commandWord.startsWith(EXPENDITURE_COMMAND_START) && prefix.equals(PREFIX_DESCRIPTION)) {
+            return descriptions;
+        }
+        return null;
+    }
+
+    /**
+     * Adds {@code termOf} each record of {@code records} to {@code vocabulary}, now and whenever records are added,
+     * and removes it when they are removed.
+     */
+    private static <T> void track(ObservableList<T> records, CompletionTrie vocabulary, Function<T, String> termOf) {
+        records.forEach(record -> vocabulary.add(termOf.apply(record)));
+        records.addListener((ListChangeListener<T>) change -> {
+            while (change.next()) {
+                if (change.wasPermutated() || change.wasUpdated()) {
+                    continue;
+                }
+                change.getRemoved().forEach(record -> vocabulary.remove(termOf.apply(record)));
+                change.getAddedSubList().forEach(record -> vocabulary.add(termOf.apply(record)));
+            }
+        });
+    }
+
+    private static int skipWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipNonWhitespace(String text, int from) {
+        int i = from;
+        while (i < text.length() && !Character.isWhitespace(text.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
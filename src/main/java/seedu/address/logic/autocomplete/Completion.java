@@ -0,0 +1,97 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The suggestions for completing the part of a command text being typed, and where that part is in the text.
+ */
+public class Completion {
+
+    private final int start;
+    private final int end;
+    private final List<String> suggestions;
+
+    /**
+     * Creates a completion that replaces the characters of the text from {@code start} up to {@code end} with one
+     * of {@code suggestions}.
+     */
+    public Completion(int start, int end, List<String> suggestions) {
+        requireNonNull(suggestions);
+        this.start = start;
+        this.end = end;
+        this.suggestions = Collections.unmodifiableList(suggestions);
+    }
+
+    /**
+     * Returns a completion of nothing, with no suggestions, at {@code caretPosition}.
+     */
+    public static Completion none(int caretPosition) {
+        return new Completion(caretPosition, caretPosition, Collections.emptyList());
+    }
+
+    public int getStart() {
+        return start;
+    }
+
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the suggestions, best first.
+     */
+    public List<String> getSuggestions() {
+        return suggestions;
+    }
+
+    /**
+     * Returns the longest start that all of the suggestions share, ignoring case, as it is in the first suggestion.
+     * Returns an empty string if there are no suggestions.
+     */
+    public String getCommonPrefix() {
+        if (suggestions.isEmpty()) {
+            return "";
+        }
+        String first = suggestions.get(0);
+        int length = first.length();
+        for (String suggestion : suggestions) {
+            length = Math.min(length, suggestion.length());
+            for (int i = 0; i < length; i++) {
+                if (Character.toLowerCase(first.charAt(i)) != Character.toLowerCase(suggestion.charAt(i))) {
+                    length = i;
+                }
+            }
+        }
+        return first.substring(0, length);
+    }
+
+    /**
+     * Returns {@code text} with the part being completed replaced by {@code replacement}.
+     */
+    public String applyTo(String text, String replacement) {
+        return text.substring(0, start) + replacement + text.substring(end);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof Completion // instanceof handles nulls
+                && start == ((Completion) other).start
+                && end == ((Completion) other).end
+                && suggestions.equals(((Completion) other).suggestions));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, end, suggestions);
+    }
+
+    @Override
+    public String toString() {
+        return "[" + start + ", " + end + ") " + suggestions;
+    }
+}
@@ -0,0 +1,276 @@
+package seedu.address.logic.autocomplete;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * A multiset of terms that finds the terms starting with a prefix, ignoring case, ranked by how many times each term
+ * was added. If no term starts with the prefix, the terms starting with a string one edit away from the prefix are
+ * suggested instead, so that a typo does not leave the user without suggestions.
+ * Every node knows the rank of the best term under it, so the terms can be found best first by visiting the nodes in
+ * order of that rank, and the search stops once enough terms are found, however many terms start with the prefix.
+ */
+public class CompletionTrie {
+
+    /** Prefixes shorter than this are not matched approximately, as nearly every term is one edit away from them. */
+    static final int MIN_FUZZY_PREFIX_LENGTH = 3;
+
+    /**
+     * Terms added more often first, then shorter terms, then in alphabetical order ignoring case. A node to visit is
+     * ranked as the best term under it, as every term under it comes after it alphabetically.
+     */
+    private static final Comparator<Visit> RANKING = Comparator.<Visit>comparingInt(visit -> visit.count).reversed()
+            .thenComparingInt(visit -> visit.length)
+            .thenComparing((first, second) -> compareKeys(first.node, second.node))
+            .thenComparing(visit -> !visit.isTerm);
+
+    private final Node root = new Node(null, '\0');
+    private int size;
+
+    /**
+     * Adds one occurrence of {@code term}. A term that differs from an added term only in case is counted as the
+     * same term, and is suggested as it was first added.
+     */
+    public void add(String term) {
+        requireNonNull(term);
+        String key = StringUtil.foldCase(term);
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            Node parent = node;
+            node = parent.children.computeIfAbsent(c, unused -> new Node(parent, c));
+        }
+        if (node.count == 0) {
+            node.term = term;
+            size++;
+        }
+        node.count++;
+        for (Node ancestor = node; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.updateBestTerm();
+        }
+    }
+
+    /**
+     * Removes one occurrence of {@code term}, ignoring case, if it was added.
+     */
+    public void remove(String term) {
+        requireNonNull(term);
+        Node node = find(StringUtil.foldCase(term));
+        if (node == null || node.count == 0) {
+            return;
+        }
+        node.count--;
+        if (node.count == 0) {
+            node.term = null;
+            size--;
+        }
+        for (Node ancestor = node; ancestor != null; ancestor = ancestor.parent) {
+            ancestor.updateBestTerm();
+            if (ancestor != root && ancestor.count == 0 && ancestor.children.isEmpty()) {
+                ancestor.parent.children.remove(ancestor.c);
+            }
+        }
+    }
+
+    /**
+     * Returns the number of distinct terms.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the count of {@code term}, ignoring case.
+     */
+    public int count(String term) {
+        Node node = find(StringUtil.foldCase(term));
+        return node == null ? 0 : node.count;
+    }
+
+    /**
+     * Returns up to {@code limit} terms starting with {@code prefix}, ignoring case, best ranked first, or if there are
+     * none, the best ranked terms starting with a string one edit away from {@code prefix}.
+     */
+    public List<String> complete(String prefix, int limit) {
+        requireNonNull(prefix);
+        checkArgument(limit > 0, "Limit should be positive");
+        String key = StringUtil.foldCase(prefix);
+
+        Node exactMatch = find(key);
+        if (exactMatch != null && exactMatch.bestCount > 0) {
+            return getBestTerms(Collections.singletonList(exactMatch), limit);
+        }
+        if (key.length() < MIN_FUZZY_PREFIX_LENGTH) {
+            return new ArrayList<>();
+        }
+
+        List<Node> approximateMatches = new ArrayList<>();
+        int[] distances = new int[key.length() + 1];
+        for (int i = 0; i < distances.length; i++) {
+            distances[i] = i;
+        }
+        findWithinOneEdit(root, key, null, distances, approximateMatches);
+        return getBestTerms(approximateMatches, limit);
+    }
+
+    private Node find(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * Returns up to {@code limit} of the best ranked terms at and under {@code roots}, best first.
+     */
+    private static List<String> getBestTerms(Collection<Node> roots, int limit) {
+        PriorityQueue<Visit> toVisit = new PriorityQueue<>(RANKING);
+        for (Node root : roots) {
+            toVisit.add(Visit.ofBestTermUnder(root));
+        }
+
+        List<String> terms = new ArrayList<>(limit);
+        while (!toVisit.isEmpty() && terms.size() < limit) {
+            Visit visit = toVisit.poll();
+            if (visit.isTerm) {
+                terms.add(visit.node.term);
+                continue;
+            }
+            if (visit.node.count > 0) {
+                toVisit.add(Visit.ofTerm(visit.node));
+            }
+            for (Node child : visit.node.children.values()) {
+                toVisit.add(Visit.ofBestTermUnder(child));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Finds the children of {@code node}, and the nodes under them, that spell a string at most one edit away from
+     * {@code key}, counting a swap of two adjacent characters as one edit. {@code distances} and
+     * {@code parentDistances} hold the edit distance from the string spelt by {@code node} and by its parent to each
+     * prefix of {@code key}. The nodes under a node that is found are not looked at, as their terms come with it.
+     */
+    private static void findWithinOneEdit(Node node, String key, int[] parentDistances, int[] distances,
+                                          List<Node> matches) {
+        for (Node child : node.children.values()) {
+            int[] childDistances = new int[distances.length];
+            childDistances[0] = distances[0] + 1;
+            int minDistance = childDistances[0];
+            for (int i = 1; i < distances.length; i++) {
+                int substitution = distances[i - 1] + (key.charAt(i - 1) == child.c ? 0 : 1);
+                childDistances[i] = Math.min(substitution, Math.min(distances[i], childDistances[i - 1]) + 1);
+                if (parentDistances != null && i > 1 && key.charAt(i - 1) == node.c && key.charAt(i - 2) == child.c) {
+                    childDistances[i] = Math.min(childDistances[i], parentDistances[i - 2] + 1);
+                }
+                minDistance = Math.min(minDistance, childDistances[i]);
+            }
+
+            if (childDistances[key.length()] <= 1) {
+                matches.add(child);
+            } else if (minDistance <= 1) {
+                findWithinOneEdit(child, key, distances, childDistances, matches);
+            }
+        }
+    }
+
+    /**
+     * Compares the strings spelt by {@code first} and {@code second} alphabetically.
+     */
+    private static int compareKeys(Node first, Node second) {
+        Node a = first;
+        Node b = second;
+        while (a.depth > b.depth) {
+            a = a.parent;
+        }
+        while (b.depth > a.depth) {
+            b = b.parent;
+        }
+        if (a == b) {
+            // one spells the start of the other
+            return Integer.compare(first.depth, second.depth);
+        }
+        while (a.parent != b.parent) {
+            a = a.parent;
+            b = b.parent;
+        }
+        return Character.compare(a.c, b.c);
+    }
+
+    /**
+     * A node of the trie, for the string spelt by the characters on the path to it.
+     */
+    private static class Node {
+        final Node parent;
+        final char c;
+        /** The length of the string spelt by the path to this node. */
+        final int depth;
+        final Map<Character, Node> children = new HashMap<>(4);
+        /** The term that ends here as it was first added, or null if {@code count} is 0. */
+        String term;
+        int count;
+        /** The largest count of the terms at and under this node. */
+        int bestCount;
+        /** The length of the shortest term at or under this node with a count of {@code bestCount}. */
+        int bestLength = Integer.MAX_VALUE;
+
+        Node(Node parent, char c) {
+            this.parent = parent;
+            this.c = c;
+            this.depth = parent == null ? 0 : parent.depth + 1;
+        }
+
+        /**
+         * Finds the best term at and under this node again, after the count of this node or of a node under it
+         * has changed.
+         */
+        void updateBestTerm() {
+            bestCount = count;
+            bestLength = count > 0 ? depth : Integer.MAX_VALUE;
+            for (Node child : children.values()) {
+                if (child.bestCount > bestCount || (child.bestCount == bestCount && child.bestLength < bestLength)) {
+                    bestCount = child.bestCount;
+                    bestLength = child.bestLength;
+                }
+            }
+        }
+    }
+
+    /**
+     * A term to suggest, or a node to look under for terms, ranked as the best term it can give.
+     */
+    private static class Visit {
+        final Node node;
+        final boolean isTerm;
+        final int count;
+        final int length;
+
+        private Visit(Node node, boolean isTerm, int count, int length) {
+            this.node = node;
+            this.isTerm = isTerm;
+            this.count = count;
+            this.length = length;
+        }
+
+        static Visit ofTerm(Node node) {
+            return new Visit(node, true, node.count, node.depth);
+        }
+
+        static Visit ofBestTermUnder(Node node) {
+            return new Visit(node, false, node.bestCount, node.bestLength);
+        }
+    }
+}
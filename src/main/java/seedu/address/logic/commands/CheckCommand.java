@@ -4,9 +4,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 
+import java.util.List;
+
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.expenditureinfo.Date;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.task.Task;
 
 /**
  * Checks the expenditure and task record on a particular day.
@@ -36,15 +41,53 @@ public class CheckCommand extends Command {
 
     @Override
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
-        String information;
         requireNonNull(model);
-        information = model.checkRecords(theDate);
+        Date date = new Date(theDate);
+        String information = describeExpenditures(model.getExpendituresBetween(date, date))
+                + "\n\n"
+                + describeTasks(model.getTasksDueBetween(date, date));
         model.commitAddressBook();
         PopUpString pps = new PopUpString(information);
         pps.popup();
         return new CommandResult(String.format(MESSAGE_SUCCESS, theDate, information));
     }
 
+    /**
+     * Describes each of {@code expenditures}, one per line.
+     */
+    private static String describeExpenditures(List<Expenditure> expenditures) {
+        if (expenditures.isEmpty()) {
+            return "There is no expenditure record on this day.\n";
+        }
+        StringBuilder builder = new StringBuilder("Here's the expenditure record:\n");
+        for (Expenditure expenditure : expenditures) {
+            builder.append("Expenditure description: " + expenditure.getDescription().descriptionName + ", ")
+                    .append("Category: " + expenditure.getCategory().categoryName + ", ")
+                    .append("Money: " + expenditure.getMoney().addingMoney + ", ")
+                    .append("Date: " + expenditure.getDate().addingDate)
+                    .append("\n");
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Describes each of {@code tasks}, one per line.
+     */
+    private static String describeTasks(List<Task> tasks) {
+        if (tasks.isEmpty()) {
+            return "There is no task due on this day.\n";
+        }
+        StringBuilder builder = new StringBuilder("Here's all the task due on this day:\n");
+        for (Task task : tasks) {
+            builder.append("Task name: " + task.getName().fullName + ", ")
+                    .append("Module: " + task.getModule().value + ", ")
+                    .append("Date: " + task.getDate().value + ", ")
+                    .append("Priority: " + task.getPriority().value + ", ")
+                    .append("Status: " + (task.getComplete() ? "Completed" : "Uncompleted") + "\n");
+        }
+        return builder.toString();
+    }
+
     /*
     @Override
     public boolean equals(Object other) {
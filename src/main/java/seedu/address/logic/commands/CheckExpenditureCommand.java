@@ -5,8 +5,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START;
 
-import java.util.List;
-
 import org.jfree.chart.ChartFactory;
 import org.jfree.chart.ChartFrame;
 import org.jfree.chart.JFreeChart;
@@ -14,7 +12,9 @@ import org.jfree.data.general.DefaultPieDataset;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
-import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.expenditureinfo.Date;
+import seedu.address.model.expenditureinfo.ExpenditureSummary;
+import seedu.address.model.expenditureinfo.Money;
 
 
 
@@ -36,16 +36,16 @@ public class CheckExpenditureCommand extends Command {
             + PREFIX_START + "27-09-2018 "
             + PREFIX_END + "09-10-2018 ";
 
-    public static final String MESSAGE_SUCCESS = "Total amount spent in this period: %.2f";
+    public static final String MESSAGE_SUCCESS = "Total amount spent in this period: %s";
 
-    private final String date1;
-    private final String date2;
+    private final Date date1;
+    private final Date date2;
 
     /**
      * Creates an CheckExpenditureCommand
      */
 
-    public CheckExpenditureCommand(String d1, String d2) {
+    public CheckExpenditureCommand(Date d1, Date d2) {
         requireNonNull(d1);
         requireNonNull(d2);
         date1 = d1;
@@ -56,78 +56,10 @@ public class CheckExpenditureCommand extends Command {
     public CommandResult execute(Model model, CommandHistory history) {
 
         requireNonNull(model);
-        List<Expenditure> lastShownList = model.getFilteredExpenditureList();
-        Expenditure editedExpenditure;
+        ExpenditureSummary summary = model.getExpenditureSummary(date1, date2);
         DefaultPieDataset dpd = new DefaultPieDataset();
-
-        int index = 0;
-        float total = 0;
-        while (index < lastShownList.size()) {
-            editedExpenditure = lastShownList.get(index);
-
-            int year1 = Integer.parseInt(date1.substring(6));
-            int month1 = Integer.parseInt(date1.substring(3, 5));
-            int day1 = Integer.parseInt(date1.substring(0, 2));
-
-            int year2 = Integer.parseInt(date2.substring(6));
-            int month2 = Integer.parseInt(date2.substring(3, 5));
-            int day2 = Integer.parseInt(date2.substring(0, 2));
-
-
-            int year = Integer.parseInt(editedExpenditure.getDate().toString().substring(6));
-            int month = Integer.parseInt(editedExpenditure.getDate().toString().substring(3, 5));
-            int day = Integer.parseInt(editedExpenditure.getDate().toString().substring(0, 2));
-
-            if ((year1 < year) && (year2 > year)) {
-                total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                        Double.parseDouble(editedExpenditure.getMoney().toString()));
-            } else if ((year1 == year) && (year2 == year)) {
-                if ((month1 < month) && (month2 > month)) {
-                    total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                    dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                    + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                            Double.parseDouble(editedExpenditure.getMoney().toString()));
-                } else if ((month1 == month) && (day1 <= day)) {
-                    total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                    dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                    + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                            Double.parseDouble(editedExpenditure.getMoney().toString()));
-                } else if ((month2 == month) && (day2 >= day)) {
-                    total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                    dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                    + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                            Double.parseDouble(editedExpenditure.getMoney().toString()));
-                }
-            } else if ((year1 == year) && (year2 > year)) {
-                if (month1 < month) {
-                    total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                    dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                    + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                            Double.parseDouble(editedExpenditure.getMoney().toString()));
-                } else if ((month1 == month) && (day1 <= day)) {
-                    total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                    dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                    + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                            Double.parseDouble(editedExpenditure.getMoney().toString()));
-                }
-            } else if ((year1 < year) && (year2 == year)) {
-                if (month2 > month) {
-                    total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                    dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                    + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                            Double.parseDouble(editedExpenditure.getMoney().toString()));
-                } else if ((month2 == month) && (day2 >= day)) {
-                    total = total + Float.parseFloat(editedExpenditure.getMoney().toString());
-                    dpd.setValue(editedExpenditure.getDescription().toString() + ":"
-                                    + Double.parseDouble(editedExpenditure.getMoney().toString()),
-                            Double.parseDouble(editedExpenditure.getMoney().toString()));
-                }
-            }
-            index++;
-        }
-
+        summary.getTotalsByDescription().forEach((description, cents) ->
+                dpd.setValue(description + ":" + Money.formatCents(cents), cents / 100.0));
 
         //Generate the graph.
         JFreeChart chart = ChartFactory.createPieChart("My Expense During" + date1 + "to" + date2, dpd, true, true,
@@ -136,7 +68,7 @@ public class CheckExpenditureCommand extends Command {
         chartFrame.pack();
         chartFrame.setVisible(true);
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, total));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Money.formatCents(summary.getTotalCents())));
 
     }
 }
@@ -50,9 +50,9 @@ public class ExpenditureGetAdviceCommand extends Command {
         requireNonNull(model);
         double dailyExpense = money / numOfDays;
         double totalExpenditure = 0;
-        Map <String, Double> map;
+        Map <String, Double> map = new HashMap<String, Double>();
         Map <String, Integer> percentageMap = new HashMap<String, Integer>();
-        map = model.getExpenditureRecords();
+        model.getCategoryTotals().forEach((category, total) -> map.put(category, total.getTotalCents() / 100.0));
         StringBuilder x = new StringBuilder();
 
         if (!map.isEmpty()) {
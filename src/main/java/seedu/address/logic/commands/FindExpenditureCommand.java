@@ -0,0 +1,43 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.expenditureinfo.ExpenditureNameContainsKeywordsPredicate;
+
+/**
+ * Finds and lists all expenditures in the expenditure tracker whose description contains any of the argument
+ * keywords. Keyword matching is case insensitive.
+ */
+public class FindExpenditureCommand extends Command {
+
+    public static final String COMMAND_WORD = "ET_find";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all expenditures whose descriptions contain "
+            + "any of the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
+            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " lunch dinner";
+
+    private final ExpenditureNameContainsKeywordsPredicate predicate;
+
+    public FindExpenditureCommand(ExpenditureNameContainsKeywordsPredicate predicate) {
+        this.predicate = predicate;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        model.updateFilteredExpenditureListByDescription(predicate.getKeywords());
+        return new CommandResult(String.format(Messages.MESSAGE_EXPENDITURE_LISTED_OVERVIEW,
+                model.getFilteredExpenditureList().size()));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FindExpenditureCommand // instanceof handles nulls
+                && predicate.equals(((FindExpenditureCommand) other).predicate)); // state check
+    }
+}
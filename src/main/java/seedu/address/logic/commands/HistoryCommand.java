@@ -2,8 +2,8 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
-import java.util.Collections;
 import java.util.List;
+import java.util.StringJoiner;
 
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.Model;
@@ -27,8 +27,11 @@ public class HistoryCommand extends Command {
             return new CommandResult(MESSAGE_NO_HISTORY);
         }
 
-        Collections.reverse(previousCommands);
-        return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
+        StringJoiner mostRecentFirst = new StringJoiner("\n");
+        for (int i = previousCommands.size() - 1; i >= 0; i--) {
+            mostRecentFirst.add(previousCommands.get(i));
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, mostRecentFirst));
     }
 
 }
@@ -0,0 +1,21 @@
+package seedu.address.logic.commands;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+
+/**
+ * Shows how long each command has taken to parse, execute, handle its events and save its data.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Shows how long each command has taken to run.\n"
+            + "Example: " + COMMAND_WORD;
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        return new CommandResult(MetricsCenter.getReport());
+    }
+}
@@ -1,10 +1,15 @@
 package seedu.address.logic.parser;
 
+import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 import seedu.address.logic.commands.AddExpenditureCommand;
 import seedu.address.logic.commands.AddTaskCommand;
@@ -18,9 +23,12 @@ import seedu.address.logic.commands.EditExpenditureCommand;
 import seedu.address.logic.commands.EditTaskCommand;
 import seedu.address.logic.commands.ExitCommand;
 import seedu.address.logic.commands.ExpenditureGetAdviceCommand;
+import seedu.address.logic.commands.FindExpenditureCommand;
+import seedu.address.logic.commands.FindTaskCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.SortTaskCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UncompleteTaskCommand;
 import seedu.address.logic.commands.ViewExpenditureCommand;
 import seedu.address.logic.commands.ViewTaskCommand;
@@ -29,13 +37,65 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Parses user input.
+ * The arguments of each command are parsed by the {@code Parser} registered for its command word. The parsers are
+ * shared by every command parsed, so they must not keep any state between calls.
  */
 public class AddressBookParser {
 
+    /** The parsers of the arguments of the commands, by command word and by alias. */
+    private final Map<String, Parser<?>> parsers = new HashMap<>();
+    private final List<String> commandWords = new ArrayList<>();
+
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser that recognises the commands of the app.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public AddressBookParser() {
+        register(new AddTaskCommandParser(), AddTaskCommand.COMMAND_WORD);
+        register(new AddExpenditureCommandParser(), AddExpenditureCommand.COMMAND_WORD);
+        register(new EditTaskCommandParser(), EditTaskCommand.COMMAND_WORD);
+        register(new EditExpenditureCommandParser(), EditExpenditureCommand.COMMAND_WORD);
+        register(new DeleteExpenditureCommandParser(), DeleteExpenditureCommand.COMMAND_WORD);
+        register(new DeleteTaskCommandParser(), DeleteTaskCommand.COMMAND_WORD);
+        register(new CompleteTaskCommandParser(), CompleteTaskCommand.COMMAND_WORD);
+        register(new UncompleteTaskCommandParser(), UncompleteTaskCommand.COMMAND_WORD);
+        register(new ExpenditureGetAdviceCommandParser(), ExpenditureGetAdviceCommand.COMMAND_WORD);
+        register(new CheckCommandParser(), CheckCommand.COMMAND_WORD);
+        register(new CheckExpenditureCommandParser(), CheckExpenditureCommand.COMMAND_WORD);
+        register(new ViewExpenditureCommandParser(), ViewExpenditureCommand.COMMAND_WORD);
+        register(new ViewTaskCommandParser(), ViewTaskCommand.COMMAND_WORD);
+        register(new SortTaskCommandParser(), SortTaskCommand.COMMAND_WORD);
+        register(new FindTaskCommandParser(), FindTaskCommand.COMMAND_WORD);
+        register(new FindExpenditureCommandParser(), FindExpenditureCommand.COMMAND_WORD);
+        register(arguments -> new HistoryCommand(), HistoryCommand.COMMAND_WORD);
+        register(arguments -> new StatsCommand(), StatsCommand.COMMAND_WORD);
+        register(arguments -> new ExitCommand(), ExitCommand.COMMAND_WORD);
+        register(arguments -> new HelpCommand(), HelpCommand.COMMAND_WORD);
+    }
+
+    /**
+     * Makes commands starting with {@code commandWord} or any of {@code aliases} be parsed by {@code parser}.
+     * @throws IllegalArgumentException if {@code commandWord} or any of {@code aliases} is already registered.
+     */
+    public void register(Parser<?> parser, String commandWord, String... aliases) {
+        requireNonNull(parser);
+        List<String> words = new ArrayList<>();
+        words.add(commandWord);
+        Collections.addAll(words, aliases);
+        for (String word : words) {
+            checkArgument(!parsers.containsKey(word), "Command word is already registered: " + word);
+        }
+
+        words.forEach(word -> parsers.put(word, parser));
+        commandWords.add(commandWord);
+    }
+
+    /**
+     * Returns the command words recognised by {@link #parseCommand(String)}, without their aliases, in the order
+     * they were registered.
+     */
+    public List<String> getCommandWords() {
+        return Collections.unmodifiableList(commandWords);
+    }
 
     /**
      * Parses user input into command for execution.
@@ -45,85 +105,20 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        if (trimmedInput.isEmpty()) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = matcher.group("arguments");
-        switch (commandWord) {
-
-        case AddTaskCommand.COMMAND_WORD:
-            return new AddTaskCommandParser().parse(arguments);
-
-        case AddExpenditureCommand.COMMAND_WORD:
-            return new AddExpenditureCommandParser().parse(arguments);
-
-        case EditTaskCommand.COMMAND_WORD:
-            return new EditTaskCommandParser().parse(arguments);
-
-        case EditExpenditureCommand.COMMAND_WORD:
-            return new EditExpenditureCommandParser().parse(arguments);
-
-        case DeleteExpenditureCommand.COMMAND_WORD:
-            return new DeleteExpenditureCommandParser().parse(arguments);
-
-        case DeleteTaskCommand.COMMAND_WORD:
-            return new DeleteTaskCommandParser().parse(arguments);
-
-        case CompleteTaskCommand.COMMAND_WORD:
-            return new CompleteTaskCommandParser().parse(arguments);
-
-        case UncompleteTaskCommand.COMMAND_WORD:
-            return new UncompleteTaskCommandParser().parse(arguments);
-
-        case ExpenditureGetAdviceCommand.COMMAND_WORD:
-            return new ExpenditureGetAdviceCommandParser().parse(arguments);
-
-        case CheckCommand.COMMAND_WORD:
-            return new CheckCommandParser().parse(arguments);
-
-        /*case ClearCommand.COMMAND_WORD:
-        case ClearCommand.COMMAND_ALIAS:
-        case ClearCommand.COMMAND_INITIAL:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-        case FindCommand.COMMAND_ALIAS:
-            return new FindCommandParser().parse(arguments);*/
-
-        case CheckExpenditureCommand.COMMAND_WORD:
-            return new CheckExpenditureCommandParser().parse(arguments);
-
-        case ViewExpenditureCommand.COMMAND_WORD:
-            return new ViewExpenditureCommandParser().parse(arguments);
-
-        case ViewTaskCommand.COMMAND_WORD:
-            return new ViewTaskCommandParser().parse(arguments);
-
-        case SortTaskCommand.COMMAND_WORD:
-            return new SortTaskCommandParser().parse(arguments);
-
-        case HistoryCommand.COMMAND_WORD:
-            //case HistoryCommand.COMMAND_ALIAS:
-            return new HistoryCommand();
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommand();
-        /*
-        case UndoCommand.COMMAND_WORD:
-            return new UndoCommand();
-
-        case RedoCommand.COMMAND_WORD:
-            return new RedoCommand();*/
-
-        default:
+        int commandWordEnd = 0;
+        while (commandWordEnd < trimmedInput.length() && !Character.isWhitespace(trimmedInput.charAt(commandWordEnd))) {
+            commandWordEnd++;
+        }
+        final Parser<?> parser = parsers.get(trimmedInput.substring(0, commandWordEnd));
+        if (parser == null) {
             throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
+        return parser.parse(trimmedInput.substring(commandWordEnd));
     }
 
 }
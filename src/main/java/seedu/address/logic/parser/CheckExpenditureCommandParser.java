@@ -32,20 +32,10 @@ public class CheckExpenditureCommandParser implements Parser<CheckExpenditureCom
         Date date1 = ParserUtil.parseDate(argMultimap.getValue(PREFIX_START).get());
         Date date2 = ParserUtil.parseDate(argMultimap.getValue(PREFIX_END).get());
 
-        String d1 = date1.addingDate;
-        String d2 = date2.addingDate;
-
-        if (Integer.parseInt(d1.substring(6)) > Integer.parseInt(d2.substring(6))) {
+        if (date1.toEpochDay() > date2.toEpochDay()) {
             throw new ParseException("date2 should larger than date 1");
-        } else if (Integer.parseInt(d1.substring(6)) == Integer.parseInt(d2.substring(6))) {
-            if (Integer.parseInt(d1.substring(3, 5)) > Integer.parseInt(d2.substring(3, 5))) {
-                throw new ParseException("date2 should larger than date 1");
-            } else if ((Integer.parseInt(d1.substring(3, 5)) == Integer.parseInt(d2.substring(3, 5)))
-                    && (Integer.parseInt(d1.substring(0, 2)) > Integer.parseInt(d2.substring(0, 2)))) {
-                throw new ParseException("date2 should larger than date 1");
-            }
         }
-        return new CheckExpenditureCommand(d1, d2);
+        return new CheckExpenditureCommand(date1, date2);
     }
 
     /**
@@ -1,5 +1,7 @@
 package seedu.address.logic.parser;
 
+import java.util.List;
+
 /**
  * Contains Command Line Interface (CLI) syntax definitions common to multiple commands
  */
@@ -24,4 +26,9 @@ public class CliSyntax {
     public static final Prefix PREFIX_END = new Prefix("end/");
     public static final Prefix PREFIX_PERIOD = new Prefix("numofdays/");
 
+    /* All of the prefixes above, some of which are the same */
+    public static final List<Prefix> ALL_PREFIXES = List.of(PREFIX_TASK, PREFIX_MODULE, PREFIX_DATE, PREFIX_PRIORITY,
+            PREFIX_NAME, PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_DESCRIPTION, PREFIX_MONEY,
+            PREFIX_CATEGORY, PREFIX_START, PREFIX_END, PREFIX_PERIOD);
+
 }
@@ -0,0 +1,34 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+
+import seedu.address.logic.commands.FindExpenditureCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.expenditureinfo.ExpenditureNameContainsKeywordsPredicate;
+
+/**
+ * Parses input arguments and creates a new FindExpenditureCommand object
+ */
+public class FindExpenditureCommandParser implements Parser<FindExpenditureCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FindExpenditureCommand
+     * and returns a FindExpenditureCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FindExpenditureCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindExpenditureCommand.MESSAGE_USAGE));
+        }
+
+        String[] descriptionKeywords = trimmedArgs.split("\\s+");
+
+        return new FindExpenditureCommand(
+                new ExpenditureNameContainsKeywordsPredicate(Arrays.asList(descriptionKeywords)));
+    }
+
+}
@@ -7,8 +7,12 @@ import java.util.List;
 import java.util.Map;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.expenditureinfo.CategoryTotal;
+import seedu.address.model.expenditureinfo.Date;
 import seedu.address.model.expenditureinfo.Expenditure;
 import seedu.address.model.expenditureinfo.ExpenditureList;
+import seedu.address.model.expenditureinfo.ExpenditureSummary;
+import seedu.address.model.util.KeywordIndex;
 
 /**
  * Wraps all data at the Expenditure Tracker level
@@ -45,6 +49,14 @@ public class ExpenditureTracker implements ReadOnlyExpenditureTracker {
         this.expenditures.setExpenditures(expenditures);
     }
 
+    /**
+     * Replaces the {@code count} expenditures starting at {@code index} with {@code replacement}.
+     * Used to restore a previous state of this {@code ExpenditureTracker}.
+     */
+    void replaceExpenditures(int index, int count, List<Expenditure> replacement) {
+        expenditures.replaceRange(index, count, replacement);
+    }
+
     /**
      * Resets the existing data of this {@code Expenditure Tracker} with {@code newData}.
      */
@@ -74,17 +86,40 @@ public class ExpenditureTracker implements ReadOnlyExpenditureTracker {
     }
 
     /**
-     * Get the expenditure records
+     * Returns the amount spent on each category, by category name.
+     */
+    public Map<String, CategoryTotal> getCategoryTotals() {
+        return expenditures.getCategoryTotals();
+    }
+
+    /**
+     * Returns the expenditures from {@code start} to {@code end}, both inclusive, in date order.
+     */
+    public List<Expenditure> getExpendituresBetween(Date start, Date end) {
+        return expenditures.getExpendituresBetween(start, end);
+    }
+
+    /**
+     * Returns the totals of the expenditures from {@code start} to {@code end}, both inclusive.
+     */
+    public ExpenditureSummary getExpenditureSummary(Date start, Date end) {
+        return expenditures.getSummaryBetween(start, end);
+    }
+
+    /**
+     * Returns the expenditures of this {@code ExpenditureTracker} whose descriptions contain any of {@code keywords}
+     * as a whole word, ignoring case, in list order.
      */
-    public Map getExpenditureRecords() {
-        return expenditures.getExpenditureRecords();
+    public List<Expenditure> getExpendituresWithDescriptionMatchingAny(List<String> keywords) {
+        return expenditures.getExpendituresWithDescriptionMatchingAny(keywords);
     }
 
     /**
-     * Get the expenditure records
+     * Returns the expenditures found as by {@link #getExpendituresWithDescriptionMatchingAny(List)}, kept up to date
+     * with this {@code ExpenditureTracker} until they are closed.
      */
-    public String checkExpenditureRecordsOnParticularDay(String particularDay) {
-        return expenditures.checkExpenditureRecordsOnParticularDay(particularDay);
+    public KeywordIndex.Matches<Expenditure> trackExpendituresWithDescriptionMatchingAny(List<String> keywords) {
+        return expenditures.trackExpendituresWithDescriptionMatchingAny(keywords);
     }
 
     /**
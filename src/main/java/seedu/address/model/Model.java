@@ -1,10 +1,14 @@
 package seedu.address.model;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.expenditureinfo.CategoryTotal;
+import seedu.address.model.expenditureinfo.Date;
 import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.expenditureinfo.ExpenditureSummary;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
@@ -89,14 +93,26 @@ public interface Model {
     void addExpenditure(Expenditure expenditure);
 
     /**
-     * Get the expenditure records.
+     * Returns the amount spent on each category, by category name.
      */
-    Map getExpenditureRecords();
+    Map<String, CategoryTotal> getCategoryTotals();
 
     /**
-     * Check records on particular day.
+     * Returns the expenditures from {@code start} to {@code end}, both inclusive, in date order.
      */
-    String checkRecords(String date);
+    List<Expenditure> getExpendituresBetween(Date start, Date end);
+
+    /**
+     * Returns the total spent and the amount spent on each description from {@code start} to {@code end},
+     * both inclusive.
+     */
+    ExpenditureSummary getExpenditureSummary(Date start, Date end);
+
+    /**
+     * Returns the tasks due from {@code start} to {@code end}, both inclusive, in date order.
+     * Tasks are taken to be due in the current year.
+     */
+    List<Task> getTasksDueBetween(Date start, Date end);
 
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
@@ -145,12 +161,27 @@ public interface Model {
      */
     void updateFilteredTaskList(Predicate<Task> predicate);
 
+    /**
+     * Updates the filtered task list to show the tasks whose names contain any of {@code keywords} as a whole word,
+     * ignoring case. The tasks are looked up in the to-do list's index of names instead of testing every task.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredTaskListByName(List<String> keywords);
+
     /**
      * Updates the filter of the filtered expenditure list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredExpenditureList(Predicate<Expenditure> predicate);
 
+    /**
+     * Updates the filtered expenditure list to show the expenditures whose descriptions contain any of
+     * {@code keywords} as a whole word, ignoring case. The expenditures are looked up in the expenditure tracker's
+     * index of descriptions instead of testing every expenditure.
+     * @throws NullPointerException if {@code keywords} is null.
+     */
+    void updateFilteredExpenditureListByDescription(List<String> keywords);
+
     /**
      * Sort the task list based on their deadline date
      */
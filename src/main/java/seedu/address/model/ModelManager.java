@@ -3,10 +3,13 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
+import javafx.beans.property.ListProperty;
+import javafx.beans.property.SimpleListProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
@@ -16,10 +19,15 @@ import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpenditureTrackerChangedEvent;
 import seedu.address.commons.events.model.TodoListChangedEvent;
 import seedu.address.logic.UndoableCommandHistory;
+import seedu.address.model.expenditureinfo.CategoryTotal;
+import seedu.address.model.expenditureinfo.Date;
 import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.expenditureinfo.ExpenditureSummary;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.task.DeadlineStatusService;
 import seedu.address.model.task.Task;
+import seedu.address.model.util.KeywordIndex;
 
 /**
  * Represents the in-memory model of the address book data.
@@ -34,7 +42,15 @@ public class ModelManager extends ComponentManager implements Model {
     private final FilteredList<Expenditure> filteredExpenditures;
     private final FilteredList<Person> filteredPersons;
     private final FilteredList<Task> filteredTasks;
+    /** Either {@code filteredTasks} or {@code tasksFoundByName}, whichever was last updated. */
+    private final ListProperty<Task> shownTasks;
+    /** Either {@code filteredExpenditures} or {@code expendituresFoundByDescription}. */
+    private final ListProperty<Expenditure> shownExpenditures;
     private final UndoableCommandHistory undoableCommandHistory;
+    /** The tasks found by {@link #updateFilteredTaskListByName(List)}, if they are shown. */
+    private KeywordIndex.Matches<Task> tasksFoundByName;
+    /** The expenditures found by {@link #updateFilteredExpenditureListByDescription(List)}, if they are shown. */
+    private KeywordIndex.Matches<Expenditure> expendituresFoundByDescription;
 
 
     /**
@@ -48,11 +64,14 @@ public class ModelManager extends ComponentManager implements Model {
         logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
 
         versionedAddressBook = new VersionedAddressBook(addressBook);
-        versionedTodoList = new VersionedTodoList(todoList);
-        versionedExpenditureTracker = new VersionedExpenditureTracker(expenditureTracker);
+        versionedTodoList = new VersionedTodoList(todoList, userPrefs.getMaxUndoHistoryDepth());
+        versionedExpenditureTracker = new VersionedExpenditureTracker(expenditureTracker,
+                userPrefs.getMaxUndoHistoryDepth());
         filteredExpenditures = new FilteredList<>(versionedExpenditureTracker.getExpenditureList());
         filteredPersons = new FilteredList<>(versionedAddressBook.getPersonList());
         filteredTasks = new FilteredList<>(versionedTodoList.getTaskList());
+        shownExpenditures = new SimpleListProperty<>(filteredExpenditures);
+        shownTasks = new SimpleListProperty<>(filteredTasks);
         undoableCommandHistory = new UndoableCommandHistory();
     }
 
@@ -164,19 +183,27 @@ public class ModelManager extends ComponentManager implements Model {
     }
 
     @Override
-    public Map getExpenditureRecords() {
-        return versionedExpenditureTracker.getExpenditureRecords();
+    public Map<String, CategoryTotal> getCategoryTotals() {
+        return versionedExpenditureTracker.getCategoryTotals();
     }
 
     @Override
-    public String checkRecords(String date) {
-        String records;
-        StringBuilder builder = new StringBuilder();
-        builder.append(versionedExpenditureTracker.checkExpenditureRecordsOnParticularDay(date))
-                .append("\n\n")
-                .append(versionedTodoList.checkTasksRecordsOnParticularDay(date));
-        records = builder.toString();
-        return records;
+    public List<Expenditure> getExpendituresBetween(Date start, Date end) {
+        requireAllNonNull(start, end);
+        return versionedExpenditureTracker.getExpendituresBetween(start, end);
+    }
+
+    @Override
+    public ExpenditureSummary getExpenditureSummary(Date start, Date end) {
+        requireAllNonNull(start, end);
+        return versionedExpenditureTracker.getExpenditureSummary(start, end);
+    }
+
+    @Override
+    public List<Task> getTasksDueBetween(Date start, Date end) {
+        requireAllNonNull(start, end);
+        return versionedTodoList.getTasksDueBetween(start.toLocalDate(), end.toLocalDate(),
+                DeadlineStatusService.getInstance().getCurrentYear());
     }
 
     @Override
@@ -233,13 +260,30 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Task> getFilteredTaskList() {
-        return FXCollections.unmodifiableObservableList(filteredTasks);
+        return FXCollections.unmodifiableObservableList(shownTasks);
     }
 
     @Override
     public void updateFilteredTaskList(Predicate<Task> predicate) {
         requireNonNull(predicate);
         filteredTasks.setPredicate(predicate);
+        shownTasks.set(filteredTasks);
+        stopTrackingTasksFoundByName();
+    }
+
+    @Override
+    public void updateFilteredTaskListByName(List<String> keywords) {
+        requireNonNull(keywords);
+        stopTrackingTasksFoundByName();
+        tasksFoundByName = versionedTodoList.trackTasksWithNameMatchingAny(keywords);
+        shownTasks.set(tasksFoundByName.asUnmodifiableObservableList());
+    }
+
+    private void stopTrackingTasksFoundByName() {
+        if (tasksFoundByName != null) {
+            tasksFoundByName.close();
+            tasksFoundByName = null;
+        }
     }
 
     //=========== Filtered Expenditure List Accessors =============================================================
@@ -250,13 +294,31 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Expenditure> getFilteredExpenditureList() {
-        return FXCollections.unmodifiableObservableList(filteredExpenditures);
+        return FXCollections.unmodifiableObservableList(shownExpenditures);
     }
 
     @Override
     public void updateFilteredExpenditureList(Predicate<Expenditure> predicate) {
         requireNonNull(predicate);
         filteredExpenditures.setPredicate(predicate);
+        shownExpenditures.set(filteredExpenditures);
+        stopTrackingExpendituresFoundByDescription();
+    }
+
+    @Override
+    public void updateFilteredExpenditureListByDescription(List<String> keywords) {
+        requireNonNull(keywords);
+        stopTrackingExpendituresFoundByDescription();
+        expendituresFoundByDescription = versionedExpenditureTracker
+                .trackExpendituresWithDescriptionMatchingAny(keywords);
+        shownExpenditures.set(expendituresFoundByDescription.asUnmodifiableObservableList());
+    }
+
+    private void stopTrackingExpendituresFoundByDescription() {
+        if (expendituresFoundByDescription != null) {
+            expendituresFoundByDescription.close();
+            expendituresFoundByDescription = null;
+        }
     }
 
     //=========== Rank Filtered Task List ===================================================================
@@ -402,9 +464,9 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook.equals(other.versionedAddressBook)
                 && filteredPersons.equals(other.filteredPersons)
                 && versionedExpenditureTracker.equals(other.versionedExpenditureTracker)
-                && filteredExpenditures.equals(other.filteredExpenditures)
+                && shownExpenditures.equals(other.shownExpenditures)
                 && versionedTodoList.equals(other.versionedTodoList)
-                && filteredTasks.equals(other.filteredTasks);
+                && shownTasks.equals(other.shownTasks);
     }
 
 }
@@ -2,11 +2,13 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.model.task.Task;
 import seedu.address.model.task.UniqueTaskList;
+import seedu.address.model.util.KeywordIndex;
 
 /**
  * Wraps all data at the to-do-list level
@@ -45,6 +47,14 @@ public class TodoList implements ReadOnlyTodoList {
         setTasks(newData.getTaskList());
     }
 
+    /**
+     * Replaces the {@code count} tasks starting at {@code index} with {@code replacement}, without checking
+     * for duplicates. Used to restore a previous state of this {@code TodoList}.
+     */
+    void replaceTasks(int index, int count, List<Task> replacement) {
+        tasks.replaceRange(index, count, replacement);
+    }
+
     //// task-level operations
 
     /**
@@ -64,10 +74,27 @@ public class TodoList implements ReadOnlyTodoList {
     }
 
     /**
-     * Get the records of tasks on a particular day
+     * Returns the tasks due from {@code start} to {@code end}, both inclusive, in date order, taking the dates of
+     * the tasks to be in {@code year}.
+     */
+    public List<Task> getTasksDueBetween(LocalDate start, LocalDate end, int year) {
+        return tasks.getTasksDueBetween(start, end, year);
+    }
+
+    /**
+     * Returns the tasks of this {@code TodoList} whose names contain any of {@code keywords} as a whole word,
+     * ignoring case, in list order.
+     */
+    public List<Task> getTasksWithNameMatchingAny(List<String> keywords) {
+        return tasks.getTasksWithNameMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the tasks found as by {@link #getTasksWithNameMatchingAny(List)}, kept up to date with this
+     * {@code TodoList} until they are closed.
      */
-    public String checkTasksRecordsOnParticularDay(String date) {
-        return tasks.checkTasksRecordsOnParticularDay(date);
+    public KeywordIndex.Matches<Task> trackTasksWithNameMatchingAny(List<String> keywords) {
+        return tasks.trackTasksWithNameMatchingAny(keywords);
     }
 
     /**
@@ -11,10 +11,28 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    /**
+     * Formats in which the expenditure tracker can be stored.
+     */
+    public enum ExpenditureTrackerFormat {
+        /** The whole expenditure tracker is rewritten as an XML file on every save. */
+        XML,
+        /** Changes are appended to a journal that is periodically compacted into a snapshot. */
+        JOURNAL
+    }
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
     private Path expenditureTrackerFilePath = Paths.get("data", "expendituretracker.xml");
+    private Path expenditureTrackerJournalFilePath = Paths.get("data", "expendituretracker.journal");
+    private ExpenditureTrackerFormat expenditureTrackerFormat = ExpenditureTrackerFormat.XML;
     private Path todoListFilePath = Paths.get("data" , "todolist.xml");
+    private Path commandHistoryFilePath = Paths.get("data", "commandhistory.txt");
+    private boolean commandHistorySaved = true;
+    private int maxCommandHistorySize = 1000;
+    private long saveQuietPeriodMillis = 300;
+    private int maxUndoHistoryDepth = 1000;
+    private boolean asyncEventDispatch = true;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -40,6 +58,14 @@ public class UserPrefs {
         return expenditureTrackerFilePath;
     }
 
+    public Path getExpenditureTrackerJournalFilePath() {
+        return expenditureTrackerJournalFilePath;
+    }
+
+    public ExpenditureTrackerFormat getExpenditureTrackerFormat() {
+        return expenditureTrackerFormat;
+    }
+
     public Path getTodoListFilePath() {
         return todoListFilePath;
     }
@@ -52,10 +78,82 @@ public class UserPrefs {
         this.expenditureTrackerFilePath = expenditureTrackerFilePath;
     }
 
+    public void setExpenditureTrackerJournalFilePath(Path expenditureTrackerJournalFilePath) {
+        this.expenditureTrackerJournalFilePath = expenditureTrackerJournalFilePath;
+    }
+
+    public void setExpenditureTrackerFormat(ExpenditureTrackerFormat expenditureTrackerFormat) {
+        this.expenditureTrackerFormat = expenditureTrackerFormat;
+    }
+
     public void setTodoListFilePath(Path todoListFilePath) {
         this.todoListFilePath = todoListFilePath;
     }
 
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryFilePath;
+    }
+
+    public void setCommandHistoryFilePath(Path commandHistoryFilePath) {
+        this.commandHistoryFilePath = commandHistoryFilePath;
+    }
+
+    /**
+     * Returns true if the commands entered are saved to the command history file, to be recalled in later sessions.
+     */
+    public boolean isCommandHistorySaved() {
+        return commandHistorySaved;
+    }
+
+    public void setCommandHistorySaved(boolean commandHistorySaved) {
+        this.commandHistorySaved = commandHistorySaved;
+    }
+
+    /**
+     * Returns how many of the most recent commands entered are kept in the command history.
+     */
+    public int getMaxCommandHistorySize() {
+        return maxCommandHistorySize;
+    }
+
+    public void setMaxCommandHistorySize(int maxCommandHistorySize) {
+        this.maxCommandHistorySize = maxCommandHistorySize;
+    }
+
+    /**
+     * Returns how long a data file must stay unchanged before it is saved.
+     * A value that is not positive means every change is saved immediately.
+     */
+    public long getSaveQuietPeriodMillis() {
+        return saveQuietPeriodMillis;
+    }
+
+    public void setSaveQuietPeriodMillis(long saveQuietPeriodMillis) {
+        this.saveQuietPeriodMillis = saveQuietPeriodMillis;
+    }
+
+    /**
+     * Returns how many commits of the to-do list and of the expenditure tracker can be undone.
+     */
+    public int getMaxUndoHistoryDepth() {
+        return maxUndoHistoryDepth;
+    }
+
+    public void setMaxUndoHistoryDepth(int maxUndoHistoryDepth) {
+        this.maxUndoHistoryDepth = maxUndoHistoryDepth;
+    }
+
+    /**
+     * Returns true if event handlers run on the threads they declare, instead of on the thread raising the event.
+     */
+    public boolean isAsyncEventDispatch() {
+        return asyncEventDispatch;
+    }
+
+    public void setAsyncEventDispatch(boolean asyncEventDispatch) {
+        this.asyncEventDispatch = asyncEventDispatch;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +167,22 @@ public class UserPrefs {
 
         return Objects.equals(guiSettings, o.guiSettings)
                 && Objects.equals(addressBookFilePath, o.addressBookFilePath)
-                && Objects.equals(todoListFilePath, o.todoListFilePath);
+                && Objects.equals(todoListFilePath, o.todoListFilePath)
+                && Objects.equals(expenditureTrackerJournalFilePath, o.expenditureTrackerJournalFilePath)
+                && Objects.equals(commandHistoryFilePath, o.commandHistoryFilePath)
+                && commandHistorySaved == o.commandHistorySaved
+                && maxCommandHistorySize == o.maxCommandHistorySize
+                && expenditureTrackerFormat == o.expenditureTrackerFormat
+                && saveQuietPeriodMillis == o.saveQuietPeriodMillis
+                && maxUndoHistoryDepth == o.maxUndoHistoryDepth
+                && asyncEventDispatch == o.asyncEventDispatch;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, todoListFilePath, expenditureTrackerJournalFilePath,
+                commandHistoryFilePath, commandHistorySaved, maxCommandHistorySize, expenditureTrackerFormat,
+                saveQuietPeriodMillis, maxUndoHistoryDepth, asyncEventDispatch);
     }
 
     @Override
@@ -82,6 +190,15 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nTo-do list file location : " + todoListFilePath);
+        sb.append("\nExpenditure tracker format : " + expenditureTrackerFormat);
+        sb.append("\nExpenditure journal file location : " + expenditureTrackerJournalFilePath);
+        sb.append("\nCommand history file location : " + commandHistoryFilePath);
+        sb.append("\nCommand history saved : " + commandHistorySaved);
+        sb.append("\nMax command history size : " + maxCommandHistorySize);
+        sb.append("\nSave quiet period in ms : " + saveQuietPeriodMillis);
+        sb.append("\nMax undo history depth : " + maxUndoHistoryDepth);
+        sb.append("\nAsync event dispatch : " + asyncEventDispatch);
         return sb.toString();
     }
 
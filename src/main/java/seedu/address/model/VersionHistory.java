@@ -0,0 +1,190 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * The undo/redo history of a list, kept as the edits made since each commit instead of as copies of the whole list.
+ * Committing costs time and memory in proportion to what changed since the previous commit, and only the latest
+ * {@code maxDepth} commits can be undone.
+ */
+class VersionHistory<T> {
+
+    private final int maxDepth;
+    /** Commits that can be undone, the latest first. */
+    private final Deque<List<Edit<T>>> undoableCommits = new ArrayDeque<>();
+    /** Commits that can be redone, the earliest undone first. */
+    private final Deque<List<Edit<T>>> redoableCommits = new ArrayDeque<>();
+    private List<Edit<T>> uncommittedEdits = new ArrayList<>();
+
+    /**
+     * Creates an empty history that keeps at most {@code maxDepth} undoable commits, and at least one.
+     */
+    VersionHistory(int maxDepth) {
+        this.maxDepth = Math.max(1, maxDepth);
+    }
+
+    /**
+     * Records that the elements {@code removed}, which started at {@code index}, were replaced by {@code added}.
+     */
+    void recordReplace(int index, List<T> removed, List<T> added) {
+        uncommittedEdits.add(new Edit<>(index, new ArrayList<>(removed), new ArrayList<>(added)));
+    }
+
+    /**
+     * Records that the list changed from {@code before} to {@code after}.
+     * Only the range between their longest common prefix and suffix is kept.
+     */
+    void recordChange(List<T> before, List<T> after) {
+        int prefix = 0;
+        while (prefix < before.size() && prefix < after.size() && before.get(prefix) == after.get(prefix)) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < before.size() - prefix && suffix < after.size() - prefix
+                && before.get(before.size() - 1 - suffix) == after.get(after.size() - 1 - suffix)) {
+            suffix++;
+        }
+        if (prefix == before.size() && prefix == after.size()) {
+            return;
+        }
+        recordReplace(prefix, before.subList(prefix, before.size() - suffix),
+                after.subList(prefix, after.size() - suffix));
+    }
+
+    /**
+     * Saves the edits recorded since the previous commit as a new commit.
+     * Undone commits can no longer be redone, and the earliest commit is dropped if there are more than
+     * {@code maxDepth} of them.
+     */
+    void commit() {
+        redoableCommits.clear();
+        undoableCommits.addFirst(uncommittedEdits);
+        uncommittedEdits = new ArrayList<>();
+        if (undoableCommits.size() > maxDepth) {
+            undoableCommits.removeLast();
+        }
+    }
+
+    boolean canUndo() {
+        return !undoableCommits.isEmpty();
+    }
+
+    boolean canRedo() {
+        return !redoableCommits.isEmpty();
+    }
+
+    /**
+     * Reverts the uncommitted edits and the latest commit on {@code list}.
+     * There must be a commit to undo.
+     */
+    void undo(ListEditor<T> list) {
+        assert canUndo();
+        revertUncommittedEdits(list);
+        List<Edit<T>> commit = undoableCommits.removeFirst();
+        revert(commit, list);
+        redoableCommits.addFirst(commit);
+    }
+
+    /**
+     * Reverts the uncommitted edits and reapplies the earliest undone commit on {@code list}.
+     * There must be a commit to redo.
+     */
+    void redo(ListEditor<T> list) {
+        assert canRedo();
+        revertUncommittedEdits(list);
+        List<Edit<T>> commit = redoableCommits.removeFirst();
+        for (Edit<T> edit : commit) {
+            list.replace(edit.index, edit.removed.size(), edit.added);
+        }
+        undoableCommits.addFirst(commit);
+    }
+
+    private void revertUncommittedEdits(ListEditor<T> list) {
+        revert(uncommittedEdits, list);
+        uncommittedEdits = new ArrayList<>();
+    }
+
+    private void revert(List<Edit<T>> edits, ListEditor<T> list) {
+        List<Edit<T>> reversed = new ArrayList<>(edits);
+        Collections.reverse(reversed);
+        for (Edit<T> edit : reversed) {
+            list.replace(edit.index, edit.added.size(), edit.removed);
+        }
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof VersionHistory)) {
+            return false;
+        }
+
+        VersionHistory<?> otherHistory = (VersionHistory<?>) other;
+        return maxDepth == otherHistory.maxDepth
+                && new ArrayList<>(undoableCommits).equals(new ArrayList<>(otherHistory.undoableCommits))
+                && new ArrayList<>(redoableCommits).equals(new ArrayList<>(otherHistory.redoableCommits))
+                && uncommittedEdits.equals(otherHistory.uncommittedEdits);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxDepth, undoableCommits.size(), redoableCommits.size());
+    }
+
+    /**
+     * Applies edits to the list whose history is kept.
+     */
+    @FunctionalInterface
+    interface ListEditor<T> {
+        /**
+         * Replaces the {@code count} elements starting at {@code index} with {@code replacement}.
+         */
+        void replace(int index, int count, List<T> replacement);
+    }
+
+    /**
+     * The elements {@code removed}, starting at {@code index}, being replaced by {@code added}.
+     */
+    private static class Edit<T> {
+        private final int index;
+        private final List<T> removed;
+        private final List<T> added;
+
+        Edit(int index, List<T> removed, List<T> added) {
+            this.index = index;
+            this.removed = requireNonNull(removed);
+            this.added = requireNonNull(added);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof Edit)) {
+                return false;
+            }
+
+            Edit<?> otherEdit = (Edit<?>) other;
+            return index == otherEdit.index
+                    && removed.equals(otherEdit.removed)
+                    && added.equals(otherEdit.added);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(index, removed, added);
+        }
+    }
+}
@@ -2,36 +2,71 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import seedu.address.model.expenditureinfo.Expenditure;
+
 /**
  * {@code ExpenditureTracker} that keeps track of its own history.
+ * The history is kept as the changes made by each commit, so a commit only costs as much as what it changed.
  */
 public class VersionedExpenditureTracker extends ExpenditureTracker {
 
-    private final List<ReadOnlyExpenditureTracker> expenditureTrackerStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_MAX_HISTORY_DEPTH = 1000;
 
-    public VersionedExpenditureTracker(ReadOnlyExpenditureTracker initialState) {
-        super(initialState);
+    private final VersionHistory<Expenditure> history;
 
-        expenditureTrackerStateList = new ArrayList<>();
-        expenditureTrackerStateList.add(new ExpenditureTracker(initialState));
-        currentStatePointer = 0;
+    public VersionedExpenditureTracker(ReadOnlyExpenditureTracker initialState) {
+        this(initialState, DEFAULT_MAX_HISTORY_DEPTH);
     }
 
     /**
-     * Saves a copy of the current {@code ExpenditureTracker} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Creates a {@code VersionedExpenditureTracker} that can undo at most {@code maxHistoryDepth} commits.
      */
-    public void commit() {
-        removeStatesAfterCurrentPointer();
-        expenditureTrackerStateList.add(new ExpenditureTracker(this));
-        currentStatePointer++;
+    public VersionedExpenditureTracker(ReadOnlyExpenditureTracker initialState, int maxHistoryDepth) {
+        history = new VersionHistory<>(maxHistoryDepth);
+        super.setExpenditures(initialState.getExpenditureList());
+    }
+
+    //// operations that are recorded in the history
+
+    @Override
+    public void setExpenditures(List<Expenditure> expenditures) {
+        List<Expenditure> before = new ArrayList<>(getExpenditureList());
+        super.setExpenditures(expenditures);
+        history.recordChange(before, getExpenditureList());
+    }
+
+    @Override
+    public void addExpenditure(Expenditure e) {
+        super.addExpenditure(e);
+        history.recordReplace(getExpenditureList().size() - 1, Collections.emptyList(),
+                Collections.singletonList(e));
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        expenditureTrackerStateList.subList(currentStatePointer + 1, expenditureTrackerStateList.size()).clear();
+    @Override
+    public void updateExpenditure(Expenditure target, Expenditure editedExpenditure) {
+        int index = getExpenditureList().indexOf(target);
+        super.updateExpenditure(target, editedExpenditure);
+        history.recordReplace(index, Collections.singletonList(target), Collections.singletonList(editedExpenditure));
+    }
+
+    @Override
+    public void removeExpenditure(Expenditure key) {
+        int index = getExpenditureList().indexOf(key);
+        super.removeExpenditure(key);
+        history.recordReplace(index, Collections.singletonList(key), Collections.emptyList());
+    }
+
+    //// history operations
+
+    /**
+     * Saves the changes made since the previous commit as a new state.
+     * Undone states are removed from the history.
+     */
+    public void commit() {
+        history.commit();
     }
 
     /**
@@ -41,8 +76,7 @@ public class VersionedExpenditureTracker extends ExpenditureTracker {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(expenditureTrackerStateList.get(currentStatePointer));
+        history.undo(this::replaceExpenditures);
     }
 
     /**
@@ -52,22 +86,21 @@ public class VersionedExpenditureTracker extends ExpenditureTracker {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(expenditureTrackerStateList.get(currentStatePointer));
+        history.redo(this::replaceExpenditures);
     }
 
     /**
      * Returns true if {@code undo()} has expenditure tracker states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has expenditure tracker states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < expenditureTrackerStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -86,8 +119,7 @@ public class VersionedExpenditureTracker extends ExpenditureTracker {
 
         // state check
         return super.equals(otherVersionedExpenditureTracker)
-                && expenditureTrackerStateList.equals(otherVersionedExpenditureTracker.expenditureTrackerStateList)
-                && currentStatePointer == otherVersionedExpenditureTracker.currentStatePointer;
+                && history.equals(otherVersionedExpenditureTracker.history);
     }
 
     /**
@@ -2,36 +2,109 @@
 package seedu.address.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
+import seedu.address.model.task.Task;
+
 /**
  * {@code TodoList} that keeps track of its own history.
+ * The history is kept as the changes made by each commit, so a commit only costs as much as what it changed.
  */
 public class VersionedTodoList extends TodoList {
 
-    private final List<ReadOnlyTodoList> todoListStateList;
-    private int currentStatePointer;
+    public static final int DEFAULT_MAX_HISTORY_DEPTH = 1000;
 
-    public VersionedTodoList(ReadOnlyTodoList initialState) {
-        super(initialState);
+    private final VersionHistory<Task> history;
 
-        todoListStateList = new ArrayList<>();
-        todoListStateList.add(new TodoList(initialState));
-        currentStatePointer = 0;
+    public VersionedTodoList(ReadOnlyTodoList initialState) {
+        this(initialState, DEFAULT_MAX_HISTORY_DEPTH);
     }
 
     /**
-     * Saves a copy of the current {@code TodoList} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Creates a {@code VersionedTodoList} that can undo at most {@code maxHistoryDepth} commits.
      */
-    public void commit() {
-        removeStatesAfterCurrentPointer();
-        todoListStateList.add(new TodoList(this));
-        currentStatePointer++;
+    public VersionedTodoList(ReadOnlyTodoList initialState, int maxHistoryDepth) {
+        history = new VersionHistory<>(maxHistoryDepth);
+        super.setTasks(initialState.getTaskList());
+    }
+
+    //// operations that are recorded in the history
+
+    @Override
+    public void setTasks(List<Task> tasks) {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.setTasks(tasks);
+        recordChangeFrom(before);
+    }
+
+    @Override
+    public void addTask(Task t) {
+        super.addTask(t);
+        history.recordReplace(getTaskList().size() - 1, Collections.emptyList(), Collections.singletonList(t));
+    }
+
+    @Override
+    public void updateTask(Task target, Task editedTask) {
+        int index = getTaskList().indexOf(target);
+        super.updateTask(target, editedTask);
+        history.recordReplace(index, Collections.singletonList(target), Collections.singletonList(editedTask));
+    }
+
+    @Override
+    public void removeTask(Task key) {
+        int index = getTaskList().indexOf(key);
+        super.removeTask(key);
+        history.recordReplace(index, Collections.singletonList(key), Collections.emptyList());
+    }
+
+    @Override
+    public void sortTaskDate() {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.sortTaskDate();
+        recordChangeFrom(before);
+    }
+
+    @Override
+    public void sortTaskPriority() {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.sortTaskPriority();
+        recordChangeFrom(before);
+    }
+
+    @Override
+    public void sortTaskModule() {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.sortTaskModule();
+        recordChangeFrom(before);
+    }
+
+    @Override
+    public void reverseTasks() {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.reverseTasks();
+        recordChangeFrom(before);
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        todoListStateList.subList(currentStatePointer + 1, todoListStateList.size()).clear();
+    @Override
+    public void sortTaskDefault() {
+        List<Task> before = new ArrayList<>(getTaskList());
+        super.sortTaskDefault();
+        recordChangeFrom(before);
+    }
+
+    private void recordChangeFrom(List<Task> before) {
+        history.recordChange(before, getTaskList());
+    }
+
+    //// history operations
+
+    /**
+     * Saves the changes made since the previous commit as a new state.
+     * Undone states are removed from the history.
+     */
+    public void commit() {
+        history.commit();
     }
 
     /**
@@ -41,8 +114,7 @@ public class VersionedTodoList extends TodoList {
         if (!canUndo()) {
             throw new NoUndoableStateException();
         }
-        currentStatePointer--;
-        resetData(todoListStateList.get(currentStatePointer));
+        history.undo(this::replaceTasks);
     }
 
     /**
@@ -52,22 +124,21 @@ public class VersionedTodoList extends TodoList {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
-        currentStatePointer++;
-        resetData(todoListStateList.get(currentStatePointer));
+        history.redo(this::replaceTasks);
     }
 
     /**
      * Returns true if {@code undo()} has to-do list states to undo.
      */
     public boolean canUndo() {
-        return currentStatePointer > 0;
+        return history.canUndo();
     }
 
     /**
      * Returns true if {@code redo()} has to-do list states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < todoListStateList.size() - 1;
+        return history.canRedo();
     }
 
     @Override
@@ -86,8 +157,7 @@ public class VersionedTodoList extends TodoList {
 
         // state check
         return super.equals(otherVersionedTodoList)
-                && todoListStateList.equals(otherVersionedTodoList.todoListStateList)
-                && currentStatePointer == otherVersionedTodoList.currentStatePointer;
+                && history.equals(otherVersionedTodoList.history);
     }
 
     /**
@@ -0,0 +1,65 @@
+package seedu.address.model.expenditureinfo;
+
+import java.util.Objects;
+
+/**
+ * The amount spent on one category of the expenditure tracker, and the number of expenditures it was spent on.
+ * Guarantees: immutable
+ */
+public class CategoryTotal {
+
+    private final long totalCents;
+    private final int count;
+
+    public CategoryTotal(long totalCents, int count) {
+        this.totalCents = totalCents;
+        this.count = count;
+    }
+
+    /**
+     * Returns the total of a single expenditure of {@code money}.
+     */
+    public static CategoryTotal of(Money money) {
+        return new CategoryTotal(money.getCents(), 1);
+    }
+
+    /**
+     * Returns this total combined with {@code other}.
+     */
+    public CategoryTotal plus(CategoryTotal other) {
+        return new CategoryTotal(Math.addExact(totalCents, other.totalCents), count + other.count);
+    }
+
+    /**
+     * Returns this total without one expenditure of {@code money}.
+     */
+    public CategoryTotal minus(Money money) {
+        return new CategoryTotal(totalCents - money.getCents(), count - 1);
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CategoryTotal // instanceof handles nulls
+                && totalCents == ((CategoryTotal) other).totalCents
+                && count == ((CategoryTotal) other).count);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalCents, count);
+    }
+
+    @Override
+    public String toString() {
+        return Money.formatCents(totalCents) + " over " + count + " expenditures";
+    }
+}
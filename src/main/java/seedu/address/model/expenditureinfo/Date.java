@@ -4,9 +4,14 @@ package seedu.address.model.expenditureinfo;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.LocalDate;
+
 /**
  * Represents an expenditure's date in expenditure tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ *
+ * The date is also kept as an epoch day, parsed once on construction, so that dates can be ordered and compared
+ * as numbers.
  */
 public class Date {
 
@@ -24,11 +29,15 @@ public class Date {
     private static final int MONTH_MIN_LIMIT = 1;
 
     public final String addingDate;
+    private final long epochDay;
 
     public Date(String date) {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_DATE_CONSTRAINTS);
         addingDate = date;
+        String[] numbers = date.split("-");
+        epochDay = LocalDate.of(Integer.parseInt(numbers[2]), Integer.parseInt(numbers[1]),
+                Integer.parseInt(numbers[0])).toEpochDay();
     }
 
     /**
@@ -73,6 +82,20 @@ public class Date {
         return false;
     }
 
+    /**
+     * Returns this date as a {@code LocalDate}.
+     */
+    public LocalDate toLocalDate() {
+        return LocalDate.ofEpochDay(epochDay);
+    }
+
+    /**
+     * Returns the number of days from 01-01-1970 to this date, which orders dates chronologically.
+     */
+    public long toEpochDay() {
+        return epochDay;
+    }
+
     @Override
     public String toString() {
         return addingDate;
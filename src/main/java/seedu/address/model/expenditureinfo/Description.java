@@ -4,6 +4,10 @@ package seedu.address.model.expenditureinfo;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.FoldedWords;
+
 /**
  * Represents a Expenditure's description in the expenditure tracker.
  * Guarantees: immutable; is valid as declared in {@link #isValidDescription(String)}
@@ -20,6 +24,7 @@ public class Description {
     public static final String DESCRIPTION_VALIDATION_REGEX = "[^\\s].*";
 
     public final String descriptionName;
+    private final FoldedWords foldedWords;
 
     /**
      * Constructs a {@code Description}.
@@ -30,6 +35,7 @@ public class Description {
         requireNonNull(description);
         checkArgument(isValidDescription(description), MESSAGE_DESCRIPTION_CONSTRAINTS);
         descriptionName = description;
+        foldedWords = new FoldedWords(description);
     }
 
     /**
@@ -40,6 +46,13 @@ public class Description {
     }
 
 
+    /**
+     * Returns the distinct words of the description in lower case, for matching keywords against.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords.get();
+    }
+
     @Override
     public String toString() {
         return descriptionName;
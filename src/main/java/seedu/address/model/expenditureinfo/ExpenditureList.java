@@ -4,16 +4,20 @@ package seedu.address.model.expenditureinfo;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.expenditureinfo.exceptions.DuplicateExpenditureException;
 import seedu.address.model.expenditureinfo.exceptions.ExpenditureNotFoundException;
-
+import seedu.address.model.util.DateIndex;
+import seedu.address.model.util.KeywordIndex;
 
 /**
  * A list of expenditures.
@@ -22,26 +26,37 @@ import seedu.address.model.expenditureinfo.exceptions.ExpenditureNotFoundExcepti
  *
  * Supports a minimal set of list operations.
  *
+ * The identities of the expenditures in the list are kept in a hash index. The expenditures are grouped by date in a
+ * {@code DateIndex}, and the words of their descriptions are kept in a {@code KeywordIndex}. Checking for an
+ * expenditure with the same identity, finding the expenditures in a period and finding the expenditures by
+ * description therefore do not scan the list. The amount spent on each category is kept as a running total.
+ * The indexes are updated before the list is changed, so that listeners of the list see them up to date.
  */
 public class ExpenditureList implements Iterable<Expenditure> {
 
     private final ObservableList<Expenditure> internalList = FXCollections.observableArrayList();
+    /** The number of expenditures in {@code internalList} with each identity. */
+    private final Map<ExpenditureIdentity, Integer> identityCounts = new HashMap<>();
+    /** The amount spent on each category in {@code internalList}, by category name. */
+    private final Map<String, CategoryTotal> categoryTotals = new HashMap<>();
+    private final DateIndex<Long, Expenditure> dateIndex = new DateIndex<>(e -> e.getDate().toEpochDay());
+    private final KeywordIndex<Expenditure> descriptionIndex =
+            new KeywordIndex<>(e -> e.getDescription().getFoldedWords());
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Expenditure toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameExpenditure);
+        return identityCounts.containsKey(new ExpenditureIdentity(toCheck));
     }
 
     /**
      * Adds an expenditure to the list.
      */
-
-
     public void add(Expenditure toAdd) {
         requireNonNull(toAdd);
+        addToIndex(toAdd);
         internalList.add(toAdd);
     }
 
@@ -51,24 +66,27 @@ public class ExpenditureList implements Iterable<Expenditure> {
      */
     public void remove(Expenditure toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new ExpenditureNotFoundException();
         }
+        removeFromIndex(internalList.get(index));
+        internalList.remove(index);
     }
 
     /**
      * Replaces the contents of this list with {@code persons}.
      * {@code persons} must not contain duplicate persons.
      */
-
     public void setExpenditures(ExpenditureList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
-
     public void setExpenditures(List<Expenditure> expenditures) {
         requireAllNonNull(expenditures);
+        rebuildIndex(expenditures);
         internalList.setAll(expenditures);
     }
 
@@ -84,60 +102,76 @@ public class ExpenditureList implements Iterable<Expenditure> {
             throw new DuplicateExpenditureException();
         }
 
+        replaceInIndex(internalList.get(index), editedExpenditure);
         internalList.set(index, editedExpenditure);
     }
 
-    public Map getExpenditureRecords() {
-
-        Map <String, Double> map = new HashMap <String, Double> ();
-        int index = 0;
-        String category;
-        double money;
-        //System.out.println("Now we are in expenditureList executing getExpenditureRecords.");
-        while (index < internalList.size()) {
-            category = internalList.get(index).getCategory().categoryName;
-            money = Double.parseDouble(internalList.get(index).getMoney().addingMoney);
-            if (!map.containsKey(category)) {
-                map.put(category, 0.0);
+    /**
+     * Replaces the {@code count} expenditures starting at {@code index} with {@code replacement}.
+     */
+    public void replaceRange(int index, int count, List<Expenditure> replacement) {
+        requireAllNonNull(replacement);
+        if (count == replacement.size()) {
+            for (int i = 0; i < count; i++) {
+                replaceInIndex(internalList.get(index + i), replacement.get(i));
+                internalList.set(index + i, replacement.get(i));
             }
-            map.put(category, map.get(category) + money);
-            index++;
+            return;
         }
-        return map;
+        List<Expenditure> replaced = internalList.subList(index, index + count);
+        replaced.forEach(this::removeFromIndex);
+        replaced.clear();
+
+        List<Expenditure> expenditures = new ArrayList<>(internalList);
+        expenditures.addAll(index, replacement);
+        replacement.forEach(this::addToIndex);
+        descriptionIndex.reorder(expenditures);
+        internalList.addAll(index, replacement);
     }
 
     /**
-     * Get the expenditure records on a particular day.
+     * Returns the amount spent on each category, by category name.
+     * The totals are kept up to date as the list changes, so this does not scan the list.
      */
-    public String checkExpenditureRecordsOnParticularDay(String particularDate) {
-
-        String records;
-        String theDate;
-        int index = 0;
-        StringBuilder it = new StringBuilder();
-        StringBuilder builder = new StringBuilder();
-        boolean hasExpenditure = false;
-        while (index < internalList.size()) {
-            theDate = internalList.get(index).getDate().addingDate;
-            if (theDate.equals(particularDate)) {
-                System.out.println(theDate + "printing...");
-                it.append("Expenditure description: " + internalList.get(index).getDescription().descriptionName + ", ")
-                        .append("Category: " + internalList.get(index).getCategory().categoryName + ", ")
-                        .append("Money: " + internalList.get(index).getMoney().addingMoney + ", ")
-                        .append("Date: " + internalList.get(index).getDate().addingDate)
-                        .append("\n");
-                hasExpenditure = true;
-            }
-            index++;
-        }
-        if (hasExpenditure) {
-            builder.append("Here's the expenditure record:\n")
-                    .append(it.toString());
-        } else {
-            builder.append("There is no expenditure record on this day.\n");
-        }
-        records = builder.toString();
-        return records;
+    public Map<String, CategoryTotal> getCategoryTotals() {
+        return Collections.unmodifiableMap(new HashMap<>(categoryTotals));
+    }
+
+    /**
+     * Returns the expenditures from {@code start} to {@code end}, both inclusive, in date order.
+     */
+    public List<Expenditure> getExpendituresBetween(Date start, Date end) {
+        requireAllNonNull(start, end);
+        return dateIndex.getBetween(start.toEpochDay(), end.toEpochDay());
+    }
+
+    /**
+     * Returns the totals of the expenditures from {@code start} to {@code end}, both inclusive.
+     * Only the expenditures in the period are visited.
+     */
+    public ExpenditureSummary getSummaryBetween(Date start, Date end) {
+        requireAllNonNull(start, end);
+        ExpenditureSummary summary = new ExpenditureSummary();
+        dateIndex.forEachBetween(start.toEpochDay(), end.toEpochDay(), summary::add);
+        return summary;
+    }
+
+    /**
+     * Returns the expenditures whose descriptions contain any of {@code keywords} as a whole word, ignoring case, in
+     * list order. Only the expenditures found are visited.
+     */
+    public List<Expenditure> getExpendituresWithDescriptionMatchingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return descriptionIndex.getMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the expenditures that {@link #getExpendituresWithDescriptionMatchingAny(List)} finds for
+     * {@code keywords}, kept up to date as this list changes until they are closed.
+     */
+    public KeywordIndex.Matches<Expenditure> trackExpendituresWithDescriptionMatchingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return descriptionIndex.trackMatchingAny(keywords);
     }
 
     /**
@@ -163,4 +197,94 @@ public class ExpenditureList implements Iterable<Expenditure> {
     public int hashCode() {
         return internalList.hashCode();
     }
+
+    private void addToIndex(Expenditure expenditure) {
+        addToTotals(expenditure);
+        dateIndex.add(expenditure);
+        descriptionIndex.add(expenditure);
+    }
+
+    /**
+     * Updates the indexes for {@code target} being replaced by {@code editedExpenditure}, which takes its place in the
+     * list.
+     */
+    private void replaceInIndex(Expenditure target, Expenditure editedExpenditure) {
+        removeFromTotals(target);
+        addToTotals(editedExpenditure);
+        dateIndex.remove(target);
+        dateIndex.add(editedExpenditure);
+        descriptionIndex.set(target, editedExpenditure);
+    }
+
+    private void removeFromIndex(Expenditure expenditure) {
+        removeFromTotals(expenditure);
+        dateIndex.remove(expenditure);
+        descriptionIndex.remove(expenditure);
+    }
+
+    /**
+     * Counts {@code expenditure} in the identity counts and the category totals.
+     */
+    private void addToTotals(Expenditure expenditure) {
+        identityCounts.merge(new ExpenditureIdentity(expenditure), 1, Integer::sum);
+        categoryTotals.merge(expenditure.getCategory().categoryName, CategoryTotal.of(expenditure.getMoney()),
+                CategoryTotal::plus);
+    }
+
+    /**
+     * Takes {@code expenditure} out of the identity counts and the category totals.
+     */
+    private void removeFromTotals(Expenditure expenditure) {
+        identityCounts.computeIfPresent(new ExpenditureIdentity(expenditure),
+                (identity, count) -> count == 1 ? null : count - 1);
+        categoryTotals.computeIfPresent(expenditure.getCategory().categoryName,
+                (category, total) -> total.getCount() == 1 ? null : total.minus(expenditure.getMoney()));
+    }
+
+    private void rebuildIndex(List<Expenditure> expenditures) {
+        identityCounts.clear();
+        categoryTotals.clear();
+        dateIndex.reset(Collections.emptyList());
+        descriptionIndex.reset(Collections.emptyList());
+        expenditures.forEach(this::addToIndex);
+    }
+
+    /**
+     * The fields compared by {@link Expenditure#isSameExpenditure(Expenditure)}, as a hash key.
+     */
+    private static class ExpenditureIdentity {
+        private final Description description;
+        private final Date date;
+        private final Money money;
+        private final Category category;
+
+        ExpenditureIdentity(Expenditure expenditure) {
+            description = expenditure.getDescription();
+            date = expenditure.getDate();
+            money = expenditure.getMoney();
+            category = expenditure.getCategory();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            if (!(other instanceof ExpenditureIdentity)) {
+                return false;
+            }
+
+            ExpenditureIdentity otherIdentity = (ExpenditureIdentity) other;
+            return description.equals(otherIdentity.description)
+                    && date.equals(otherIdentity.date)
+                    && money.equals(otherIdentity.money)
+                    && category.equals(otherIdentity.category);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(description, date, money, category);
+        }
+    }
 }
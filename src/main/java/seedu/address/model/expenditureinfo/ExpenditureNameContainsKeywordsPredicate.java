@@ -11,16 +11,20 @@ import seedu.address.commons.util.StringUtil;
  */
 public class ExpenditureNameContainsKeywordsPredicate implements Predicate<Expenditure> {
     private final List<String> keywords;
+    private final List<String> foldedKeywords;
 
     public ExpenditureNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.toFoldedKeywords(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Expenditure expenditure) {
-        return keywords.stream()
-                .anyMatch(keyword ->
-                        StringUtil.containsWordIgnoreCase(expenditure.getDescription().descriptionName, keyword));
+        return StringUtil.containsAnyWord(expenditure.getDescription().getFoldedWords(), foldedKeywords);
     }
 
     @Override
@@ -0,0 +1,68 @@
+package seedu.address.model.expenditureinfo;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The total spent and the amount spent on each description over a period of the expenditure tracker.
+ */
+public class ExpenditureSummary {
+
+    private final Map<String, Long> totalsByDescription = new LinkedHashMap<>();
+    private long totalCents;
+    private int count;
+
+    /**
+     * Creates an empty summary, to which the expenditures of the period are then added.
+     */
+    ExpenditureSummary() {}
+
+    /**
+     * Adds {@code expenditure} to the totals.
+     */
+    void add(Expenditure expenditure) {
+        requireNonNull(expenditure);
+        long cents = expenditure.getMoney().getCents();
+        totalsByDescription.merge(expenditure.getDescription().descriptionName, cents, Math::addExact);
+        totalCents = Math.addExact(totalCents, cents);
+        count++;
+    }
+
+    public long getTotalCents() {
+        return totalCents;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    /**
+     * Returns the amount spent on each description in cents, in the order the descriptions first appear in the period.
+     */
+    public Map<String, Long> getTotalsByDescription() {
+        return Collections.unmodifiableMap(totalsByDescription);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ExpenditureSummary // instanceof handles nulls
+                && totalCents == ((ExpenditureSummary) other).totalCents
+                && count == ((ExpenditureSummary) other).count
+                && totalsByDescription.equals(((ExpenditureSummary) other).totalsByDescription));
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(totalCents, count, totalsByDescription);
+    }
+
+    @Override
+    public String toString() {
+        return count + " expenditures, total " + Money.formatCents(totalCents);
+    }
+}
@@ -4,25 +4,78 @@ package seedu.address.model.expenditureinfo;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
 /**
  *  Represents a Expenditure's category in the expenditure tracker.
  *  Guarantees: immutable; is valid as declared in {@link #isValidMoney(String)}
+ *
+ *  The amount is also kept as a whole number of cents, parsed once on construction, so that amounts can be added
+ *  up and compared exactly without parsing the string again.
  */
-public class Money {
+public class Money implements Comparable<Money> {
     public static final String MESSAGE_MONEY_CONSTRAINTS =
             "Moneys should only contain positive integer or floating point number.";
     public static final String MONEY_VALIDATION_REGEX = "[0-9]+\\.?[0-9]*";
 
+    private static final int CENTS_SCALE = 2;
+
     public final String addingMoney;
+    private final long cents;
 
     public Money(String money) {
         requireNonNull(money);
         checkArgument(isValidMoney(money), MESSAGE_MONEY_CONSTRAINTS);
         addingMoney = money;
+        cents = parseCents(money);
     }
 
+    /**
+     * Returns true if a given string is a valid amount that can be held in cents.
+     */
     public static boolean isValidMoney(String test) {
-        return test.matches(MONEY_VALIDATION_REGEX);
+        if (!test.matches(MONEY_VALIDATION_REGEX)) {
+            return false;
+        }
+        try {
+            parseCents(test);
+            return true;
+        } catch (ArithmeticException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Returns {@code money} in cents, rounded half up to the nearest cent.
+     *
+     * @throws ArithmeticException if the amount is too large to be held in cents.
+     */
+    private static long parseCents(String money) {
+        return new BigDecimal(money).setScale(CENTS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Returns {@code cents} as an amount with two decimal places, such as "12.50".
+     */
+    public static String formatCents(long cents) {
+        return BigDecimal.valueOf(cents, CENTS_SCALE).toPlainString();
+    }
+
+    /**
+     * Returns the amount in cents, rounded half up to the nearest cent.
+     */
+    public long getCents() {
+        return cents;
+    }
+
+    /**
+     * Compares amounts by their value in cents. Note that "12" and "12.00" compare as equal but are not
+     * {@link #equals(Object)}, which compares the amounts as entered.
+     */
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(cents, other.cents);
     }
 
     @Override
@@ -3,6 +3,10 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.FoldedWords;
+
 /**
  * Represents a Person's name in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -19,6 +23,7 @@ public class Name {
     public static final String NAME_VALIDATION_REGEX = "[\\p{Alnum}][\\p{Alnum} ]*";
 
     public final String fullName;
+    private final FoldedWords foldedWords;
 
     /**
      * Constructs a {@code Name}.
@@ -29,6 +34,7 @@ public class Name {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
         fullName = name;
+        foldedWords = new FoldedWords(name);
     }
 
     /**
@@ -39,6 +45,13 @@ public class Name {
     }
 
 
+    /**
+     * Returns the distinct words of the name in lower case, for matching keywords against.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords.get();
+    }
+
     @Override
     public String toString() {
         return fullName;
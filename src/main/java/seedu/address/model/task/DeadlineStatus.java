@@ -0,0 +1,29 @@
+package seedu.address.model.task;
+
+/**
+ * How close a task is to its deadline.
+ */
+public enum DeadlineStatus {
+    /** The deadline has passed. */
+    OVERDUE,
+    /** The deadline is today or within the following {@link #DUE_SOON_DAYS} days. */
+    DUE_SOON,
+    /** The deadline is further away. */
+    NOT_DUE;
+
+    public static final int DUE_SOON_DAYS = 7;
+
+    /**
+     * Returns the status of a deadline on {@code dueEpochDay} when today is {@code todayEpochDay}.
+     */
+    public static DeadlineStatus of(long dueEpochDay, long todayEpochDay) {
+        long daysLeft = dueEpochDay - todayEpochDay;
+        if (daysLeft < 0) {
+            return OVERDUE;
+        } else if (daysLeft > DUE_SOON_DAYS) {
+            return NOT_DUE;
+        } else {
+            return DUE_SOON;
+        }
+    }
+}
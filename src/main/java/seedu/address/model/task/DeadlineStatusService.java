@@ -0,0 +1,123 @@
+package seedu.address.model.task;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.DayChangedEvent;
+
+/**
+ * Tells how close tasks are to their deadlines.
+ * Today's date is worked out once and kept, so that classifying a task does not read the clock.
+ * A task's date has no year, so it is taken to be in the current year, which moves on with today's date.
+ * Once started, the service moves on to the next day at midnight and posts a {@link DayChangedEvent}, so that
+ * anything showing deadline statuses can refresh them.
+ */
+public class DeadlineStatusService {
+
+    /** How long after midnight the day is checked, so that a slightly early wake-up still sees the new day. */
+    private static final long ROLLOVER_DELAY_MILLIS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(DeadlineStatusService.class);
+    private static DeadlineStatusService instance;
+
+    private final Clock clock;
+    private ScheduledExecutorService scheduler;
+    private volatile LocalDate today;
+
+    /**
+     * Creates a service that reads today's date from {@code clock}.
+     * Day changes are posted to the {@code EventsCenter} in use at the time, which may be replaced in the meantime.
+     */
+    public DeadlineStatusService(Clock clock) {
+        this.clock = requireNonNull(clock);
+        this.today = LocalDate.now(clock);
+    }
+
+    /**
+     * Returns the service used by the app, which reads the system clock.
+     */
+    public static synchronized DeadlineStatusService getInstance() {
+        if (instance == null) {
+            instance = new DeadlineStatusService(Clock.systemDefaultZone());
+        }
+        return instance;
+    }
+
+    /**
+     * Returns how close {@code task} is to its deadline, as of today.
+     */
+    public DeadlineStatus getStatus(Task task) {
+        LocalDate currentDay = today;
+        return DeadlineStatus.of(task.getDate().toEpochDay(currentDay.getYear()), currentDay.toEpochDay());
+    }
+
+    public LocalDate getToday() {
+        return today;
+    }
+
+    /**
+     * Returns the year that the dates of tasks are taken to be in, as read from the same clock as today's date.
+     */
+    public int getCurrentYear() {
+        return today.getYear();
+    }
+
+    /**
+     * Starts moving on to the next day at each midnight. Does nothing if the service has already started.
+     */
+    public synchronized void start() {
+        if (scheduler != null) {
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "deadline-clock");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduleNextRollover();
+    }
+
+    /**
+     * Stops moving on to the next day.
+     */
+    public synchronized void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+            scheduler = null;
+        }
+    }
+
+    /**
+     * Reads today's date from the clock again, and posts a {@link DayChangedEvent} if it has changed.
+     */
+    void updateToday() {
+        LocalDate newToday = LocalDate.now(clock);
+        if (newToday.equals(today)) {
+            return;
+        }
+        today = newToday;
+        logger.info("Day changed to " + newToday);
+        EventsCenter.getInstance().post(new DayChangedEvent(newToday));
+    }
+
+    private synchronized void scheduleNextRollover() {
+        if (scheduler == null) {
+            return;
+        }
+        long delay = Duration.between(clock.instant(),
+                LocalDate.now(clock).plusDays(1).atStartOfDay(clock.getZone())).toMillis() + ROLLOVER_DELAY_MILLIS;
+        scheduler.schedule(() -> {
+            updateToday();
+            scheduleNextRollover();
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+}
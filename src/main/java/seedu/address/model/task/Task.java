@@ -2,11 +2,8 @@ package seedu.address.model.task;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Date;
 import java.util.Objects;
 
-import seedu.address.commons.util.TimeUtil;
-
 /**
  * Represents a Task in the to-do list.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -63,31 +60,12 @@ public class Task {
         isComplete = false;
     }
 
-    public String getMonth() {
-        return date.toString().substring(3, 5);
-    }
-
-    public String getDay() {
-        return date.toString().substring(0, 2);
-    }
-
     /**
      * get the name of the task
      * all letters are in lower case
      */
     public String getNameString() {
-        return name.toString().toLowerCase();
-    }
-
-    /**
-     * get the task date in the type of Date
-     * assume all tasks in the to-do list are in the same year of system date
-     */
-    public Date getDayInTypeDate() {
-        TimeUtil timeUtil = new TimeUtil();
-        String date = timeUtil.dateToStringConverter(new Date());
-        String currentYear = date.substring(6, 10);
-        return timeUtil.stringToDateConverter(getDay() + '/' + getMonth() + '/' + currentYear);
+        return name.getCollationKey();
     }
 
     /**
@@ -104,25 +82,6 @@ public class Task {
                 && otherTask.getModule().equals(getModule());
     }
 
-    //@@author XiaoYunhan
-    /**
-     * return -1 for deadline has passed
-     * return 0 for deadline is not urgent (not in the following 7 days)
-     * return 1 for "urgent" deadline (within the following 7 days)
-     */
-    public int notification() {
-        TimeUtil timeUtil = new TimeUtil();
-        int interval = timeUtil.getDayInterval(timeUtil.getCurrentDate(), getDayInTypeDate());
-        if (interval < 0) {
-            return -1;
-        } else if (interval > 7) {
-            return 0;
-        } else {
-            return 1;
-        }
-    }
-    //@@author
-
     /**
      * Returns true if both tasks have the same identity and data fields.
      * This defines a stronger notion of equality between two tasks.
@@ -4,11 +4,17 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
-import java.util.Calendar;
+import java.time.LocalDate;
+import java.time.MonthDay;
 
 /**
  * Represents a Task's due date in the to-do list.
  * Guarantees: immutable; is valid as declared in {@link #isValidDate(String)}
+ *
+ * A task's date has no year, so it is kept as a month and day, parsed once on construction, which orders dates
+ * the same in every year. Where a date is compared with today, it is taken to be in the current year, as given by
+ * {@link #toLocalDate(int)}. The current year is read from {@link DeadlineStatusService}, which also decides
+ * whether 29-02 is a valid date.
  */
 public class TaskDate {
 
@@ -26,6 +32,7 @@ public class TaskDate {
     private static final int MONTH_MIN_LIMIT = 1;
 
     public final String value;
+    private final MonthDay monthDay;
 
     /**
      * Constructs an {@code TaskDate}.
@@ -36,6 +43,8 @@ public class TaskDate {
         requireNonNull(date);
         checkArgument(isValidDate(date), MESSAGE_DATE_CONSTRAINTS);
         value = date;
+        String[] numbers = date.split("-");
+        monthDay = MonthDay.of(Integer.parseInt(numbers[1]), Integer.parseInt(numbers[0]));
     }
 
     /**
@@ -46,7 +55,7 @@ public class TaskDate {
             String[] numbers = test.split("-");
             int day = Integer.parseInt(numbers[0]);
             int month = Integer.parseInt(numbers[1]);
-            int year = Calendar.getInstance().get(Calendar.YEAR);
+            int year = DeadlineStatusService.getInstance().getCurrentYear();
 
             if (month > MONTH_MAX_LIMIT || month < MONTH_MIN_LIMIT) {
                 return false;
@@ -80,6 +89,24 @@ public class TaskDate {
         return false;
     }
 
+    public MonthDay toMonthDay() {
+        return monthDay;
+    }
+
+    /**
+     * Returns this date in {@code year}. 29-02 is taken to be 28-02 if {@code year} is not a leap year.
+     */
+    public LocalDate toLocalDate(int year) {
+        return monthDay.atYear(year);
+    }
+
+    /**
+     * Returns the number of days from 01-01-1970 to this date in {@code year}.
+     */
+    public long toEpochDay(int year) {
+        return toLocalDate(year).toEpochDay();
+    }
+
     @Override
     public String toString() {
         return value;
@@ -4,6 +4,11 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.List;
+
+import seedu.address.commons.util.FoldedWords;
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Task's name in the to-do list.
  * Guarantees: immutable; is valid as declared in {@link #isValidName(String)}
@@ -20,6 +25,9 @@ public class TaskName {
     public static final String NAME_VALIDATION_REGEX = "[\\S][\\p{ASCII} ]*";
 
     public final String fullName;
+    private final FoldedWords foldedWords;
+    /* Computed on first use and immutable, as the words kept by FoldedWords are. */
+    private String collationKey;
 
     /**
      * Constructs a {@code Name}.
@@ -30,6 +38,7 @@ public class TaskName {
         requireNonNull(name);
         checkArgument(isValidName(name), MESSAGE_NAME_CONSTRAINTS);
         fullName = name;
+        foldedWords = new FoldedWords(name);
     }
 
     /**
@@ -40,6 +49,25 @@ public class TaskName {
     }
 
 
+    /**
+     * Returns the distinct words of the name in lower case, for matching keywords against.
+     */
+    public List<String> getFoldedWords() {
+        return foldedWords.get();
+    }
+
+    /**
+     * Returns the key that orders names alphabetically, ignoring case.
+     */
+    public String getCollationKey() {
+        String key = collationKey;
+        if (key == null) {
+            key = StringUtil.foldCase(fullName);
+            collationKey = key;
+        }
+        return key;
+    }
+
     @Override
     public String toString() {
         return fullName;
@@ -11,15 +11,20 @@ import seedu.address.commons.util.StringUtil;
  */
 public class TaskNameContainsKeywordsPredicate implements Predicate<Task> {
     private final List<String> keywords;
+    private final List<String> foldedKeywords;
 
     public TaskNameContainsKeywordsPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.foldedKeywords = StringUtil.toFoldedKeywords(keywords);
+    }
+
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
     public boolean test(Task task) {
-        return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(task.getName().fullName, keyword));
+        return StringUtil.containsAnyWord(task.getName().getFoldedWords(), foldedKeywords);
     }
 
     @Override
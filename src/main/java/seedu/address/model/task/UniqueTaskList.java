@@ -4,16 +4,26 @@ package seedu.address.model.task;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.time.LocalDate;
+import java.time.MonthDay;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.SortComparator;
 import seedu.address.model.task.exceptions.DuplicateTaskException;
 import seedu.address.model.task.exceptions.TaskNotFoundException;
+import seedu.address.model.util.DateIndex;
+import seedu.address.model.util.KeywordIndex;
 
 /**
  * A list of tasks that enforces uniqueness between its elements and does not allow nulls.
@@ -24,18 +34,30 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * The identities of the tasks in the list are kept in a hash index, the tasks are grouped by due month and day in a
+ * {@code DateIndex}, and the words of their names are kept in a {@code KeywordIndex}, so that neither checking for
+ * a task with the same identity, finding the tasks due in a period, nor finding the tasks by name needs to scan the
+ * list. The indexes are updated before the list is changed, so that listeners of the list see them up to date.
+ *
  * @see Task#isSameTask(Task)
  */
 public class UniqueTaskList implements Iterable<Task> {
 
+    private static final MonthDay FIRST_DAY_OF_YEAR = MonthDay.of(1, 1);
+    private static final MonthDay LAST_DAY_OF_YEAR = MonthDay.of(12, 31);
+
     private final ObservableList<Task> internalList = FXCollections.observableArrayList();
+    /** The number of tasks in {@code internalList} with each identity. */
+    private final Map<TaskIdentity, Integer> identityCounts = new HashMap<>();
+    private final DateIndex<MonthDay, Task> dateIndex = new DateIndex<>(task -> task.getDate().toMonthDay());
+    private final KeywordIndex<Task> nameIndex = new KeywordIndex<>(task -> task.getName().getFoldedWords());
 
     /**
      * Returns true if the list contains an equivalent task as the given argument.
      */
     public boolean contains(Task toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameTask);
+        return identityCounts.containsKey(new TaskIdentity(toCheck));
     }
 
     /**
@@ -47,6 +69,7 @@ public class UniqueTaskList implements Iterable<Task> {
         if (contains(toAdd)) {
             throw new DuplicateTaskException();
         }
+        addToIndex(toAdd);
         internalList.add(toAdd);
     }
 
@@ -67,6 +90,7 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
+        replaceInIndex(internalList.get(index), editedTask);
         internalList.set(index, editedTask);
     }
 
@@ -76,13 +100,17 @@ public class UniqueTaskList implements Iterable<Task> {
      */
     public void remove(Task toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new TaskNotFoundException();
         }
+        removeFromIndex(internalList.get(index));
+        internalList.remove(index);
     }
 
     public void setTasks(UniqueTaskList replacement) {
         requireNonNull(replacement);
+        rebuildIndex(replacement.internalList);
         internalList.setAll(replacement.internalList);
     }
 
@@ -96,48 +124,65 @@ public class UniqueTaskList implements Iterable<Task> {
             throw new DuplicateTaskException();
         }
 
+        rebuildIndex(tasks);
         internalList.setAll(tasks);
     }
 
-    //@@author SHININGGGG
-    /**
-     * Get the tasks record on a particular day.
-     */
-    public String checkTasksRecordsOnParticularDay (String particularDate) {
-
-        String records;
-        String theDate;
-        int index = 0;
-        StringBuilder it = new StringBuilder();
-        StringBuilder builder = new StringBuilder();
-        boolean hasTask = false;
-        it.append("Here's all the task due on this day:\n");
-        while (index < internalList.size()) {
-            theDate = internalList.get(index).getDate().value + "-2018";
-            if (theDate.equals(particularDate)) {
-                it.append("Task name: " + internalList.get(index).getName().fullName + ", ")
-                        .append("Module: " + internalList.get(index).getModule().value + ", ")
-                        .append("Date: " + internalList.get(index).getDate().value + ", ")
-                        .append("Priority: " + internalList.get(index).getPriority().value + ", ");
-                if (internalList.get(index).getComplete()) {
-                    it.append("Status: " + "Completed\n");
-                } else {
-                    it.append("Status: " + "Uncompleted\n");
-                }
-                hasTask = true;
+    /**
+     * Replaces the {@code count} tasks starting at {@code index} with {@code replacement}.
+     * The resulting list is not checked for duplicates, so this must only be used to restore a previous state.
+     */
+    public void replaceRange(int index, int count, List<Task> replacement) {
+        requireAllNonNull(replacement);
+        if (count == replacement.size()) {
+            for (int i = 0; i < count; i++) {
+                replaceInIndex(internalList.get(index + i), replacement.get(i));
+                internalList.set(index + i, replacement.get(i));
             }
-            index++;
+            return;
         }
-        if (hasTask) {
-            builder.append("Here's all the task due on this day:\n")
-                    .append(it.toString());
-        } else {
-            builder.append("There is no task due on this day.\n");
+        List<Task> replaced = internalList.subList(index, index + count);
+        replaced.forEach(this::removeFromIndex);
+        replaced.clear();
+
+        List<Task> tasks = new ArrayList<>(internalList);
+        tasks.addAll(index, replacement);
+        replacement.forEach(this::addToIndex);
+        nameIndex.reorder(tasks);
+        internalList.addAll(index, replacement);
+    }
+
+    /**
+     * Returns the tasks due from {@code start} to {@code end}, both inclusive, in date order, taking the dates of
+     * the tasks to be in {@code year}.
+     */
+    public List<Task> getTasksDueBetween(LocalDate start, LocalDate end, int year) {
+        requireAllNonNull(start, end);
+        if (start.isAfter(end) || start.getYear() > year || end.getYear() < year) {
+            return new ArrayList<>();
         }
-        records = builder.toString();
-        return records;
+        MonthDay first = start.getYear() < year ? FIRST_DAY_OF_YEAR : MonthDay.from(start);
+        MonthDay last = end.getYear() > year ? LAST_DAY_OF_YEAR : MonthDay.from(end);
+        return dateIndex.getBetween(first, last);
+    }
+
+    /**
+     * Returns the tasks whose names contain any of {@code keywords} as a whole word, ignoring case, in list order.
+     * Only the tasks found are visited.
+     */
+    public List<Task> getTasksWithNameMatchingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.getMatchingAny(keywords);
+    }
+
+    /**
+     * Returns the tasks that {@link #getTasksWithNameMatchingAny(List)} finds for {@code keywords}, kept up to date
+     * as this list changes until they are closed.
+     */
+    public KeywordIndex.Matches<Task> trackTasksWithNameMatchingAny(List<String> keywords) {
+        requireNonNull(keywords);
+        return nameIndex.trackMatchingAny(keywords);
     }
-    //@@author
 
     /**
      * Returns the backing list as an unmodifiable {@code ObservableList}.
@@ -151,38 +196,51 @@ public class UniqueTaskList implements Iterable<Task> {
      * Sort the to-do list based on their deadline.
      */
     public void sortDate() {
-        Collections.sort(internalList, Comparator.comparing(Task::getMonth).thenComparing(Task::getDay));
+        sort(Comparator.comparing(task -> task.getDate().toMonthDay()));
     }
 
     /**
      * Sort the to-do list based on their module code.
      */
     public void sortModule() {
-        internalList.sort(SortComparator.compareModule());
+        sort(SortComparator.compareModule());
     }
 
     /**
      * Sort the to-do list based on their priority.
      */
     public void sortPriority() {
-        internalList.sort(SortComparator.comparePriority());
+        sort(SortComparator.comparePriority());
     }
 
     /**
      * Reverse the sequence of to-do list.
      */
     public void reverseTask() {
-        Collections.reverse(internalList);
+        List<Task> tasks = new ArrayList<>(internalList);
+        Collections.reverse(tasks);
+        nameIndex.reorder(tasks);
+        internalList.setAll(tasks);
     }
 
     /**
      * Sort the to-do list based on their task name.
      */
     public void sortDefault() {
-        internalList.sort(SortComparator.compareName());
+        sort(SortComparator.compareName());
     }
     //@@author
 
+    /**
+     * Sorts the list with {@code comparator}, updating the order of the tasks in the name index first.
+     */
+    private void sort(Comparator<Task> comparator) {
+        List<Task> tasks = new ArrayList<>(internalList);
+        tasks.sort(comparator);
+        nameIndex.reorder(tasks);
+        internalList.setAll(tasks);
+    }
+
     @Override
     public Iterator<Task> iterator() {
         return internalList.iterator();
@@ -204,13 +262,76 @@ public class UniqueTaskList implements Iterable<Task> {
      * Returns true if {@code tasks} contains only unique tasks.
      */
     private boolean tasksAreUnique(List<Task> tasks) {
-        for (int i = 0; i < tasks.size() - 1; i++) {
-            for (int j = i + 1; j < tasks.size(); j++) {
-                if (tasks.get(i).isSameTask(tasks.get(j))) {
-                    return false;
-                }
+        Set<TaskIdentity> identities = new HashSet<>();
+        for (Task task : tasks) {
+            if (!identities.add(new TaskIdentity(task))) {
+                return false;
             }
         }
         return true;
     }
+
+    private void addToIndex(Task task) {
+        addIdentity(task);
+        dateIndex.add(task);
+        nameIndex.add(task);
+    }
+
+    /**
+     * Updates the indexes for {@code target} being replaced by {@code editedTask}, which takes its place in the list.
+     */
+    private void replaceInIndex(Task target, Task editedTask) {
+        removeIdentity(target);
+        addIdentity(editedTask);
+        dateIndex.remove(target);
+        dateIndex.add(editedTask);
+        nameIndex.set(target, editedTask);
+    }
+
+    private void removeFromIndex(Task task) {
+        removeIdentity(task);
+        dateIndex.remove(task);
+        nameIndex.remove(task);
+    }
+
+    private void addIdentity(Task task) {
+        identityCounts.merge(new TaskIdentity(task), 1, Integer::sum);
+    }
+
+    private void removeIdentity(Task task) {
+        identityCounts.computeIfPresent(new TaskIdentity(task), (identity, count) -> count == 1 ? null : count - 1);
+    }
+
+    private void rebuildIndex(List<Task> tasks) {
+        identityCounts.clear();
+        tasks.forEach(task -> identityCounts.merge(new TaskIdentity(task), 1, Integer::sum));
+        dateIndex.reset(tasks);
+        nameIndex.reset(tasks);
+    }
+
+    /**
+     * The fields compared by {@link Task#isSameTask(Task)}, as a hash key.
+     */
+    private static class TaskIdentity {
+        private final TaskName name;
+        private final TaskModule module;
+
+        TaskIdentity(Task task) {
+            name = task.getName();
+            module = task.getModule();
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other == this
+                    || (other instanceof TaskIdentity
+                    && name.equals(((TaskIdentity) other).name)
+                    && module.equals(((TaskIdentity) other).module));
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, module);
+        }
+    }
 }
@@ -0,0 +1,87 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * Groups the records of a list by date, in date order, so that the records of a single day or of a range of days
+ * can be found in O(log n + k) time instead of by scanning the list.
+ * The index must be told about every record added to and removed from the list.
+ *
+ * @param <K> the type of the dates, ordered by their natural order
+ * @param <T> the type of the records
+ */
+public class DateIndex<K extends Comparable<? super K>, T> {
+
+    private final NavigableMap<K, List<T>> recordsByDate = new TreeMap<>();
+    private final Function<T, K> dateOf;
+
+    /**
+     * Creates an empty index that files each record under {@code dateOf} the record.
+     */
+    public DateIndex(Function<T, K> dateOf) {
+        this.dateOf = requireNonNull(dateOf);
+    }
+
+    public void add(T record) {
+        recordsByDate.computeIfAbsent(dateOf.apply(record), unused -> new ArrayList<>()).add(record);
+    }
+
+    /**
+     * Removes one record that is equal to {@code record}, if there is one.
+     */
+    public void remove(T record) {
+        K date = dateOf.apply(record);
+        List<T> records = recordsByDate.get(date);
+        if (records != null && records.remove(record) && records.isEmpty()) {
+            recordsByDate.remove(date);
+        }
+    }
+
+    /**
+     * Replaces all records in the index with {@code records}.
+     */
+    public void reset(Collection<? extends T> records) {
+        recordsByDate.clear();
+        records.forEach(this::add);
+    }
+
+    /**
+     * Returns the records on {@code date}, in the order they were added to the index.
+     */
+    public List<T> getOn(K date) {
+        return Collections.unmodifiableList(recordsByDate.getOrDefault(date, Collections.emptyList()));
+    }
+
+    /**
+     * Returns the records from {@code start} to {@code end}, both inclusive, in date order.
+     * Returns an empty list if {@code end} is before {@code start}.
+     */
+    public List<T> getBetween(K start, K end) {
+        List<T> records = new ArrayList<>();
+        forEachBetween(start, end, records::add);
+        return records;
+    }
+
+    /**
+     * Performs {@code action} on each record from {@code start} to {@code end}, both inclusive, in date order,
+     * without copying them into a list. Does nothing if {@code end} is before {@code start}.
+     */
+    public void forEachBetween(K start, K end, Consumer<? super T> action) {
+        requireNonNull(action);
+        if (start.compareTo(end) > 0) {
+            return;
+        }
+        for (List<T> records : recordsByDate.subMap(start, true, end, true).values()) {
+            records.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package seedu.address.model.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * Files the records of a list under each word of their text, ignoring case, so that the records containing any or
+ * all of a set of words can be found by merging or intersecting the records filed under those words instead of by
+ * scanning the list.
+ * The index also keeps the order of the records in the list, so that the records found are in list order.
+ * The index must be told about every change to the list before the list is changed, so that listeners of the list
+ * see the index up to date. The records found can be tracked as {@link Matches}, which the index updates with each
+ * change instead of finding them again.
+ *
+ * Records are told apart by identity rather than by {@code equals}, so a record can change fields that its words do
+ * not depend on, such as whether a task is complete, while it is in the index.
+ *
+ * @param <T> the type of the records
+ */
+public class KeywordIndex<T> {
+
+    private static final Comparator<Entry<?>> BY_POSITION = Comparator.comparingLong(entry -> entry.position);
+
+    /** The entries of the records that contain each word, by word in lower case. */
+    private final Map<String, Set<Entry<T>>> entriesByWord = new HashMap<>();
+    /** The entry of each record in the index. */
+    private final Map<T, Entry<T>> entries = new IdentityHashMap<>();
+    private final Function<T, List<String>> foldedWordsOf;
+    private final List<Matches<T>> trackedMatches = new ArrayList<>();
+    /** Greater than the position of every record in the index. */
+    private long nextPosition;
+
+    /**
+     * Creates an empty index that files each record under {@code foldedWordsOf} the record, which must be its
+     * distinct words in lower case, as given by {@link StringUtil#toFoldedWords(String)}.
+     */
+    public KeywordIndex(Function<T, List<String>> foldedWordsOf) {
+        this.foldedWordsOf = requireNonNull(foldedWordsOf);
+    }
+
+    /**
+     * Adds {@code record}, which is added to the end of the list.
+     */
+    public void add(T record) {
+        track(addAt(record, nextPosition++));
+    }
+
+    /**
+     * Replaces {@code target} with {@code replacement}, which takes its place in the list.
+     * {@code target} must be in the index.
+     */
+    public void set(T target, T replacement) {
+        if (target == replacement) {
+            Entry<T> entry = entries.get(target);
+            trackedMatches.forEach(matches -> matches.update(entry));
+            return;
+        }
+        long position = entries.get(target).position;
+        remove(target);
+        track(addAt(replacement, position));
+    }
+
+    /**
+     * Removes {@code record} once, if it is in the index.
+     */
+    public void remove(T record) {
+        Entry<T> entry = entries.get(record);
+        if (entry == null) {
+            return;
+        }
+        if (--entry.count > 0) {
+            return;
+        }
+        entries.remove(record);
+        trackedMatches.forEach(matches -> matches.remove(entry));
+        for (String word : foldedWordsOf.apply(record)) {
+            Set<Entry<T>> wordEntries = entriesByWord.get(word);
+            wordEntries.remove(entry);
+            if (wordEntries.isEmpty()) {
+                entriesByWord.remove(word);
+            }
+        }
+    }
+
+    /**
+     * Replaces all records in the index with {@code records}, in list order.
+     */
+    public void reset(List<? extends T> records) {
+        entriesByWord.clear();
+        entries.clear();
+        nextPosition = 0;
+        records.forEach(record -> addAt(record, nextPosition++));
+        trackedMatches.forEach(Matches::refresh);
+    }
+
+    /**
+     * Updates the order of the records to that of {@code records}, which must be the records in the index.
+     */
+    public void reorder(List<? extends T> records) {
+        nextPosition = 0;
+        for (T record : records) {
+            entries.get(record).position = nextPosition++;
+        }
+        trackedMatches.forEach(Matches::sort);
+    }
+
+    /**
+     * Returns true if no record is filed under any word.
+     */
+    public boolean isEmpty() {
+        return entries.isEmpty();
+    }
+
+    /**
+     * Returns the records whose text contains any of {@code keywords} as a whole word, ignoring case, in list order.
+     * Only the records found are visited. A record that is in the list more than once is returned once.
+     * A keyword that is empty or contains whitespace matches no record.
+     */
+    public List<T> getMatchingAny(Collection<String> keywords) {
+        return toRecords(getEntriesMatchingAny(keywords));
+    }
+
+    /**
+     * Returns the records whose text contains every one of {@code keywords} as a whole word, ignoring case, in list
+     * order. Only the records filed under the keyword with the fewest records are visited.
+     * No record is returned if there are no keywords.
+     */
+    public List<T> getMatchingAll(Collection<String> keywords) {
+        List<Set<Entry<T>>> entriesByKeyword = new ArrayList<>(keywords.size());
+        keywords.forEach(keyword -> entriesByKeyword.add(getEntries(keyword)));
+        if (entriesByKeyword.isEmpty()) {
+            return new ArrayList<>();
+        }
+        entriesByKeyword.sort(Comparator.comparingInt(Set::size));
+
+        List<Entry<T>> matches = new ArrayList<>();
+        List<Set<Entry<T>>> otherEntries = entriesByKeyword.subList(1, entriesByKeyword.size());
+        for (Entry<T> entry : entriesByKeyword.get(0)) {
+            if (otherEntries.stream().allMatch(keywordEntries -> keywordEntries.contains(entry))) {
+                matches.add(entry);
+            }
+        }
+        matches.sort(BY_POSITION);
+        return toRecords(matches);
+    }
+
+    /**
+     * Returns the records that {@link #getMatchingAny(Collection)} finds for {@code keywords}, in a list that this
+     * index keeps up to date until it is closed.
+     */
+    public Matches<T> trackMatchingAny(Collection<String> keywords) {
+        Matches<T> matches = new Matches<>(this, keywords);
+        trackedMatches.add(matches);
+        return matches;
+    }
+
+    /**
+     * Returns the entries of the records that contain any of {@code keywords}, in list order.
+     */
+    private List<Entry<T>> getEntriesMatchingAny(Collection<String> keywords) {
+        List<Entry<T>> matches;
+        if (keywords.size() == 1) {
+            matches = new ArrayList<>(getEntries(keywords.iterator().next()));
+        } else {
+            Set<Entry<T>> union = new HashSet<>();
+            keywords.forEach(keyword -> union.addAll(getEntries(keyword)));
+            matches = new ArrayList<>(union);
+        }
+        matches.sort(BY_POSITION);
+        return matches;
+    }
+
+    private static <T> List<T> toRecords(List<Entry<T>> entries) {
+        List<T> records = new ArrayList<>(entries.size());
+        entries.forEach(entry -> records.add(entry.record));
+        return records;
+    }
+
+    private Set<Entry<T>> getEntries(String keyword) {
+        return entriesByWord.getOrDefault(StringUtil.foldCase(keyword), Collections.emptySet());
+    }
+
+    /**
+     * Adds {@code record} at {@code position} in the order of the records, or counts it again if it is in the index.
+     * @return the entry of {@code record} if it was not in the index, or null.
+     */
+    private Entry<T> addAt(T record, long position) {
+        Entry<T> entry = entries.get(record);
+        if (entry != null) {
+            entry.count++;
+            return null;
+        }
+        entry = new Entry<>(record, position);
+        entries.put(record, entry);
+        for (String word : foldedWordsOf.apply(record)) {
+            entriesByWord.computeIfAbsent(word, unused -> new HashSet<>()).add(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * Adds the record of {@code addedEntry} to the tracked matches it belongs to, unless the entry is null.
+     */
+    private void track(Entry<T> addedEntry) {
+        if (addedEntry == null) {
+            return;
+        }
+        for (Matches<T> matches : trackedMatches) {
+            matches.add(addedEntry);
+        }
+    }
+
+    /**
+     * The records that contain any of a set of keywords, in list order, kept up to date by the index they are found
+     * in. Each change to the index only changes the records it adds, removes or moves.
+     *
+     * @param <T> the type of the records
+     */
+    public static class Matches<T> {
+        private final KeywordIndex<T> index;
+        private final List<String> foldedKeywords = new ArrayList<>();
+        /** The entries of the records in {@code records}, in the same order. */
+        private final List<Entry<T>> entries = new ArrayList<>();
+        private final ObservableList<T> records = FXCollections.observableArrayList();
+
+        private Matches(KeywordIndex<T> index, Collection<String> keywords) {
+            this.index = index;
+            keywords.forEach(keyword -> foldedKeywords.add(StringUtil.foldCase(keyword)));
+            refresh();
+        }
+
+        /**
+         * Returns the records found, as an unmodifiable list that changes with the index.
+         */
+        public ObservableList<T> asUnmodifiableObservableList() {
+            return FXCollections.unmodifiableObservableList(records);
+        }
+
+        /**
+         * Stops the index from updating these records.
+         */
+        public void close() {
+            index.trackedMatches.remove(this);
+        }
+
+        private void refresh() {
+            entries.clear();
+            entries.addAll(index.getEntriesMatchingAny(foldedKeywords));
+            records.setAll(toRecords(entries));
+        }
+
+        private void sort() {
+            entries.sort(BY_POSITION);
+            records.setAll(toRecords(entries));
+        }
+
+        private void add(Entry<T> entry) {
+            List<String> words = index.foldedWordsOf.apply(entry.record);
+            if (foldedKeywords.stream().anyMatch(words::contains)) {
+                int insertionPoint = -Collections.binarySearch(entries, entry, BY_POSITION) - 1;
+                entries.add(insertionPoint, entry);
+                records.add(insertionPoint, entry.record);
+            }
+        }
+
+        private void remove(Entry<T> entry) {
+            int i = Collections.binarySearch(entries, entry, BY_POSITION);
+            if (i >= 0) {
+                entries.remove(i);
+                records.remove(i);
+            }
+        }
+
+        /**
+         * Tells the listeners of the records that the record of {@code entry} has changed in place, if it is found.
+         */
+        private void update(Entry<T> entry) {
+            int i = Collections.binarySearch(entries, entry, BY_POSITION);
+            if (i >= 0) {
+                records.set(i, entry.record);
+            }
+        }
+    }
+
+    /**
+     * A record in the index, with its position in the order of the list and the number of times it is in the list.
+     * Entries are compared by identity, so the sets of entries do not hash the records.
+     */
+    private static class Entry<T> {
+        private final T record;
+        private long position;
+        private int count = 1;
+
+        Entry(T record, long position) {
+            this.record = record;
+            this.position = position;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Represents a storage for the commands entered in earlier sessions.
+ */
+public interface CommandHistoryStorage {
+
+    /**
+     * Returns the file path of the history file, or null if the command history is not stored.
+     */
+    Path getCommandHistoryFilePath();
+
+    /**
+     * Returns the {@code maxEntries} most recent commands stored, from the oldest to the most recent.
+     *   Returns an empty list if the history file is not found.
+     * @throws IOException if there was any problem when reading from the storage.
+     */
+    List<String> readCommandHistory(int maxEntries) throws IOException;
+
+    /**
+     * Adds {@code userInput} to the end of the stored history.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendCommandHistory(String userInput) throws IOException;
+}
@@ -0,0 +1,241 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Writes data files on a dedicated writer thread.
+ * Bursts of save requests for the same file are coalesced, so that only the latest snapshot is written
+ * once no further request for that file has arrived within the quiet period.
+ * Appends to a file are not coalesced, and are written one after another in the order they were requested.
+ */
+public class DebouncedSaveQueue {
+
+    private static final Logger logger = LogsCenter.getLogger(DebouncedSaveQueue.class);
+
+    private final ScheduledExecutorService writer;
+    private final long quietPeriodMillis;
+    private final Consumer<IOException> failureHandler;
+    private final Map<Path, PendingSave> pendingSaves = new LinkedHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong writeCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final AtomicLong totalWriteNanos = new AtomicLong();
+    private final AtomicLong maxWriteNanos = new AtomicLong();
+
+    /**
+     * Creates a queue that waits {@code quietPeriodMillis} after the last request for a file before writing it.
+     * Failed writes are reported to {@code failureHandler} on the writer thread.
+     */
+    public DebouncedSaveQueue(long quietPeriodMillis, Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.quietPeriodMillis = Math.max(0, quietPeriodMillis);
+        this.failureHandler = failureHandler;
+        this.writer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "storage-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Schedules {@code saveTask} to write {@code file}, replacing any save of the same file that is still waiting.
+     */
+    public synchronized void submit(Path file, SaveTask saveTask) {
+        requireNonNull(file);
+        requireNonNull(saveTask);
+
+        requestCount.incrementAndGet();
+        PendingSave replaced = pendingSaves.remove(file);
+        if (replaced != null) {
+            replaced.future.cancel(false);
+        }
+
+        PendingSave pendingSave = new PendingSave(file, saveTask);
+        pendingSaves.put(file, pendingSave);
+        pendingSave.future = writer.schedule(() -> writeIfStillPending(pendingSave),
+                quietPeriodMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Queues {@code appendTask} to append to {@code file} on the writer thread without waiting for a quiet period.
+     * The writer thread is a single thread, so appends are written in the order they were queued.
+     */
+    public void append(Path file, SaveTask appendTask) {
+        requireNonNull(file);
+        requireNonNull(appendTask);
+
+        requestCount.incrementAndGet();
+        PendingSave pendingAppend = new PendingSave(file, appendTask);
+        if (writer.isShutdown()) {
+            write(pendingAppend);
+            return;
+        }
+        pendingAppend.future = writer.submit(() -> write(pendingAppend));
+    }
+
+    /**
+     * Writes every waiting save immediately and blocks until they, and any write or append queued before them,
+     * have completed.
+     */
+    public void flush() {
+        List<PendingSave> toWrite;
+        synchronized (this) {
+            toWrite = new ArrayList<>(pendingSaves.values());
+            pendingSaves.clear();
+        }
+        writeNow(toWrite);
+    }
+
+    /**
+     * Writes the waiting save of {@code file}, if any, immediately and blocks until it has completed.
+     */
+    public void flush(Path file) {
+        List<PendingSave> toWrite = new ArrayList<>();
+        synchronized (this) {
+            PendingSave pendingSave = pendingSaves.remove(file);
+            if (pendingSave != null) {
+                toWrite.add(pendingSave);
+            }
+        }
+        writeNow(toWrite);
+    }
+
+    /**
+     * Flushes all waiting saves and stops the writer thread.
+     */
+    public void shutdown() {
+        flush();
+        writer.shutdown();
+        logger.info("Storage writer stopped. " + this);
+    }
+
+    /**
+     * Returns the number of files with a save that has not been written yet.
+     */
+    public synchronized int getQueueDepth() {
+        return pendingSaves.size();
+    }
+
+    /**
+     * Returns the number of save requests that were superseded by a later request before being written.
+     */
+    public long getCoalescedCount() {
+        return requestCount.get() - writeCount.get() - getQueueDepth();
+    }
+
+    public long getWriteCount() {
+        return writeCount.get();
+    }
+
+    public long getFailureCount() {
+        return failureCount.get();
+    }
+
+    /**
+     * Returns the mean wall-clock time spent writing a file, in milliseconds.
+     */
+    public double getAverageWriteLatencyMillis() {
+        long writes = writeCount.get();
+        return writes == 0 ? 0 : totalWriteNanos.get() / (writes * 1e6);
+    }
+
+    public double getMaxWriteLatencyMillis() {
+        return maxWriteNanos.get() / 1e6;
+    }
+
+    /**
+     * Runs {@code toWrite} on the writer thread, after any write already in progress, and waits for them.
+     */
+    private void writeNow(List<PendingSave> toWrite) {
+        toWrite.forEach(pendingSave -> pendingSave.future.cancel(false));
+        if (writer.isShutdown()) {
+            toWrite.forEach(this::write);
+            return;
+        }
+
+        Future<?> done = writer.submit(() -> toWrite.forEach(this::write));
+        try {
+            done.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    private void writeIfStillPending(PendingSave pendingSave) {
+        synchronized (this) {
+            if (!pendingSaves.remove(pendingSave.file, pendingSave)) {
+                return;
+            }
+        }
+        write(pendingSave);
+    }
+
+    /**
+     * Performs {@code pendingSave} and records how long it took.
+     */
+    private void write(PendingSave pendingSave) {
+        long start = System.nanoTime();
+        try {
+            pendingSave.saveTask.save();
+        } catch (IOException e) {
+            failureCount.incrementAndGet();
+            failureHandler.accept(e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            writeCount.incrementAndGet();
+            totalWriteNanos.addAndGet(elapsed);
+            maxWriteNanos.accumulateAndGet(elapsed, Math::max);
+            logger.fine(String.format("Saved %s in %.1f ms, %d file(s) still queued",
+                    pendingSave.file, elapsed / 1e6, getQueueDepth()));
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d writes (%d coalesced, %d failed), average %.1f ms, max %.1f ms",
+                getWriteCount(), getCoalescedCount(), getFailureCount(),
+                getAverageWriteLatencyMillis(), getMaxWriteLatencyMillis());
+    }
+
+    /**
+     * Writes one snapshot of a data file.
+     */
+    @FunctionalInterface
+    public interface SaveTask {
+        void save() throws IOException;
+    }
+
+    /**
+     * A save that is waiting for the quiet period of its file to elapse.
+     */
+    private static class PendingSave {
+        private final Path file;
+        private final SaveTask saveTask;
+        private Future<?> future;
+
+        PendingSave(Path file, SaveTask saveTask) {
+            this.file = file;
+            this.saveTask = saveTask;
+        }
+    }
+}
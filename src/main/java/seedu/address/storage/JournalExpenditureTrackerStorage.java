@@ -0,0 +1,444 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.StringUtil.escapeLine;
+import static seedu.address.commons.util.StringUtil.unescapeLine;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ExpenditureTracker;
+import seedu.address.model.ReadOnlyExpenditureTracker;
+import seedu.address.model.expenditureinfo.Expenditure;
+
+/**
+ * A class to access ExpenditureTracker data stored as a snapshot plus an append-only journal on the hard disk.
+ *
+ * Each save appends only the records that differ from the previously saved state to the journal, so the cost of
+ * a save depends on the size of the change instead of the size of the expenditure tracker. Once the journal holds
+ * more than a threshold number of entries, it is folded into the snapshot on a background thread.
+ *
+ * Every journal entry carries a sequence number and the snapshot records the last sequence number it includes,
+ * so entries that are already part of the snapshot are skipped if the app stops in the middle of a compaction.
+ */
+public class JournalExpenditureTrackerStorage implements ExpenditureTrackerStorage {
+
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    static final String SNAPSHOT_FILE_SUFFIX = ".snapshot";
+    static final String SNAPSHOT_HEADER = "#snapshot";
+
+    private static final Logger logger = LogsCenter.getLogger(JournalExpenditureTrackerStorage.class);
+
+    private static final String FIELD_SEPARATOR = "\t";
+    private static final String OP_ADD = "add";
+    private static final String OP_UPDATE = "update";
+    private static final String OP_REMOVE = "remove";
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final ExecutorService compactor;
+
+    /** Records as they were last written to {@code filePath}, or null if the files have not been read yet. */
+    private List<Expenditure> savedRecords;
+    private long lastSequenceNumber;
+    private int journalEntryCount;
+    private boolean isCompactionScheduled;
+
+    public JournalExpenditureTrackerStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage whose journal at {@code filePath} is compacted once it holds more than
+     * {@code compactionThreshold} entries.
+     */
+    public JournalExpenditureTrackerStorage(Path filePath, int compactionThreshold) {
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.compactor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "journal-compactor");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Path getExpenditureTrackerFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the snapshot that the journal at {@code journalPath} is applied on.
+     */
+    static Path getSnapshotPath(Path journalPath) {
+        return journalPath.resolveSibling(journalPath.getFileName() + SNAPSHOT_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyExpenditureTracker> readExpenditureTracker() throws DataConversionException, IOException {
+        return readExpenditureTracker(filePath);
+    }
+
+    /**
+     * Similar to {@link #readExpenditureTracker()}
+     * @param filePath location of the journal. Cannot be null
+     * @throws DataConversionException if the snapshot or journal is not in the correct format.
+     */
+    public synchronized Optional<ReadOnlyExpenditureTracker> readExpenditureTracker(Path filePath)
+            throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath) && !Files.exists(getSnapshotPath(filePath))) {
+            logger.info("ExpenditureTracker journal " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        JournalState state = replay(filePath);
+        if (filePath.equals(this.filePath)) {
+            adopt(state);
+        }
+
+        ExpenditureTracker expenditureTracker = new ExpenditureTracker();
+        expenditureTracker.setExpenditures(state.records);
+        return Optional.of(expenditureTracker);
+    }
+
+    /**
+     * Imports the data of {@code source}, e.g. an XML data file, if this journal does not exist yet.
+     * Returns true if data was imported.
+     */
+    public synchronized boolean importIfMissing(ExpenditureTrackerStorage source)
+            throws DataConversionException, IOException {
+        if (Files.exists(filePath) || Files.exists(getSnapshotPath(filePath))) {
+            return false;
+        }
+
+        Optional<ReadOnlyExpenditureTracker> sourceData = source.readExpenditureTracker();
+        if (!sourceData.isPresent()) {
+            return false;
+        }
+
+        logger.info("Importing expenditure tracker from " + source.getExpenditureTrackerFilePath());
+        writeSnapshot(filePath, sourceData.get().getExpenditureList(), 0);
+        adopt(new JournalState(new ArrayList<>(sourceData.get().getExpenditureList()), 0, 0));
+        return true;
+    }
+
+    @Override
+    public void saveExpenditureTracker(ReadOnlyExpenditureTracker expenditureTracker) throws IOException {
+        saveExpenditureTracker(expenditureTracker, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveExpenditureTracker(ReadOnlyExpenditureTracker)}
+     * Saving to a location other than this storage's own journal writes a full snapshot there.
+     * @param filePath location of the journal. Cannot be null
+     */
+    public synchronized void saveExpenditureTracker(ReadOnlyExpenditureTracker expenditureTracker,
+                                                    Path filePath) throws IOException {
+        requireNonNull(expenditureTracker);
+        requireNonNull(filePath);
+
+        List<Expenditure> records = new ArrayList<>(expenditureTracker.getExpenditureList());
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(filePath, records, 0);
+            return;
+        }
+
+        if (savedRecords == null) {
+            loadSavedRecords();
+        }
+
+        List<String> entries = diff(savedRecords, records);
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        FileUtil.createIfMissing(filePath);
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND)) {
+            for (String entry : entries) {
+                writer.write(entry);
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            // Part of the entries may have been written, so the saved state has to be read back next time.
+            savedRecords = null;
+            throw e;
+        }
+        savedRecords = records;
+        journalEntryCount += entries.size();
+
+        if (journalEntryCount > compactionThreshold && !isCompactionScheduled) {
+            isCompactionScheduled = true;
+            compactor.execute(this::compactQuietly);
+        }
+    }
+
+    /**
+     * Folds the journal into the snapshot, leaving an empty journal.
+     */
+    public synchronized void compact() throws IOException {
+        isCompactionScheduled = false;
+        if (savedRecords == null) {
+            loadSavedRecords();
+        }
+
+        long start = System.nanoTime();
+        writeSnapshot(filePath, savedRecords, lastSequenceNumber);
+        int compactedEntries = journalEntryCount;
+        journalEntryCount = 0;
+        logger.info(String.format("Compacted %d journal entries of %s into %d records in %.1f ms",
+                compactedEntries, filePath, savedRecords.size(), (System.nanoTime() - start) / 1e6));
+    }
+
+    public synchronized int getJournalEntryCount() {
+        return journalEntryCount;
+    }
+
+    private void compactQuietly() {
+        try {
+            compact();
+        } catch (IOException e) {
+            logger.warning("Failed to compact " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Establishes the previously saved state by reading the files, or an empty state if there are none.
+     */
+    private void loadSavedRecords() throws IOException {
+        if (!Files.exists(filePath) && !Files.exists(getSnapshotPath(filePath))) {
+            adopt(new JournalState(new ArrayList<>(), 0, 0));
+            return;
+        }
+
+        try {
+            adopt(replay(filePath));
+        } catch (DataConversionException e) {
+            throw new IOException("Unable to append to corrupted journal " + filePath, e);
+        }
+    }
+
+    private void adopt(JournalState state) {
+        savedRecords = new ArrayList<>(state.records);
+        lastSequenceNumber = state.lastSequenceNumber;
+        journalEntryCount = state.journalEntryCount;
+    }
+
+    /**
+     * Returns the journal entries that turn {@code oldRecords} into {@code newRecords}.
+     * Records before the first and after the last difference are left untouched; the records in between are
+     * updated in place where possible, and the remainder is removed or added.
+     */
+    private List<String> diff(List<Expenditure> oldRecords, List<Expenditure> newRecords) {
+        int prefix = 0;
+        int maxPrefix = Math.min(oldRecords.size(), newRecords.size());
+        while (prefix < maxPrefix && isSameRecord(oldRecords.get(prefix), newRecords.get(prefix))) {
+            prefix++;
+        }
+
+        int suffix = 0;
+        int maxSuffix = maxPrefix - prefix;
+        while (suffix < maxSuffix && isSameRecord(oldRecords.get(oldRecords.size() - 1 - suffix),
+                newRecords.get(newRecords.size() - 1 - suffix))) {
+            suffix++;
+        }
+
+        int removedCount = oldRecords.size() - prefix - suffix;
+        int addedCount = newRecords.size() - prefix - suffix;
+        int updatedCount = Math.min(removedCount, addedCount);
+
+        List<String> entries = new ArrayList<>();
+        for (int i = 0; i < updatedCount; i++) {
+            entries.add(toEntry(OP_UPDATE, prefix + i, newRecords.get(prefix + i)));
+        }
+        for (int i = updatedCount; i < removedCount; i++) {
+            entries.add(toEntry(OP_REMOVE, prefix + updatedCount, null));
+        }
+        for (int i = updatedCount; i < addedCount; i++) {
+            entries.add(toEntry(OP_ADD, prefix + i, newRecords.get(prefix + i)));
+        }
+        return entries;
+    }
+
+    private static boolean isSameRecord(Expenditure first, Expenditure second) {
+        return first == second || first.isSameExpenditure(second);
+    }
+
+    private String toEntry(String op, int index, Expenditure record) {
+        StringBuilder builder = new StringBuilder()
+                .append(++lastSequenceNumber).append(FIELD_SEPARATOR)
+                .append(op).append(FIELD_SEPARATOR)
+                .append(index);
+        if (record != null) {
+            builder.append(FIELD_SEPARATOR).append(toRecordLine(record));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Reads the snapshot of {@code journalPath} and applies the journal entries that it does not include yet.
+     */
+    private static JournalState replay(Path journalPath) throws DataConversionException, IOException {
+        List<Expenditure> records = new ArrayList<>();
+        long snapshotSequenceNumber = 0;
+
+        Path snapshotPath = getSnapshotPath(journalPath);
+        if (Files.exists(snapshotPath)) {
+            try (BufferedReader reader = Files.newBufferedReader(snapshotPath, StandardCharsets.UTF_8)) {
+                String header = reader.readLine();
+                if (header == null || !header.startsWith(SNAPSHOT_HEADER + FIELD_SEPARATOR)) {
+                    throw new DataConversionException(
+                            new IllegalValueException("Missing snapshot header in " + snapshotPath));
+                }
+                snapshotSequenceNumber = parseNumber(header.substring(SNAPSHOT_HEADER.length() + 1));
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    records.add(toRecord(line.split(FIELD_SEPARATOR, -1), 0));
+                }
+            }
+        }
+
+        long lastSequenceNumber = snapshotSequenceNumber;
+        int journalEntryCount = 0;
+        if (Files.exists(journalPath)) {
+            List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+            for (int i = 0; i < lines.size(); i++) {
+                try {
+                    long sequenceNumber = apply(lines.get(i), snapshotSequenceNumber, records);
+                    lastSequenceNumber = Math.max(lastSequenceNumber, sequenceNumber);
+                    journalEntryCount++;
+                } catch (DataConversionException e) {
+                    if (i < lines.size() - 1) {
+                        throw e;
+                    }
+                    // The last entry may have been cut short if the app stopped while writing it.
+                    logger.warning("Ignoring incomplete last entry of " + journalPath);
+                }
+            }
+        }
+        return new JournalState(records, lastSequenceNumber, journalEntryCount);
+    }
+
+    /**
+     * Applies the journal entry {@code line} to {@code records} unless the snapshot already includes it.
+     * Returns the sequence number of the entry.
+     */
+    private static long apply(String line, long snapshotSequenceNumber, List<Expenditure> records)
+            throws DataConversionException {
+        String[] fields = line.split(FIELD_SEPARATOR, -1);
+        if (fields.length < 3) {
+            throw new DataConversionException(new IllegalValueException("Malformed journal entry: " + line));
+        }
+
+        long sequenceNumber = parseNumber(fields[0]);
+        if (sequenceNumber <= snapshotSequenceNumber) {
+            return sequenceNumber;
+        }
+
+        int index = (int) parseNumber(fields[2]);
+        try {
+            switch (fields[1]) {
+            case OP_ADD:
+                records.add(index, toRecord(fields, 3));
+                break;
+            case OP_UPDATE:
+                records.set(index, toRecord(fields, 3));
+                break;
+            case OP_REMOVE:
+                records.remove(index);
+                break;
+            default:
+                throw new DataConversionException(new IllegalValueException("Unknown journal operation: " + line));
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new DataConversionException(new IllegalValueException("Journal entry out of range: " + line));
+        }
+        return sequenceNumber;
+    }
+
+    private static long parseNumber(String value) throws DataConversionException {
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Writes {@code records} as the snapshot of {@code journalPath} and empties the journal.
+     * The snapshot is replaced atomically, so a reader sees either the old or the new snapshot.
+     */
+    private static void writeSnapshot(Path journalPath, List<Expenditure> records, long lastSequenceNumber)
+            throws IOException {
+        Path snapshotPath = getSnapshotPath(journalPath);
+        FileUtil.createParentDirsOfFile(snapshotPath);
+        Path tempPath = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+        try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+            writer.write(SNAPSHOT_HEADER + FIELD_SEPARATOR + lastSequenceNumber);
+            writer.newLine();
+            for (Expenditure record : records) {
+                writer.write(toRecordLine(record));
+                writer.newLine();
+            }
+        }
+        Files.move(tempPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        Files.write(journalPath, new byte[0]);
+    }
+
+    private static String toRecordLine(Expenditure record) {
+        return escapeLine(record.getDescription().descriptionName) + FIELD_SEPARATOR
+                + escapeLine(record.getDate().addingDate) + FIELD_SEPARATOR
+                + escapeLine(record.getMoney().addingMoney) + FIELD_SEPARATOR
+                + escapeLine(record.getCategory().categoryName);
+    }
+
+    /**
+     * Converts the four record fields of {@code fields} starting at {@code from} into an {@code Expenditure},
+     * validating them the same way as the XML format does.
+     */
+    private static Expenditure toRecord(String[] fields, int from) throws DataConversionException {
+        if (fields.length != from + 4) {
+            throw new DataConversionException(
+                    new IllegalValueException("Malformed record: " + String.join(FIELD_SEPARATOR, fields)));
+        }
+        try {
+            return new XmlAdaptedExpenditure(unescapeLine(fields[from]), unescapeLine(fields[from + 1]),
+                    unescapeLine(fields[from + 2]), unescapeLine(fields[from + 3])).toModelType();
+        } catch (IllegalValueException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * The records described by a snapshot and journal, and the position of the journal.
+     */
+    private static class JournalState {
+        private final List<Expenditure> records;
+        private final long lastSequenceNumber;
+        private final int journalEntryCount;
+
+        JournalState(List<Expenditure> records, long lastSequenceNumber, int journalEntryCount) {
+            this.records = records;
+            this.lastSequenceNumber = lastSequenceNumber;
+            this.journalEntryCount = journalEntryCount;
+        }
+    }
+}
@@ -2,8 +2,10 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpenditureTrackerChangedEvent;
 import seedu.address.commons.events.model.TodoListChangedEvent;
@@ -17,7 +19,8 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends AddressBookStorage, ExpenditureTrackerStorage, TodoListStorage, UserPrefsStorage {
+public interface Storage extends AddressBookStorage, ExpenditureTrackerStorage, TodoListStorage, UserPrefsStorage,
+        CommandHistoryStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
@@ -52,6 +55,15 @@ public interface Storage extends AddressBookStorage, ExpenditureTrackerStorage,
     @Override
     void saveTodoList(ReadOnlyTodoList todoList) throws IOException;
 
+    @Override
+    Path getCommandHistoryFilePath();
+
+    @Override
+    List<String> readCommandHistory(int maxEntries) throws IOException;
+
+    @Override
+    void appendCommandHistory(String userInput) throws IOException;
+
     /**
      * Saves the current version of the Address Book to the hard disk.
      *   Creates the data file if it is missing.
@@ -72,4 +84,16 @@ public interface Storage extends AddressBookStorage, ExpenditureTrackerStorage,
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleTodoListChangedEvent(TodoListChangedEvent tdce);
+
+    /**
+     * Appends the command entered to the command history file, if the command history is stored.
+     *   Creates the history file if it is missing.
+     * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
+     */
+    void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent chce);
+
+    /**
+     * Writes any changes that are still waiting to be saved, and blocks until they are on the hard disk.
+     */
+    void flushPendingSaves();
 }
@@ -2,13 +2,21 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.DispatchOn;
+import seedu.address.commons.core.DispatchThread;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpenditureTrackerChangedEvent;
 import seedu.address.commons.events.model.TodoListChangedEvent;
@@ -18,10 +26,17 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyExpenditureTracker;
 import seedu.address.model.ReadOnlyTodoList;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.person.Person;
+import seedu.address.model.task.Task;
 
 /**
  * Manages storage of AddressBook, TodoList data in local storage.
+ * Changes raised by the model are saved either immediately, or on a background writer thread that coalesces
+ * bursts of changes to the same file when a save quiet period is given.
+ * Its event handlers run on the thread that raises the change, so that the data is copied before it changes again.
  */
+@DispatchOn(DispatchThread.POSTER)
 public class StorageManager extends ComponentManager implements Storage {
 
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
@@ -29,16 +44,46 @@ public class StorageManager extends ComponentManager implements Storage {
     private ExpenditureTrackerStorage expenditureTrackerStorage;
     private TodoListStorage todoListStorage;
     private UserPrefsStorage userPrefsStorage;
+    /** The storage of the command history, or null if the command history is not stored. */
+    private CommandHistoryStorage commandHistoryStorage;
+    private DebouncedSaveQueue saveQueue;
 
 
     public StorageManager(AddressBookStorage addressBookStorage, ExpenditureTrackerStorage expenditureTrackerStorage,
                           TodoListStorage todoListStorage,
                           UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, expenditureTrackerStorage, todoListStorage, userPrefsStorage, 0);
+    }
+
+    /**
+     * Creates a {@code StorageManager} that saves model changes on a background writer thread once no further
+     * change to the same file has been raised for {@code saveQuietPeriodMillis}.
+     * Changes are saved immediately on the raising thread if {@code saveQuietPeriodMillis} is not positive.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, ExpenditureTrackerStorage expenditureTrackerStorage,
+                          TodoListStorage todoListStorage,
+                          UserPrefsStorage userPrefsStorage, long saveQuietPeriodMillis) {
+        this(addressBookStorage, expenditureTrackerStorage, todoListStorage, userPrefsStorage, null,
+                saveQuietPeriodMillis);
+    }
+
+    /**
+     * Creates a {@code StorageManager} like {@link #StorageManager(AddressBookStorage, ExpenditureTrackerStorage,
+     * TodoListStorage, UserPrefsStorage, long)} that also stores the command history in
+     * {@code commandHistoryStorage}, unless it is null.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, ExpenditureTrackerStorage expenditureTrackerStorage,
+                          TodoListStorage todoListStorage, UserPrefsStorage userPrefsStorage,
+                          CommandHistoryStorage commandHistoryStorage, long saveQuietPeriodMillis) {
         super();
         this.addressBookStorage = addressBookStorage;
         this.expenditureTrackerStorage = expenditureTrackerStorage;
         this.todoListStorage = todoListStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.commandHistoryStorage = commandHistoryStorage;
+        if (saveQuietPeriodMillis > 0) {
+            saveQueue = new DebouncedSaveQueue(saveQuietPeriodMillis, e -> raise(new DataSavingExceptionEvent(e)));
+        }
     }
 
     // ================ UserPrefs methods ==============================
@@ -74,6 +119,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read AB data from file: " + filePath);
+        flushPendingSave(filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
 
@@ -105,6 +151,7 @@ public class StorageManager extends ComponentManager implements Storage {
     public Optional<ReadOnlyExpenditureTracker> readExpenditureTracker(Path expenditureFilePath)
             throws DataConversionException, IOException {
         logger.fine("Attempting to read ET data from file: " + expenditureFilePath);
+        flushPendingSave(expenditureFilePath);
         return expenditureTrackerStorage.readExpenditureTracker(expenditureFilePath);
     }
 
@@ -135,6 +182,7 @@ public class StorageManager extends ComponentManager implements Storage {
     @Override
     public Optional<ReadOnlyTodoList> readTodoList(Path filePath) throws DataConversionException, IOException {
         logger.fine("Attempting to read TDL data from file: " + filePath);
+        flushPendingSave(filePath);
         return todoListStorage.readTodoList(filePath);
     }
 
@@ -150,34 +198,151 @@ public class StorageManager extends ComponentManager implements Storage {
     }
 
 
+    // ================ CommandHistory methods ==============================
+
     @Override
-    @Subscribe
-    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to AB file"));
+    public Path getCommandHistoryFilePath() {
+        return commandHistoryStorage == null ? null : commandHistoryStorage.getCommandHistoryFilePath();
+    }
+
+    @Override
+    public List<String> readCommandHistory(int maxEntries) throws IOException {
+        if (commandHistoryStorage == null) {
+            return new ArrayList<>();
+        }
+        flushPendingSave(getCommandHistoryFilePath());
+        logger.fine("Attempting to read command history file: " + getCommandHistoryFilePath());
+        return commandHistoryStorage.readCommandHistory(maxEntries);
+    }
+
+    @Override
+    public void appendCommandHistory(String userInput) throws IOException {
+        if (commandHistoryStorage != null) {
+            commandHistoryStorage.appendCommandHistory(userInput);
+        }
+    }
+
+
+    // ================ Background saving ==============================
+
+    @Override
+    public void flushPendingSaves() {
+        if (saveQueue != null) {
+            saveQueue.flush();
+            logger.info("Pending saves flushed. " + saveQueue);
+        }
+    }
+
+    private void flushPendingSave(Path filePath) {
+        if (saveQueue != null) {
+            saveQueue.flush(filePath);
+        }
+    }
+
+    /**
+     * Runs {@code saveTask} for {@code filePath} on the writer thread if there is one, or immediately otherwise.
+     */
+    private void save(Path filePath, DebouncedSaveQueue.SaveTask saveTask) {
+        DebouncedSaveQueue.SaveTask timedSaveTask = timed(saveTask);
+        if (saveQueue != null) {
+            saveQueue.submit(filePath, timedSaveTask);
+            return;
+        }
+
         try {
-            saveAddressBook(event.data);
+            timedSaveTask.save();
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
     }
 
+    /**
+     * Returns {@code saveTask}, recording how long it takes under the command being executed if there is one.
+     * A save coalesced with later saves of the same file is recorded under the command that submitted the last one.
+     */
+    private static DebouncedSaveQueue.SaveTask timed(DebouncedSaveQueue.SaveTask saveTask) {
+        String commandWord = MetricsCenter.getCurrentCommand();
+        if (commandWord == null) {
+            return saveTask;
+        }
+        return () -> {
+            long startTime = MetricsCenter.startTimer();
+            try {
+                saveTask.save();
+            } finally {
+                MetricsCenter.record(commandWord, MetricsCenter.Stage.SAVE, startTime);
+            }
+        };
+    }
+
+    /**
+     * Returns a copy of {@code addressBook} that is unaffected by later changes to the model.
+     */
+    private static ReadOnlyAddressBook snapshotOf(ReadOnlyAddressBook addressBook) {
+        ObservableList<Person> persons = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(addressBook.getPersonList()));
+        return () -> persons;
+    }
+
+    /**
+     * Returns a copy of {@code expenditureTracker} that is unaffected by later changes to the model.
+     */
+    private static ReadOnlyExpenditureTracker snapshotOf(ReadOnlyExpenditureTracker expenditureTracker) {
+        ObservableList<Expenditure> expenditures = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(expenditureTracker.getExpenditureList()));
+        return () -> expenditures;
+    }
+
+    /**
+     * Returns a copy of {@code todoList} that is unaffected by later changes to the model.
+     */
+    private static ReadOnlyTodoList snapshotOf(ReadOnlyTodoList todoList) {
+        ObservableList<Task> tasks = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(todoList.getTaskList()));
+        return () -> tasks;
+    }
+
+    @Override
+    @Subscribe
+    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        LogsCenter.logEventHandled(logger, event, "Local data changed, saving to AB file");
+        ReadOnlyAddressBook data = saveQueue == null ? event.data : snapshotOf(event.data);
+        save(getAddressBookFilePath(), () -> saveAddressBook(data));
+    }
+
     @Override
     @Subscribe
     public void handleExpenditureTrackerChangedEvent(ExpenditureTrackerChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to ET file"));
-        try {
-            saveExpenditureTracker(event.data);
-        } catch (IOException e) {
-            raise(new DataSavingExceptionEvent(e));
-        }
+        LogsCenter.logEventHandled(logger, event, "Local data changed, saving to ET file");
+        ReadOnlyExpenditureTracker data = saveQueue == null ? event.data : snapshotOf(event.data);
+        save(getExpenditureTrackerFilePath(), () -> saveExpenditureTracker(data));
     }
 
     @Override
     @Subscribe
     public void handleTodoListChangedEvent(TodoListChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to TDL file"));
+        LogsCenter.logEventHandled(logger, event, "Local data changed, saving to TDL file");
+        ReadOnlyTodoList data = saveQueue == null ? event.data : snapshotOf(event.data);
+        save(getTodoListFilePath(), () -> saveTodoList(data));
+    }
+
+    /**
+     * Queues the command to be appended to the history file on the writer thread, or appends it immediately if
+     * saves are not made in the background.
+     * Each command adds a line of its own, so appends are not coalesced but written in the order they were raised.
+     */
+    @Override
+    @Subscribe
+    public void handleCommandHistoryChangedEvent(CommandHistoryChangedEvent event) {
+        if (commandHistoryStorage == null) {
+            return;
+        }
+        if (saveQueue != null) {
+            saveQueue.append(getCommandHistoryFilePath(), () -> appendCommandHistory(event.userInput));
+            return;
+        }
         try {
-            saveTodoList(event.data);
+            appendCommandHistory(event.userInput);
         } catch (IOException e) {
             raise(new DataSavingExceptionEvent(e));
         }
@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.commons.util.StringUtil.escapeLine;
+import static seedu.address.commons.util.StringUtil.unescapeLine;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+
+/**
+ * A class to access the command history stored as a text file on the hard disk, one command on each line from the
+ * oldest to the most recent.
+ *
+ * Each command is appended to the file as it is entered. To read the history, the file is memory-mapped and scanned
+ * backwards from its end, so that only the lines of the most recent commands are read and decoded, however long the
+ * file has grown. The file is trimmed to those lines once the older lines take up more of it than they do.
+ */
+public class TextCommandHistoryStorage implements CommandHistoryStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(TextCommandHistoryStorage.class);
+
+    private static final byte LINE_BREAK = '\n';
+    private static final byte CARRIAGE_RETURN = '\r';
+
+    private final Path filePath;
+    /** True if the last line of the file was found cut short, so the next command has to start a new line. */
+    private boolean isLastLineIncomplete;
+
+    public TextCommandHistoryStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getCommandHistoryFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized List<String> readCommandHistory(int maxEntries) throws IOException {
+        checkArgument(maxEntries > 0, "Number of entries should be positive");
+        if (!Files.exists(filePath)) {
+            logger.info("Command history file " + filePath + " not found");
+            return new ArrayList<>();
+        }
+
+        List<String> entries = new ArrayList<>();
+        long fileSize;
+        long olderBytes = 0;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            fileSize = channel.size();
+            if (fileSize == 0) {
+                return entries;
+            }
+            long mappedStart = Math.max(0, fileSize - Integer.MAX_VALUE);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, mappedStart, fileSize - mappedStart);
+
+            int lineEnd = buffer.limit();
+            isLastLineIncomplete = buffer.get(lineEnd - 1) != LINE_BREAK;
+            if (!isLastLineIncomplete) {
+                lineEnd--;
+            }
+            while (entries.size() < maxEntries && lineEnd >= 0) {
+                int lineStart = lineEnd;
+                while (lineStart > 0 && buffer.get(lineStart - 1) != LINE_BREAK) {
+                    lineStart--;
+                }
+                if (lineStart == 0 && mappedStart > 0) {
+                    // the line may start before the mapped part of the file
+                    break;
+                }
+                entries.add(decodeLine(buffer, lineStart, lineEnd));
+                lineEnd = lineStart - 1;
+            }
+            if (lineEnd >= 0) {
+                olderBytes = mappedStart + lineEnd + 1;
+            }
+        }
+        Collections.reverse(entries);
+
+        if (olderBytes > fileSize - olderBytes) {
+            trim(entries);
+        }
+        return entries;
+    }
+
+    @Override
+    public synchronized void appendCommandHistory(String userInput) throws IOException {
+        requireNonNull(userInput);
+        String line = escapeLine(userInput) + (char) LINE_BREAK;
+        if (isLastLineIncomplete) {
+            line = (char) LINE_BREAK + line;
+        }
+
+        FileUtil.createIfMissing(filePath);
+        Files.write(filePath, line.getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+        isLastLineIncomplete = false;
+    }
+
+    /**
+     * Returns the command on the line of {@code buffer} from {@code lineStart} to {@code lineEnd}.
+     */
+    private static String decodeLine(ByteBuffer buffer, int lineStart, int lineEnd) {
+        int end = lineEnd;
+        if (end > lineStart && buffer.get(end - 1) == CARRIAGE_RETURN) {
+            end--;
+        }
+        byte[] line = new byte[end - lineStart];
+        ByteBuffer view = buffer.duplicate();
+        view.position(lineStart);
+        view.get(line);
+        return unescapeLine(new String(line, StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Replaces the history file with one holding only {@code entries}.
+     * The file is replaced atomically, so a reader sees either the old or the new file.
+     */
+    private void trim(List<String> entries) {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try {
+            try (BufferedWriter writer = Files.newBufferedWriter(tempPath, StandardCharsets.UTF_8)) {
+                for (String entry : entries) {
+                    writer.write(escapeLine(entry));
+                    writer.write(LINE_BREAK);
+                }
+            }
+            Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            isLastLineIncomplete = false;
+            logger.fine("Trimmed command history file " + filePath + " to " + entries.size() + " commands");
+        } catch (IOException e) {
+            // the file can still be appended to and read, it just takes up more space than needed
+            logger.warning("Failed to trim command history file " + filePath + ": " + e.getMessage());
+        }
+    }
+}
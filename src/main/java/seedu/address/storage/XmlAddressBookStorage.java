@@ -2,30 +2,47 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.stream.Collectors;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.storage.XmlRecordReader.XmlRecord;
 
 /**
  * A class to access AddressBook data stored as an xml file on the hard disk.
  */
 public class XmlAddressBookStorage implements AddressBookStorage {
 
+    private static final String ROOT_ELEMENT = "addressbook";
+    private static final String PERSON_ELEMENT = "persons";
+
     private static final Logger logger = LogsCenter.getLogger(XmlAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean skipInvalidRecords;
 
     public XmlAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for {@code filePath}.
+     * If {@code skipInvalidRecords} is true, reads skip and log invalid persons instead of failing.
+     */
+    public XmlAddressBookStorage(Path filePath, boolean skipInvalidRecords) {
         this.filePath = filePath;
+        this.skipInvalidRecords = skipInvalidRecords;
     }
 
     public Path getAddressBookFilePath() {
@@ -43,7 +60,7 @@ public class XmlAddressBookStorage implements AddressBookStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
-            FileNotFoundException {
+            IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -51,13 +68,28 @@ public class XmlAddressBookStorage implements AddressBookStorage {
             return Optional.empty();
         }
 
-        XmlSerializableAddressBook xmlAddressBook = XmlFileStorage.loadDataFromSaveFile(filePath);
-        try {
-            return Optional.of(xmlAddressBook.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        AddressBook addressBook = new AddressBook();
+        XmlRecordReader reader = new XmlRecordReader(filePath, skipInvalidRecords);
+        reader.read(ROOT_ELEMENT, PERSON_ELEMENT, XmlAddressBookStorage::toPerson, person -> {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        });
+        logger.info(String.format("Read %d of %d persons from %s", addressBook.getPersonList().size(),
+                reader.getRecordCount(), filePath));
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Converts one {@code <persons>} element in the same way as {@link XmlAdaptedPerson#toModelType()}.
+     */
+    private static Person toPerson(XmlRecord record) throws IllegalValueException {
+        List<XmlAdaptedTag> tagged = record.getAll("tagged").stream()
+                .map(XmlAdaptedTag::new)
+                .collect(Collectors.toList());
+        return new XmlAdaptedPerson(record.get("name"), record.get("phone"), record.get("email"),
+                record.get("address"), tagged).toModelType();
     }
 
     @Override
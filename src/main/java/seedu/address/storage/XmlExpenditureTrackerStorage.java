@@ -3,7 +3,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -12,8 +11,8 @@ import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
-import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ExpenditureTracker;
 import seedu.address.model.ReadOnlyExpenditureTracker;
 
 /**
@@ -21,12 +20,25 @@ import seedu.address.model.ReadOnlyExpenditureTracker;
  */
 public class XmlExpenditureTrackerStorage implements ExpenditureTrackerStorage {
 
+    private static final String ROOT_ELEMENT = "expendituretracker";
+    private static final String EXPENDITURE_ELEMENT = "expenditures";
+
     private static final Logger logger = LogsCenter.getLogger(XmlExpenditureTrackerStorage.class);
 
     private Path filePath;
+    private final boolean skipInvalidRecords;
 
     public XmlExpenditureTrackerStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for {@code filePath}.
+     * If {@code skipInvalidRecords} is true, reads skip and log invalid expenditures instead of failing.
+     */
+    public XmlExpenditureTrackerStorage(Path filePath, boolean skipInvalidRecords) {
         this.filePath = filePath;
+        this.skipInvalidRecords = skipInvalidRecords;
     }
 
     public Path getExpenditureTrackerFilePath() {
@@ -44,8 +56,7 @@ public class XmlExpenditureTrackerStorage implements ExpenditureTrackerStorage {
      * @throws DataConversionException if the file is not in the correct format.
      */
     public Optional<ReadOnlyExpenditureTracker> readExpenditureTracker(Path filePath)
-            throws DataConversionException,
-            FileNotFoundException {
+            throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -53,14 +64,14 @@ public class XmlExpenditureTrackerStorage implements ExpenditureTrackerStorage {
             return Optional.empty();
         }
 
-        XmlSerializableExpenditureTracker xmlExpenditureTracker =
-                XmlFileStorage.loadExpenditureTrackerDataFromSaveFile(filePath);
-        try {
-            return Optional.of(xmlExpenditureTracker.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        ExpenditureTracker expenditureTracker = new ExpenditureTracker();
+        XmlRecordReader reader = new XmlRecordReader(filePath, skipInvalidRecords);
+        reader.read(ROOT_ELEMENT, EXPENDITURE_ELEMENT, record -> new XmlAdaptedExpenditure(record.get("description"),
+                record.get("date"), record.get("money"), record.get("category")).toModelType(),
+                expenditureTracker::addExpenditure);
+        logger.info(String.format("Read %d of %d expenditures from %s",
+                expenditureTracker.getExpenditureList().size(), reader.getRecordCount(), filePath));
+        return Optional.of(expenditureTracker);
     }
 
     @Override
@@ -0,0 +1,230 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Reads the records of an XML data file one at a time, without building an object tree of the whole file.
+ *
+ * Each record element directly under the root element is handed to a {@link RecordConverter} as soon as its
+ * end tag is read, and the converted model object is passed on to a {@link RecordConsumer}. Only one record is
+ * held in memory at a time, so the memory needed to read a file does not grow with its size.
+ */
+public class XmlRecordReader {
+
+    public static final String MESSAGE_RECORD_ERROR = "Record %d (line %d) of %s: %s";
+    public static final String MESSAGE_WRONG_ROOT_ELEMENT = "Expected root element <%s> but found <%s>";
+
+    private static final Logger logger = LogsCenter.getLogger(XmlRecordReader.class);
+    private static final XMLInputFactory inputFactory = createInputFactory();
+
+    private final Path file;
+    private final boolean skipInvalidRecords;
+    private final List<String> recordErrors = new ArrayList<>();
+    private int recordCount;
+
+    /**
+     * Creates a reader for {@code file}.
+     * If {@code skipInvalidRecords} is true, records that cannot be converted are reported and skipped;
+     * otherwise the first of them fails the whole read.
+     */
+    public XmlRecordReader(Path file, boolean skipInvalidRecords) {
+        requireNonNull(file);
+        this.file = file;
+        this.skipInvalidRecords = skipInvalidRecords;
+    }
+
+    /**
+     * Converts every {@code <recordElement>} under the {@code <rootElement>} of the file, in file order.
+     *
+     * @throws FileNotFoundException if the file does not exist.
+     * @throws DataConversionException if the file is not well-formed XML, does not have {@code rootElement} as its
+     *         root, or has an invalid record while invalid records are not being skipped.
+     */
+    public <T> void read(String rootElement, String recordElement, RecordConverter<T> converter,
+                         RecordConsumer<T> consumer) throws DataConversionException, IOException {
+        requireNonNull(rootElement);
+        requireNonNull(recordElement);
+        requireNonNull(converter);
+        requireNonNull(consumer);
+
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = inputFactory.createXMLStreamReader(in);
+            try {
+                readRoot(reader, rootElement, recordElement, converter, consumer);
+            } finally {
+                reader.close();
+            }
+        } catch (NoSuchFileException e) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        } catch (XMLStreamException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
+    /**
+     * Returns the number of records read so far, including the ones that were skipped.
+     */
+    public int getRecordCount() {
+        return recordCount;
+    }
+
+    /**
+     * Returns a description of every record that was skipped, in file order.
+     */
+    public List<String> getRecordErrors() {
+        return Collections.unmodifiableList(recordErrors);
+    }
+
+    private <T> void readRoot(XMLStreamReader reader, String rootElement, String recordElement,
+                              RecordConverter<T> converter, RecordConsumer<T> consumer)
+            throws XMLStreamException, DataConversionException {
+        reader.nextTag();
+        if (!reader.getLocalName().equals(rootElement)) {
+            throw new DataConversionException(new IllegalValueException(
+                    String.format(MESSAGE_WRONG_ROOT_ELEMENT, rootElement, reader.getLocalName())));
+        }
+
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            if (!reader.getLocalName().equals(recordElement)) {
+                skipElement(reader);
+                continue;
+            }
+
+            recordCount++;
+            int line = reader.getLocation().getLineNumber();
+            XmlRecord record = readRecord(reader);
+            try {
+                consumer.accept(converter.convert(record));
+            } catch (IllegalValueException ive) {
+                String error = String.format(MESSAGE_RECORD_ERROR, recordCount, line, file, ive.getMessage());
+                if (!skipInvalidRecords) {
+                    throw new DataConversionException(new IllegalValueException(error, ive));
+                }
+                logger.warning("Skipping " + error);
+                recordErrors.add(error);
+            }
+        }
+    }
+
+    /**
+     * Reads the record element the reader is positioned at, up to and including its end tag.
+     * Only the text of the direct children of the record is kept.
+     */
+    private XmlRecord readRecord(XMLStreamReader reader) throws XMLStreamException {
+        XmlRecord record = new XmlRecord();
+        while (reader.nextTag() == XMLStreamConstants.START_ELEMENT) {
+            String field = reader.getLocalName();
+            StringBuilder text = new StringBuilder();
+            int depth = 1;
+            while (depth > 0) {
+                switch (reader.next()) {
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    break;
+                case XMLStreamConstants.END_ELEMENT:
+                    depth--;
+                    break;
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (depth == 1) {
+                        text.append(reader.getText());
+                    }
+                    break;
+                default:
+                    break;
+                }
+            }
+            record.add(field, text.toString());
+        }
+        return record;
+    }
+
+    private void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 1;
+        while (depth > 0) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                depth++;
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+    }
+
+    /**
+     * Returns a factory that does not resolve DTDs or external entities, which data files never need.
+     */
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * The text of the child elements of one record, by element name.
+     */
+    public static class XmlRecord {
+        private final Map<String, List<String>> fields = new HashMap<>();
+
+        private void add(String field, String value) {
+            fields.computeIfAbsent(field, unused -> new ArrayList<>()).add(value);
+        }
+
+        /**
+         * Returns the text of the first {@code field} element of the record, or null if it has none.
+         */
+        public String get(String field) {
+            List<String> values = fields.get(field);
+            return values == null ? null : values.get(0);
+        }
+
+        /**
+         * Returns the text of every {@code field} element of the record, in file order.
+         */
+        public List<String> getAll(String field) {
+            return fields.getOrDefault(field, Collections.emptyList());
+        }
+    }
+
+    /**
+     * Converts one record into a model object.
+     */
+    @FunctionalInterface
+    public interface RecordConverter<T> {
+        T convert(XmlRecord record) throws IllegalValueException;
+    }
+
+    /**
+     * Adds one converted model object to the data being loaded.
+     */
+    @FunctionalInterface
+    public interface RecordConsumer<T> {
+        void accept(T modelObject) throws IllegalValueException;
+    }
+}
@@ -3,7 +3,6 @@ package seedu.address.storage;
 
 import static java.util.Objects.requireNonNull;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -15,18 +14,34 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.model.ReadOnlyTodoList;
+import seedu.address.model.TodoList;
+import seedu.address.model.task.Task;
+import seedu.address.storage.XmlRecordReader.XmlRecord;
 
 /**
  * A class to access TodoList data stored as an xml file on the hard disk.
  */
 public class XmlTodoListStorage implements TodoListStorage {
 
+    private static final String ROOT_ELEMENT = "todolist";
+    private static final String TASK_ELEMENT = "tasks";
+
     private static final Logger logger = LogsCenter.getLogger(XmlTodoListStorage.class);
 
     private Path filePath;
+    private final boolean skipInvalidRecords;
 
     public XmlTodoListStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for {@code filePath}.
+     * If {@code skipInvalidRecords} is true, reads skip and log invalid tasks instead of failing.
+     */
+    public XmlTodoListStorage(Path filePath, boolean skipInvalidRecords) {
         this.filePath = filePath;
+        this.skipInvalidRecords = skipInvalidRecords;
     }
 
     public Path getTodoListFilePath() {
@@ -43,8 +58,7 @@ public class XmlTodoListStorage implements TodoListStorage {
      * @param filePath location of the data. Cannot be null
      * @throws DataConversionException if the file is not in the correct format.
      */
-    public Optional<ReadOnlyTodoList> readTodoList(Path filePath) throws DataConversionException,
-            FileNotFoundException {
+    public Optional<ReadOnlyTodoList> readTodoList(Path filePath) throws DataConversionException, IOException {
         requireNonNull(filePath);
 
         if (!Files.exists(filePath)) {
@@ -52,13 +66,27 @@ public class XmlTodoListStorage implements TodoListStorage {
             return Optional.empty();
         }
 
-        XmlSerializableTodoList xmlTodoList = XmlFileStorage.loadTodoListDataFromSaveFile(filePath);
-        try {
-            return Optional.of(xmlTodoList.toModelType());
-        } catch (IllegalValueException ive) {
-            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
-            throw new DataConversionException(ive);
-        }
+        TodoList todoList = new TodoList();
+        XmlRecordReader reader = new XmlRecordReader(filePath, skipInvalidRecords);
+        reader.read(ROOT_ELEMENT, TASK_ELEMENT, XmlTodoListStorage::toTask, task -> {
+            if (todoList.hasTask(task)) {
+                throw new IllegalValueException(XmlSerializableTodoList.MESSAGE_DUPLICATE_TASK);
+            }
+            todoList.addTask(task);
+        });
+        logger.info(String.format("Read %d of %d tasks from %s", todoList.getTaskList().size(),
+                reader.getRecordCount(), filePath));
+        return Optional.of(todoList);
+    }
+
+    /**
+     * Converts one {@code <tasks>} element in the same way as {@link XmlAdaptedTask#toModelType()}.
+     */
+    private static Task toTask(XmlRecord record) throws IllegalValueException {
+        String status = record.get("status");
+        boolean isComplete = status != null && (status.trim().equals("true") || status.trim().equals("1"));
+        return new XmlAdaptedTask(record.get("name"), record.get("module"), record.get("date"),
+                record.get("priority"), isComplete).toModelType();
     }
 
     @Override
@@ -9,15 +9,21 @@ import javafx.application.Platform;
 import javafx.event.Event;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
 import javafx.scene.web.WebView;
 import seedu.address.MainApp;
+import seedu.address.commons.core.DispatchOn;
+import seedu.address.commons.core.DispatchThread;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.model.person.Person;
 
 /**
  * The Browser Panel of the App.
+ * Its page is shown in a {@code WebView} taken from the {@link WebViewPool} when the first page is loaded, which is
+ * once the panel is placed in a scene, and given back by {@link #freeResources()}.
  */
+@DispatchOn(DispatchThread.FX)
 public class BrowserPanel extends UiPart<Region> {
 
     public static final String DEFAULT_PAGE = "default.html";
@@ -25,11 +31,15 @@ public class BrowserPanel extends UiPart<Region> {
             "https://se-edu.github.io/addressbook-level4/DummySearchPage.html?name=";
 
     private static final String FXML = "BrowserPanel.fxml";
+    private static final String BROWSER_ID = "browser";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     @FXML
+    private StackPane browserPlaceholder;
+
     private WebView browser;
+    private boolean isFreed;
 
     public BrowserPanel() {
         super(FXML);
@@ -37,7 +47,11 @@ public class BrowserPanel extends UiPart<Region> {
         // To prevent triggering events for typing inside the loaded Web page.
         getRoot().setOnKeyPressed(Event::consume);
 
-        loadDefaultPage();
+        getRoot().sceneProperty().addListener((observable, oldScene, newScene) -> {
+            if (newScene != null && browser == null) {
+                loadDefaultPage();
+            }
+        });
         registerAsAnEventHandler(this);
     }
 
@@ -45,8 +59,11 @@ public class BrowserPanel extends UiPart<Region> {
         loadPage(SEARCH_PAGE_URL + person.getName().fullName);
     }
 
+    /**
+     * Loads the page at {@code url}, unless the browser's resources have been freed.
+     */
     public void loadPage(String url) {
-        Platform.runLater(() -> browser.getEngine().load(url));
+        Platform.runLater(() -> showPage(url));
     }
 
     /**
@@ -54,19 +71,39 @@ public class BrowserPanel extends UiPart<Region> {
      */
     private void loadDefaultPage() {
         URL defaultPage = MainApp.class.getResource(FXML_FILE_FOLDER + DEFAULT_PAGE);
-        loadPage(defaultPage.toExternalForm());
+        showPage(defaultPage.toExternalForm());
+    }
+
+    /**
+     * Loads the page at {@code url} into the browser, taking a {@code WebView} from the {@link WebViewPool} if this
+     * is the first page loaded, unless the browser's resources have been freed.
+     */
+    private void showPage(String url) {
+        if (isFreed) {
+            return;
+        }
+        if (browser == null) {
+            browser = WebViewPool.getInstance().acquire();
+            browser.setId(BROWSER_ID);
+            browserPlaceholder.getChildren().add(browser);
+        }
+        browser.getEngine().load(url);
     }
 
     /**
      * Frees resources allocated to the browser.
      */
     public void freeResources() {
-        browser = null;
+        isFreed = true;
+        if (browser != null) {
+            WebViewPool.getInstance().release(browser);
+            browser = null;
+        }
     }
 
     @Subscribe
     private void handlePersonPanelSelectionChangedEvent(PersonPanelSelectionChangedEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        LogsCenter.logEventHandled(logger, event);
         loadPersonPage(event.getNewSelection());
     }
 }
@@ -1,16 +1,19 @@
 package seedu.address.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.TextField;
+import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
+import seedu.address.logic.autocomplete.Completion;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -36,6 +39,13 @@ public class CommandBox extends UiPart<Region> {
         // calls #setStyleToDefault() whenever there is a change to the text of the command box.
         commandTextField.textProperty().addListener((unused1, unused2, unused3) -> setStyleToDefault());
         historySnapshot = logic.getHistorySnapshot();
+        // filtered rather than handled, as the text field moves the focus to the next control on tab otherwise
+        commandTextField.addEventFilter(KeyEvent.KEY_PRESSED, keyEvent -> {
+            if (keyEvent.getCode() == KeyCode.TAB) {
+                keyEvent.consume();
+                completeInput();
+            }
+        });
     }
 
     /**
@@ -86,6 +96,28 @@ public class CommandBox extends UiPart<Region> {
         replaceText(historySnapshot.next());
     }
 
+    /**
+     * Completes the part of the input before the caret with the only suggestion for it, or as far as all of the
+     * suggestions agree and shows them in the result display.
+     */
+    private void completeInput() {
+        String text = commandTextField.getText();
+        Completion completion = logic.getCompletion(text, commandTextField.getCaretPosition());
+        List<String> suggestions = completion.getSuggestions();
+        if (suggestions.isEmpty()) {
+            return;
+        }
+
+        String replacement = suggestions.size() == 1 ? suggestions.get(0) : completion.getCommonPrefix();
+        if (replacement.length() >= completion.getEnd() - completion.getStart()) {
+            commandTextField.setText(completion.applyTo(text, replacement));
+            commandTextField.positionCaret(completion.getStart() + replacement.length());
+        }
+        if (suggestions.size() > 1) {
+            raise(new NewResultAvailableEvent("Suggestions: " + String.join("   ", suggestions)));
+        }
+    }
+
     /**
      * Sets {@code CommandBox}'s text field with {@code text} and
      * positions the caret to the end of the {@code text}.
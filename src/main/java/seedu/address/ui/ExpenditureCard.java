@@ -22,7 +22,7 @@ public class ExpenditureCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Expenditure expenditure;
+    private Expenditure expenditure;
 
     @FXML
     private HBox expenditureCardPane;
@@ -38,17 +38,35 @@ public class ExpenditureCard extends UiPart<Region> {
     private Label money;
 
     public ExpenditureCard(Expenditure expenditure, int displayedIndex) {
+        this();
+        setExpenditure(expenditure, displayedIndex);
+    }
+
+    /**
+     * Creates a card that shows no expenditure until {@link #setExpenditure(Expenditure, int)} is called.
+     * The FXML is loaded here only, so that a list cell can reuse the card for other expenditures.
+     */
+    ExpenditureCard() {
         super(FXML);
+        // change the color of each description
+        description.setStyle("-fx-text-fill: #BC8F8F");
+    }
+
+    /**
+     * Shows {@code expenditure} as the {@code displayedIndex}-th expenditure of the list, replacing the expenditure
+     * shown before.
+     */
+    void setExpenditure(Expenditure expenditure, int displayedIndex) {
         this.expenditure = expenditure;
         id.setText(displayedIndex + ". ");
         description.setText(expenditure.getDescription().descriptionName);
         category.setText(expenditure.getCategory().categoryName);
         date.setText(expenditure.getDate().addingDate);
         money.setText(expenditure.getMoney().addingMoney);
+    }
 
-        // change the color of each description
-        description.setStyle("-fx-text-fill: #BC8F8F");
-
+    public Expenditure getExpenditure() {
+        return expenditure;
     }
 
 
@@ -5,12 +5,13 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.DispatchOn;
+import seedu.address.commons.core.DispatchThread;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.ExpenditurePanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.JumpToListRequestEvent;
@@ -19,6 +20,7 @@ import seedu.address.model.expenditureinfo.Expenditure;
 /**
  * Panel containing the list of expenditures.
  */
+@DispatchOn(DispatchThread.FX)
 public class ExpenditureListPanel extends UiPart<Region> {
     private static final String FXML = "ExpenditureListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(ExpenditureListPanel.class);
@@ -52,22 +54,23 @@ public class ExpenditureListPanel extends UiPart<Region> {
      * Scrolls to the {@code ExpenditureCard} at the {@code index} and selects it.
      */
     private void scrollTo(int index) {
-        Platform.runLater(() -> {
-            expenditureListView.scrollTo(index);
-            expenditureListView.getSelectionModel().clearAndSelect(index);
-        });
+        expenditureListView.scrollTo(index);
+        expenditureListView.getSelectionModel().clearAndSelect(index);
     }
 
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        LogsCenter.logEventHandled(logger, event);
         scrollTo(event.targetIndex);
     }
 
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Expenditure} using a {@code ExpenditureCard}.
+     * The cell creates its card once and shows each item it is given on that card.
      */
     class ExpenditureListViewCell extends ListCell<Expenditure> {
+        private ExpenditureCard expenditureCard;
+
         @Override
         protected void updateItem(Expenditure expenditure, boolean empty) {
             super.updateItem(expenditure, empty);
@@ -76,7 +79,11 @@ public class ExpenditureListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new ExpenditureCard(expenditure, getIndex() + 1).getRoot());
+                if (expenditureCard == null) {
+                    expenditureCard = new ExpenditureCard();
+                }
+                expenditureCard.setExpenditure(expenditure, getIndex() + 1);
+                setGraphic(expenditureCard.getRoot());
             }
         }
     }
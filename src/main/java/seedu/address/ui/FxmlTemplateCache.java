@@ -0,0 +1,133 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps what {@code FXMLLoader} would otherwise redo for every {@link UiPart} built from the same FXML document:
+ * the document itself, read from the classpath once, and the classes its imports resolve to, including the
+ * misses from wildcard imports.
+ * Also records how long the documents take to load, so that the contribution of each UI part to startup is known.
+ */
+class FxmlTemplateCache {
+
+    private static final FxmlTemplateCache instance = new FxmlTemplateCache(UiPart.class.getClassLoader());
+
+    private final Map<String, byte[]> documents = new ConcurrentHashMap<>();
+    private final Map<String, LoadTime> loadTimes = new ConcurrentHashMap<>();
+    private final ClassLoader classLoader;
+
+    FxmlTemplateCache(ClassLoader parent) {
+        classLoader = new CachingClassLoader(parent);
+    }
+
+    static FxmlTemplateCache getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns a stream of the FXML document at {@code location}, which is only read the first time it is asked for.
+     * @throws IOException if the document cannot be read.
+     */
+    InputStream openDocument(URL location) throws IOException {
+        requireNonNull(location);
+        String key = location.toExternalForm();
+        byte[] document = documents.get(key);
+        if (document == null) {
+            try (InputStream stream = location.openStream()) {
+                document = stream.readAllBytes();
+            }
+            documents.put(key, document);
+        }
+        return new ByteArrayInputStream(document);
+    }
+
+    /**
+     * Returns the class loader that FXML documents should resolve their classes with.
+     */
+    ClassLoader getClassLoader() {
+        return classLoader;
+    }
+
+    /**
+     * Records that loading the FXML document at {@code location} took {@code nanos} nanoseconds.
+     */
+    void recordLoad(URL location, long nanos) {
+        loadTimes.computeIfAbsent(getFileName(location), unused -> new LoadTime()).add(nanos);
+    }
+
+    /**
+     * Returns the load times recorded for each FXML file, slowest first.
+     */
+    Map<String, LoadTime> getLoadTimes() {
+        Map<String, LoadTime> sorted = new LinkedHashMap<>();
+        loadTimes.entrySet().stream()
+                .sorted((first, second) -> Long.compare(second.getValue().getTotalNanos(),
+                        first.getValue().getTotalNanos()))
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private static String getFileName(URL location) {
+        String path = location.getPath();
+        return path.substring(path.lastIndexOf('/') + 1);
+    }
+
+    /**
+     * The number of times an FXML document was loaded and the total time taken.
+     */
+    static class LoadTime {
+        private int count;
+        private long totalNanos;
+
+        synchronized void add(long nanos) {
+            count++;
+            totalNanos += nanos;
+        }
+
+        synchronized int getCount() {
+            return count;
+        }
+
+        synchronized long getTotalNanos() {
+            return totalNanos;
+        }
+
+        @Override
+        public synchronized String toString() {
+            return String.format("%d ms over %d load(s)", TimeUnit.NANOSECONDS.toMillis(totalNanos), count);
+        }
+    }
+
+    /**
+     * Remembers the outcome of every class lookup, so that each import of every FXML document is resolved once.
+     */
+    private static class CachingClassLoader extends ClassLoader {
+        private final Map<String, Optional<Class<?>>> classes = new ConcurrentHashMap<>();
+
+        CachingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            Optional<Class<?>> loaded = classes.computeIfAbsent(name, unused -> {
+                try {
+                    return Optional.of(getParent().loadClass(name));
+                } catch (ClassNotFoundException e) {
+                    return Optional.empty();
+                }
+            });
+            return loaded.orElseThrow(() -> new ClassNotFoundException(name));
+        }
+    }
+}
@@ -3,12 +3,14 @@ package seedu.address.ui;
 import java.util.logging.Logger;
 
 import javafx.fxml.FXML;
+import javafx.scene.layout.StackPane;
 import javafx.scene.web.WebView;
 import javafx.stage.Stage;
 import seedu.address.commons.core.LogsCenter;
 
 /**
- * Controller for a help page
+ * Controller for a help page.
+ * The page is only loaded while the window is showing, in a {@code WebView} taken from the {@link WebViewPool}.
  */
 public class HelpWindow extends UiPart<Stage> {
 
@@ -16,8 +18,11 @@ public class HelpWindow extends UiPart<Stage> {
 
     private static final Logger logger = LogsCenter.getLogger(HelpWindow.class);
     private static final String FXML = "HelpWindow.fxml";
+    private static final String BROWSER_ID = "browser";
 
     @FXML
+    private StackPane browserPlaceholder;
+
     private WebView browser;
 
     /**
@@ -28,8 +33,8 @@ public class HelpWindow extends UiPart<Stage> {
     public HelpWindow(Stage root) {
         super(FXML, root);
 
-        String userGuideUrl = getClass().getResource(USERGUIDE_FILE_PATH).toString();
-        browser.getEngine().load(userGuideUrl);
+        root.setOnShowing(event -> loadUserGuide());
+        root.setOnHidden(event -> releaseBrowser());
     }
 
     /**
@@ -75,4 +80,26 @@ public class HelpWindow extends UiPart<Stage> {
     public void focus() {
         getRoot().requestFocus();
     }
+
+    /**
+     * Loads the user guide into a {@code WebView} from the {@link WebViewPool}, unless it is already loaded.
+     */
+    private void loadUserGuide() {
+        if (browser != null) {
+            return;
+        }
+        browser = WebViewPool.getInstance().acquire();
+        browser.setId(BROWSER_ID);
+        browserPlaceholder.getChildren().add(browser);
+
+        String userGuideUrl = getClass().getResource(USERGUIDE_FILE_PATH).toString();
+        browser.getEngine().load(userGuideUrl);
+    }
+
+    private void releaseBrowser() {
+        if (browser != null) {
+            WebViewPool.getInstance().release(browser);
+            browser = null;
+        }
+    }
 }
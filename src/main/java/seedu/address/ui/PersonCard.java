@@ -22,7 +22,7 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
+    private Person person;
 
     @FXML
     private HBox cardPane;
@@ -40,16 +40,36 @@ public class PersonCard extends UiPart<Region> {
     private FlowPane tags;
 
     public PersonCard(Person person, int displayedIndex) {
+        this();
+        setPerson(person, displayedIndex);
+    }
+
+    /**
+     * Creates a card that shows no person until {@link #setPerson(Person, int)} is called.
+     * The FXML is loaded here only, so that a list cell can reuse the card for other persons.
+     */
+    PersonCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code person} as the {@code displayedIndex}-th person of the list, replacing the person shown before.
+     */
+    void setPerson(Person person, int displayedIndex) {
         this.person = person;
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         email.setText(person.getEmail().value);
+        tags.getChildren().clear();
         person.getTags().forEach(tag -> tags.getChildren().add(new Label(tag.tagName)));
     }
 
+    public Person getPerson() {
+        return person;
+    }
+
     @Override
     public boolean equals(Object other) {
         // short circuit if same object
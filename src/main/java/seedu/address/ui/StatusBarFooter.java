@@ -10,15 +10,17 @@ import org.controlsfx.control.StatusBar;
 
 import com.google.common.eventbus.Subscribe;
 
-import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.DispatchOn;
+import seedu.address.commons.core.DispatchThread;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 
 /**
  * A ui for the status bar that is displayed at the footer of the application.
  */
+@DispatchOn(DispatchThread.FX)
 public class StatusBarFooter extends UiPart<Region> {
 
     public static final String SYNC_STATUS_INITIAL = "Not updated yet in this session";
@@ -66,18 +68,18 @@ public class StatusBarFooter extends UiPart<Region> {
     }
 
     private void setSaveLocation(String location) {
-        Platform.runLater(() -> saveLocationStatus.setText(location));
+        saveLocationStatus.setText(location);
     }
 
     private void setSyncStatus(String status) {
-        Platform.runLater(() -> syncStatus.setText(status));
+        syncStatus.setText(status);
     }
 
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent abce) {
         long now = clock.millis();
         String lastUpdated = new Date(now).toString();
-        logger.info(LogsCenter.getEventHandlingLogMessage(abce, "Setting last updated status to " + lastUpdated));
+        LogsCenter.logEventHandled(logger, abce, "Setting last updated status");
         setSyncStatus(String.format(SYNC_STATUS_UPDATED, lastUpdated));
     }
 }
@@ -4,6 +4,8 @@ package seedu.address.ui;
 import javafx.fxml.FXML;
 import javafx.scene.control.Label;
 import javafx.scene.layout.Region;
+import seedu.address.model.task.DeadlineStatus;
+import seedu.address.model.task.DeadlineStatusService;
 import seedu.address.model.task.Task;
 
 /**
@@ -21,7 +23,7 @@ public class TaskCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Task task;
+    private Task task;
 
     //@FXML
     //private HBox cardPane;
@@ -39,7 +41,22 @@ public class TaskCard extends UiPart<Region> {
     private Label taskstate;
 
     public TaskCard(Task task, int displayedIndex) {
+        this();
+        setTask(task, displayedIndex);
+    }
+
+    /**
+     * Creates a card that shows no task until {@link #setTask(Task, int)} is called.
+     * The FXML is loaded here only, so that a list cell can reuse the card for other tasks.
+     */
+    TaskCard() {
         super(FXML);
+    }
+
+    /**
+     * Shows {@code task} as the {@code displayedIndex}-th task of the list, replacing the task shown before.
+     */
+    void setTask(Task task, int displayedIndex) {
         this.task = task;
         id.setText(displayedIndex + ". ");
         taskname.setText(task.getName().fullName);
@@ -52,32 +69,16 @@ public class TaskCard extends UiPart<Region> {
             taskstate.setStyle("-fx-text-fill: #c05d61");
         }
 
-        int notification = task.notification();
-
-        // deadline of task has passed or will come within 7 days
-        if (notification != 0) {
-            //deadline of task has passed
-            if (notification == -1) {
-                //task is marked as "uncompleted"
-                if (!task.getComplete()) {
-                    id.setStyle("-fx-text-fill: #c05d61");
-                    taskname.setStyle("-fx-text-fill: #c05d61");
-                    taskdate.setStyle("-fx-text-fill: #c05d61");
-                    taskmodule.setStyle("-fx-text-fill: #c05d61");
-                    taskpriority.setStyle("-fx-text-fill: #c05d61");
-                }
-            } else { //task will come within 7 days
-                //task is marked as uncompleted
-                if (!task.getComplete()) {
-                    id.setStyle("-fx-text-fill: #fbf8af");
-                    taskname.setStyle("-fx-text-fill: #fbf8af");
-                    taskdate.setStyle("-fx-text-fill: #fbf8af");
-                    taskmodule.setStyle("-fx-text-fill: #fbf8af");
-                    taskpriority.setStyle("-fx-text-fill: #fbf8af");
-                }
-            }
-        }
+        DeadlineStatus deadlineStatus = DeadlineStatusService.getInstance().getStatus(task);
 
+        // deadline of task has passed or will come within 7 days, and the task is marked as "uncompleted"
+        if (deadlineStatus == DeadlineStatus.OVERDUE && !task.getComplete()) {
+            setDetailsStyle("-fx-text-fill: #c05d61");
+        } else if (deadlineStatus == DeadlineStatus.DUE_SOON && !task.getComplete()) {
+            setDetailsStyle("-fx-text-fill: #fbf8af");
+        } else {
+            setDetailsStyle("");
+        }
 
         if (task.getPriority().value.equals("1")) {
             taskpriority.setText("High priority (1)");
@@ -92,11 +93,18 @@ public class TaskCard extends UiPart<Region> {
         } else {
             taskstate.setText("Status: Uncompleted");
         }
+    }
+
+    public Task getTask() {
+        return task;
+    }
 
-        /**
-         * Modify color based on intervals between the deadline of the task and current time
-         * Testing feature
-         */
+    private void setDetailsStyle(String style) {
+        id.setStyle(style);
+        taskname.setStyle(style);
+        taskdate.setStyle(style);
+        taskmodule.setStyle(style);
+        taskpriority.setStyle(style);
     }
 
     @Override
@@ -3,18 +3,24 @@ package seedu.address.ui;
 
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
 import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
+import seedu.address.commons.core.DispatchOn;
+import seedu.address.commons.core.DispatchThread;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.DayChangedEvent;
 import seedu.address.commons.events.ui.TaskPanelSelectionChangedEvent;
 import seedu.address.model.task.Task;
 
 /**
  * Panel containing the list of tasks.
  */
+@DispatchOn(DispatchThread.FX)
 public class TaskListPanel extends UiPart<Region> {
     private static final String FXML = "TaskListPanel.fxml";
     private final Logger logger = LogsCenter.getLogger(TaskListPanel.class);
@@ -44,29 +50,37 @@ public class TaskListPanel extends UiPart<Region> {
                 });
     }
 
+    @Subscribe
+    private void handleDayChangedEvent(DayChangedEvent event) {
+        LogsCenter.logEventHandled(logger, event);
+        // the deadline status shown on each card may have changed
+        taskListView.refresh();
+    }
+
     /**
      * Scrolls to the {@code TaskCard} at the {@code index} and selects it.
      */
     /*
     private void scrollTo(int index) {
-        Platform.runLater(() -> {
-            taskListView.scrollTo(index);
-            taskListView.getSelectionModel().clearAndSelect(index);
-        });
+        taskListView.scrollTo(index);
+        taskListView.getSelectionModel().clearAndSelect(index);
     }
     */
     //uncomment after finishing the test part for TDL
     /*
     @Subscribe
     private void handleJumpToListRequestEvent(JumpToListRequestEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        LogsCenter.logEventHandled(logger, event);
         scrollTo(event.targetIndex);
     }
     */
     /**
      * Custom {@code ListCell} that displays the graphics of a {@code Task} using a {@code TaskCard}.
+     * The cell creates its card once and shows each item it is given on that card.
      */
     class TaskListViewCell extends ListCell<Task> {
+        private TaskCard taskCard;
+
         @Override
         protected void updateItem(Task task, boolean empty) {
             super.updateItem(task, empty);
@@ -75,7 +89,11 @@ public class TaskListPanel extends UiPart<Region> {
                 setGraphic(null);
                 setText(null);
             } else {
-                setGraphic(new TaskCard(task, getIndex() + 1).getRoot());
+                if (taskCard == null) {
+                    taskCard = new TaskCard();
+                }
+                taskCard.setTask(task, getIndex() + 1);
+                setGraphic(taskCard.getRoot());
             }
         }
     }
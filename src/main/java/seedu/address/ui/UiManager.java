@@ -1,5 +1,6 @@
 package seedu.address.ui;
 
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,6 +13,9 @@ import javafx.stage.Stage;
 import seedu.address.MainApp;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DispatchOn;
+import seedu.address.commons.core.DispatchThread;
+import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.util.StringUtil;
@@ -21,6 +25,7 @@ import seedu.address.model.UserPrefs;
 /**
  * The manager of the UI component.
  */
+@DispatchOn(DispatchThread.FX)
 public class UiManager extends ComponentManager implements Ui {
 
     public static final String ALERT_DIALOG_PANE_FIELD_ID = "alertDialogPane";
@@ -52,10 +57,19 @@ public class UiManager extends ComponentManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
+            long start = System.nanoTime();
             mainWindow = new MainWindow(primaryStage, config, prefs, logic);
+            logger.info(String.format("Created main window in %d ms", elapsedMillisSince(start)));
+
+            start = System.nanoTime();
             mainWindow.show(); //This should be called before creating other UI parts
+            logger.info(String.format("Showed main window in %d ms", elapsedMillisSince(start)));
+
+            start = System.nanoTime();
             mainWindow.fillInnerParts();
+            logger.info(String.format("Filled inner parts in %d ms", elapsedMillisSince(start)));
 
+            logFxmlLoadTimes();
         } catch (Throwable e) {
             logger.severe(StringUtil.getDetails(e));
             showFatalErrorDialogAndShutdown("Fatal error during initializing", e);
@@ -69,6 +83,18 @@ public class UiManager extends ComponentManager implements Ui {
         mainWindow.releaseResources();
     }
 
+    /**
+     * Logs how long each FXML document has taken to load so far, slowest first.
+     */
+    private void logFxmlLoadTimes() {
+        FxmlTemplateCache.getInstance().getLoadTimes().forEach((fileName, loadTime) ->
+                logger.info("Loaded " + fileName + ": " + loadTime));
+    }
+
+    private static long elapsedMillisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
     private void showFileOperationAlertAndWait(String description, String details, Throwable cause) {
         final String content = details + ":\n" + cause.toString();
         showAlertDialogAndWait(AlertType.ERROR, FILE_OPS_ERROR_DIALOG_STAGE_TITLE, description, content);
@@ -104,6 +130,7 @@ public class UiManager extends ComponentManager implements Ui {
      */
     private void showFatalErrorDialogAndShutdown(String title, Throwable e) {
         logger.severe(title + " " + e.getMessage() + StringUtil.getDetails(e));
+        EventsCenter.getInstance().dumpRecentEvents();
         showAlertDialogAndWait(Alert.AlertType.ERROR, title, e.getMessage(), e.toString());
         Platform.exit();
         System.exit(1);
@@ -113,7 +140,13 @@ public class UiManager extends ComponentManager implements Ui {
 
     @Subscribe
     private void handleDataSavingExceptionEvent(DataSavingExceptionEvent event) {
-        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        LogsCenter.logEventHandled(logger, event);
+        // Saves may fail on the storage writer thread, but dialogs can only be shown on the JavaFX thread.
+        if (!Platform.isFxApplicationThread()) {
+            Platform.runLater(() -> handleDataSavingExceptionEvent(event));
+            return;
+        }
+        EventsCenter.getInstance().dumpRecentEvents();
         showFileOperationAlertAndWait(FILE_OPS_ERROR_DIALOG_HEADER_MESSAGE, FILE_OPS_ERROR_DIALOG_CONTENT_MESSAGE,
                 event.exception);
     }
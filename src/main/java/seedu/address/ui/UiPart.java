@@ -3,6 +3,7 @@ package seedu.address.ui;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
@@ -78,19 +79,24 @@ public abstract class UiPart<T> {
 
     /**
      * Loads the object hierarchy from a FXML document.
+     * The document and the classes it refers to are taken from the {@link FxmlTemplateCache}.
      * @param location Location of the FXML document.
      * @param root Specifies the root of the object hierarchy.
      */
     private void loadFxmlFile(URL location, T root) {
         requireNonNull(location);
+        long start = System.nanoTime();
+        FxmlTemplateCache templateCache = FxmlTemplateCache.getInstance();
         fxmlLoader.setLocation(location);
+        fxmlLoader.setClassLoader(templateCache.getClassLoader());
         fxmlLoader.setController(this);
         fxmlLoader.setRoot(root);
-        try {
-            fxmlLoader.load();
+        try (InputStream document = templateCache.openDocument(location)) {
+            fxmlLoader.load(document);
         } catch (IOException e) {
             throw new AssertionError(e);
         }
+        templateCache.recordLoad(location, System.nanoTime() - start);
     }
 
     /**
@@ -0,0 +1,72 @@
+package seedu.address.ui;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.logging.Logger;
+
+import javafx.scene.Parent;
+import javafx.scene.layout.Pane;
+import javafx.scene.web.WebView;
+import seedu.address.commons.core.LogsCenter;
+
+/**
+ * Hands out the {@link WebView}s that web-backed UI parts show their pages in.
+ * No {@code WebView}, and so no WebKit engine, is created until a UI part first asks for one.
+ * A released {@code WebView} is cleared and kept for the next UI part that asks, so that UI parts which are not
+ * shown at the same time share a single {@code WebView}. At most one idle {@code WebView} is kept; any other is
+ * left to be collected, so that hiding a UI part frees the memory of its page and engine.
+ * All methods must be called on the JavaFX Application Thread.
+ */
+class WebViewPool {
+
+    private static final Logger logger = LogsCenter.getLogger(WebViewPool.class);
+    private static final WebViewPool instance = new WebViewPool();
+
+    private WebView idleWebView;
+    private int createdCount;
+
+    static WebViewPool getInstance() {
+        return instance;
+    }
+
+    /**
+     * Returns an idle {@code WebView}, creating one if there is none.
+     * The {@code WebView} should be given back with {@link #release(WebView)} once it is no longer shown.
+     */
+    WebView acquire() {
+        WebView webView = idleWebView;
+        idleWebView = null;
+        if (webView == null) {
+            webView = new WebView();
+            createdCount++;
+            logger.fine("Created WebView " + createdCount);
+        }
+        return webView;
+    }
+
+    /**
+     * Takes {@code webView} off the UI part showing it and unloads its page, keeping it for the next
+     * {@link #acquire()} unless an idle {@code WebView} is already kept.
+     */
+    void release(WebView webView) {
+        requireNonNull(webView);
+        Parent parent = webView.getParent();
+        if (parent instanceof Pane) {
+            ((Pane) parent).getChildren().remove(webView);
+        }
+        webView.setId(null);
+        webView.getEngine().loadContent("");
+        if (idleWebView == null) {
+            idleWebView = webView;
+        } else {
+            logger.fine("Discarded a released WebView, as one is already idle");
+        }
+    }
+
+    /**
+     * Returns the number of {@code WebView}s created so far.
+     */
+    int getCreatedCount() {
+        return createdCount;
+    }
+}
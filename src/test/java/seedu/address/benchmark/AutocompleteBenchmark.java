@@ -0,0 +1,83 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.autocomplete.Autocompleter;
+import seedu.address.logic.autocomplete.CompletionTrie;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.task.Task;
+
+/**
+ * Measures the time taken to suggest completions for one keystroke, from 200k distinct terms by scanning them all
+ * and by looking them up in a {@code CompletionTrie}, and the time taken to complete a command with an
+ * {@code Autocompleter} over 100k tasks and 100k expenditures.
+ */
+public class AutocompleteBenchmark {
+
+    private static final int TERM_COUNT = 200_000;
+    private static final int RECORD_COUNT = 100_000;
+    private static final int WARMUPS = 2_000;
+    private static final int ITERATIONS = 20_000;
+    private static final String[] WORDS = {"lunch", "dinner", "coffee", "book", "bus", "taxi", "lecture", "quiz",
+        "assignment", "lab", "report", "tutorial", "project", "essay", "webcast", "revision"};
+    /** What is typed, one keystroke at a time, and a typo. */
+    private static final String[] PREFIXES = {"l", "lu", "lun", "lunc", "lunch", "lunch ", "lunch q", "lunch qu",
+        "lunch quiz", "lunch quiz 1", "lunch quiz 12", "lnuch"};
+    private static final String[] COMMANDS = {"T", "TDL_a", "TDL_add t/Lab 3 m/CS", "TDL_add t/Lab 3 m/CS10",
+        "ET_add e/lunch q", "ET_add e/lunch quiz c/F", "ET_add e/lunch quiz c/Food m/3 d"};
+
+    private static int next;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        List<String> terms = new ArrayList<>(TERM_COUNT);
+        CompletionTrie trie = new CompletionTrie();
+        for (int i = 0; i < TERM_COUNT; i++) {
+            String term = WORDS[i % WORDS.length] + " " + WORDS[(i / WORDS.length) % WORDS.length] + " " + i;
+            terms.add(term);
+            for (int count = 0; count <= i % 3; count++) {
+                trie.add(term);
+            }
+        }
+
+        Benchmark.run("suggest from 200k terms, scan", WARMUPS / 10, ITERATIONS / 100, () ->
+                scan(terms, PREFIXES[next++ % PREFIXES.length]));
+        Benchmark.run("suggest from 200k terms, trie", WARMUPS, ITERATIONS, () ->
+                trie.complete(PREFIXES[next++ % PREFIXES.length], Autocompleter.MAX_SUGGESTIONS));
+        Benchmark.run("add and remove a term, trie", WARMUPS, ITERATIONS, () -> {
+            String term = terms.get(next++ % TERM_COUNT) + "b";
+            trie.add(term);
+            trie.remove(term);
+        });
+
+        ObservableList<Task> tasks = FXCollections.observableArrayList(BenchmarkData.tasks(RECORD_COUNT));
+        ObservableList<Expenditure> expenditures =
+                FXCollections.observableArrayList(BenchmarkData.expenditures(RECORD_COUNT));
+        Autocompleter autocompleter = new Autocompleter(new AddressBookParser().getCommandWords(),
+                CliSyntax.ALL_PREFIXES, tasks, expenditures);
+        Benchmark.run("complete command, 100k tasks and expenditures", WARMUPS, ITERATIONS, () -> {
+            String command = COMMANDS[next++ % COMMANDS.length];
+            autocompleter.complete(command, command.length());
+        });
+    }
+
+    /**
+     * Suggests completions as the trie does, but by checking every term.
+     */
+    private static List<String> scan(List<String> terms, String prefix) {
+        return terms.stream()
+                .filter(term -> term.regionMatches(true, 0, prefix, 0, prefix.length()))
+                .sorted(Comparator.comparingInt(String::length).thenComparing(Comparator.naturalOrder()))
+                .limit(Autocompleter.MAX_SUGGESTIONS)
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,80 @@
+package seedu.address.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+
+import com.sun.management.ThreadMXBean;
+
+/**
+ * A minimal harness for the micro-benchmarks in this package.
+ * Each benchmark is a class with a {@code main} method, and can be run with
+ * {@code gradlew benchmark -Pbenchmark=<class name>}.
+ */
+public class Benchmark {
+
+    private static final ThreadMXBean threadBean = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private Benchmark() {} // prevents instantiation
+
+    /**
+     * Runs {@code workload} {@code warmups} times without measuring, then {@code iterations} times while measuring
+     * the wall-clock time and the bytes allocated by the current thread, and prints a summary line.
+     */
+    public static Result run(String name, int warmups, int iterations, Workload workload) throws Exception {
+        for (int i = 0; i < warmups; i++) {
+            workload.run();
+        }
+
+        long[] nanos = new long[iterations];
+        long allocatedBefore = getAllocatedBytes();
+        for (int i = 0; i < iterations; i++) {
+            long start = System.nanoTime();
+            workload.run();
+            nanos[i] = System.nanoTime() - start;
+        }
+        long allocated = getAllocatedBytes() - allocatedBefore;
+
+        Result result = new Result(name, nanos, allocated / iterations);
+        System.out.println(result);
+        return result;
+    }
+
+    private static long getAllocatedBytes() {
+        return threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The code being measured.
+     */
+    @FunctionalInterface
+    public interface Workload {
+        void run() throws Exception;
+    }
+
+    /**
+     * The measurements of one benchmark.
+     */
+    public static class Result {
+        public final String name;
+        public final double meanMillis;
+        public final double medianMillis;
+        public final double p99Millis;
+        public final long bytesPerIteration;
+
+        Result(String name, long[] nanos, long bytesPerIteration) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            this.name = name;
+            this.meanMillis = Arrays.stream(sorted).average().orElse(0) / 1e6;
+            this.medianMillis = sorted[sorted.length / 2] / 1e6;
+            this.p99Millis = sorted[Math.min(sorted.length - 1, (int) (sorted.length * 0.99))] / 1e6;
+            this.bytesPerIteration = bytesPerIteration;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-50s mean %10.4f ms   median %10.4f ms   p99 %10.4f ms   %,14d B/op",
+                    name, meanMillis, medianMillis, p99Millis, bytesPerIteration);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.ExpenditureTracker;
+import seedu.address.model.TodoList;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.ExpenditureBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Generates large, deterministic data sets for the benchmarks.
+ */
+public class BenchmarkData {
+
+    private static final String[] CATEGORIES = {"Food", "Drink", "Clothing", "Electronics", "Travels", "Study"};
+    private static final String[] WORDS = {"lunch", "dinner", "coffee", "book", "bus", "taxi", "lecture", "quiz",
+        "assignment", "lab", "report", "tutorial", "project", "essay", "webcast", "revision"};
+
+    private BenchmarkData() {} // prevents instantiation
+
+    /**
+     * Returns {@code count} distinct tasks spread over the whole year and over 100 modules.
+     */
+    public static List<Task> tasks(int count) {
+        List<Task> tasks = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tasks.add(new TaskBuilder()
+                    .withName(words(i) + " " + i)
+                    .withModule(String.format("CS%04d", 1000 + i % 100))
+                    .withDate(String.format("%02d-%02d", 1 + i % 28, 1 + (i / 28) % 12))
+                    .withPriority(String.valueOf(1 + i % 3))
+                    .build());
+        }
+        return tasks;
+    }
+
+    /**
+     * Returns {@code count} expenditures spread over the ten years from 2009 onwards.
+     */
+    public static List<Expenditure> expenditures(int count) {
+        List<Expenditure> expenditures = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            expenditures.add(new ExpenditureBuilder()
+                    .withDescription(words(i))
+                    .withCategory(CATEGORIES[i % CATEGORIES.length])
+                    .withDate(String.format("%02d-%02d-%04d", 1 + i % 28, 1 + (i / 28) % 12, 2009 + i % 10))
+                    .withMoney(String.format("%d.%02d", i % 200, i % 100))
+                    .build());
+        }
+        return expenditures;
+    }
+
+    /**
+     * Returns a {@code TodoList} holding {@link #tasks(int)}.
+     */
+    public static TodoList todoList(int count) {
+        TodoList todoList = new TodoList();
+        todoList.setTasks(tasks(count));
+        return todoList;
+    }
+
+    /**
+     * Returns an {@code ExpenditureTracker} holding {@link #expenditures(int)}.
+     */
+    public static ExpenditureTracker expenditureTracker(int count) {
+        ExpenditureTracker expenditureTracker = new ExpenditureTracker();
+        expenditureTracker.setExpenditures(expenditures(count));
+        return expenditureTracker;
+    }
+
+    private static String words(int seed) {
+        return WORDS[seed % WORDS.length] + " " + WORDS[(seed / WORDS.length) % WORDS.length];
+    }
+}
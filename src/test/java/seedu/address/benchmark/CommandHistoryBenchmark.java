@@ -0,0 +1,86 @@
+package seedu.address.benchmark;
+
+import java.io.BufferedWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.ListElementPointer;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.ModelManager;
+import seedu.address.storage.TextCommandHistoryStorage;
+
+/**
+ * Measures the work done for the command history after each command, by copying the whole history twice (as
+ * {@code CommandHistory} and {@code LogicManager} used to do) and by taking a snapshot of it, and the time taken to
+ * read the most recent commands from a history file, by reading every line and by scanning the mapped file backwards.
+ * The file is trimmed when it is read, so it is at most about twice as long as needed after the first read.
+ */
+public class CommandHistoryBenchmark {
+
+    private static final int CAPACITY = CommandHistory.DEFAULT_CAPACITY;
+    private static final int WARMUPS = 2_000;
+    private static final int ITERATIONS = 20_000;
+    private static final int FILE_WARMUPS = 50;
+    private static final int FILE_ITERATIONS = 500;
+    private static final int LONG_FILE_LINES = 1_000_000;
+    private static final String COMMAND = "TDL_add t/Lab 3 m/CS2113 d/01-11 p/1";
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        LinkedList<String> unboundedHistory = new LinkedList<>();
+        for (int i = 0; i < CAPACITY; i++) {
+            unboundedHistory.add(COMMAND);
+        }
+        Benchmark.run("command then history snapshot, 1000 entries, copied", WARMUPS, ITERATIONS, () -> {
+            unboundedHistory.add(COMMAND);
+            unboundedHistory.removeFirst();
+            ListElementPointer pointer = new ListElementPointer(new LinkedList<>(unboundedHistory));
+            pointer.add("");
+        });
+
+        CommandHistory history = new CommandHistory(CAPACITY);
+        Logic logic = new LogicManager(new ModelManager(), history);
+        for (int i = 0; i < CAPACITY; i++) {
+            history.add(COMMAND);
+        }
+        Benchmark.run("command then history snapshot, 1000 entries, shared", WARMUPS, ITERATIONS, () -> {
+            history.add(COMMAND);
+            logic.getHistorySnapshot().add("");
+        });
+
+        // The largest file that is not trimmed on reading
+        Path filePath = Files.createTempFile("commandhistory", ".txt");
+        filePath.toFile().deleteOnExit();
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 2 * CAPACITY; i++) {
+                writer.write(COMMAND + " " + i + "\n");
+            }
+        }
+        Benchmark.run("read 1000 of 2000 commands, all lines", FILE_WARMUPS, FILE_ITERATIONS, () -> {
+            List<String> lines = Files.readAllLines(filePath, StandardCharsets.UTF_8);
+            new ArrayList<>(lines.subList(lines.size() - CAPACITY, lines.size()));
+        });
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        Benchmark.run("read 1000 of 2000 commands, mapped", FILE_WARMUPS, FILE_ITERATIONS, () ->
+                storage.readCommandHistory(CAPACITY));
+
+        // A long history file, as left by an older version, is read once before it is trimmed
+        try (BufferedWriter writer = Files.newBufferedWriter(filePath, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < LONG_FILE_LINES; i++) {
+                writer.write(COMMAND + " " + i + "\n");
+            }
+        }
+        Benchmark.run("read 1000 of 1M commands once, all lines", 0, 1, () ->
+                Files.readAllLines(filePath, StandardCharsets.UTF_8));
+        Benchmark.run("read 1000 of 1M commands once, mapped", 0, 1, () ->
+                storage.readCommandHistory(CAPACITY));
+    }
+}
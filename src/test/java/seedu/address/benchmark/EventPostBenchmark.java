@@ -0,0 +1,62 @@
+package seedu.address.benchmark;
+
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.EventBus;
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.TodoListChangedEvent;
+import seedu.address.model.TodoList;
+
+/**
+ * Measures the cost of posting an event to a handler that logs it, with the posted and handled events formatted
+ * for the log at {@code INFO} level (as {@code EventsCenter} and the handlers used to do), and with the event
+ * recorded in the trace and logged only at {@code FINE} level.
+ */
+public class EventPostBenchmark {
+
+    private static final int WARMUPS = 10_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static final Logger logger = LogsCenter.getLogger(EventPostBenchmark.class);
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        TodoList todoList = BenchmarkData.todoList(10_000);
+        TodoListChangedEvent event = new TodoListChangedEvent(todoList);
+        // the formatted messages are not written out, so that only their formatting is measured
+        logger.setFilter(record -> false);
+
+        EventBus eventBus = new EventBus();
+        eventBus.register(new EagerHandler());
+        Benchmark.run("post event, eager INFO formatting", WARMUPS, ITERATIONS, () -> {
+            logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
+            eventBus.post(event);
+        });
+
+        EventsCenter eventsCenter = EventsCenter.getInstance();
+        eventsCenter.setTraceSampleInterval(0);
+        eventsCenter.registerHandler(new TracedHandler());
+        Benchmark.run("post event, traced", WARMUPS, ITERATIONS, () -> eventsCenter.post(event));
+    }
+
+    /** Logs every event it handles at {@code INFO} level. */
+    private static class EagerHandler {
+        @Subscribe
+        public void handleTodoListChangedEvent(TodoListChangedEvent event) {
+            logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        }
+    }
+
+    /** Logs every event it handles at {@code FINE} level. */
+    private static class TracedHandler {
+        @Subscribe
+        public void handleTodoListChangedEvent(TodoListChangedEvent event) {
+            LogsCenter.logEventHandled(logger, event);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.ExpenditureTracker;
+import seedu.address.model.TodoList;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.expenditureinfo.ExpenditureNameContainsKeywordsPredicate;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
+
+/**
+ * Measures finding the records of a list of 100k records for a two-keyword search, by testing the keyword predicate
+ * on every record (as a {@code FilteredList} does) and by merging the records filed under the keywords in the keyword
+ * index, as the model does.
+ */
+public class FindBenchmark {
+
+    private static final int RECORD_COUNT = 100_000;
+    private static final int WARMUPS = 5;
+    private static final int ITERATIONS = 20;
+    /** Found in about a quarter of the records. */
+    private static final List<String> KEYWORDS = Arrays.asList("Quiz", "lab");
+    /** Found in a single record, as the number in its name. */
+    private static final List<String> RARE_KEYWORDS = Collections.singletonList("4242");
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        TodoList todoList = BenchmarkData.todoList(RECORD_COUNT);
+        List<Task> tasks = todoList.getTaskList();
+        Benchmark.run("find in 100k tasks, words of every name", WARMUPS, ITERATIONS, () ->
+                countMatches(tasks, new TaskNameContainsKeywordsPredicate(KEYWORDS)));
+        Benchmark.run("find in 100k tasks, keyword index", WARMUPS, ITERATIONS, () ->
+                todoList.getTasksWithNameMatchingAny(KEYWORDS).size());
+        Benchmark.run("find one of 100k tasks, words of every name", WARMUPS, ITERATIONS, () ->
+                countMatches(tasks, new TaskNameContainsKeywordsPredicate(RARE_KEYWORDS)));
+        Benchmark.run("find one of 100k tasks, keyword index", WARMUPS, ITERATIONS, () ->
+                todoList.getTasksWithNameMatchingAny(RARE_KEYWORDS).size());
+
+        ExpenditureTracker expenditureTracker = BenchmarkData.expenditureTracker(RECORD_COUNT);
+        List<Expenditure> expenditures = expenditureTracker.getExpenditureList();
+        Benchmark.run("find in 100k expenditures, words of every description", WARMUPS, ITERATIONS, () ->
+                countMatches(expenditures, new ExpenditureNameContainsKeywordsPredicate(KEYWORDS)));
+        Benchmark.run("find in 100k expenditures, keyword index", WARMUPS, ITERATIONS, () ->
+                expenditureTracker.getExpendituresWithDescriptionMatchingAny(KEYWORDS).size());
+    }
+
+    /**
+     * Tests every record, as a {@code FilteredList} does when its predicate is set.
+     */
+    private static <T> int countMatches(List<T> records, Predicate<T> predicate) {
+        int matches = 0;
+        for (T record : records) {
+            if (predicate.test(record)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
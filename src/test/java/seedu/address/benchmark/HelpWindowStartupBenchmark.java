@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.testfx.api.FxToolkit;
+
+import javafx.scene.web.WebView;
+import seedu.address.ui.HelpWindow;
+
+/**
+ * Measures what creating the help window adds to startup, now that its {@code WebView} is only created when the
+ * window is first shown, against also creating a {@code WebView} and loading the user guide (as the help window's
+ * constructor used to).
+ * The first run of each is measured on its own, since that is when WebKit is started, along with the resident
+ * memory it adds.
+ */
+public class HelpWindowStartupBenchmark {
+
+    private static final int WARMUPS = 5;
+    private static final int ITERATIONS = 20;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        FxToolkit.registerPrimaryStage();
+
+        FxToolkit.setupFixture(() -> {
+            measureFirstRun("first help window, WebView on first show", HelpWindow::new);
+            measureFirstRun("first help window, eager WebView", HelpWindowStartupBenchmark::createEagerHelpWindow);
+
+            Benchmark.run("help window, WebView on first show", WARMUPS, ITERATIONS, HelpWindow::new);
+            Benchmark.run("help window, eager WebView", WARMUPS, ITERATIONS,
+                    HelpWindowStartupBenchmark::createEagerHelpWindow);
+            return null;
+        });
+
+        FxToolkit.cleanupStages();
+        System.exit(0);
+    }
+
+    private static void createEagerHelpWindow() {
+        new HelpWindow();
+        new WebView().getEngine().load(HelpWindow.class.getResource(HelpWindow.USERGUIDE_FILE_PATH).toString());
+    }
+
+    /**
+     * Runs {@code workload} once and prints the time taken and the resident memory added.
+     */
+    private static void measureFirstRun(String name, Benchmark.Workload workload) throws Exception {
+        long rssBefore = getResidentKilobytes();
+        long start = System.nanoTime();
+        workload.run();
+        long millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        long rssAfter = getResidentKilobytes();
+
+        System.out.println(String.format("%-50s %6d ms   resident memory %+,10d kB", name, millis,
+                rssAfter - rssBefore));
+    }
+
+    /**
+     * Returns the resident set size of this process, or 0 if it cannot be read (outside Linux).
+     */
+    private static long getResidentKilobytes() {
+        try (Stream<String> lines = Files.lines(Paths.get("/proc/self/status"))) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                    .mapToLong(line -> Long.parseLong(line.replaceAll("[^0-9]", "")))
+                    .findFirst()
+                    .orElse(0);
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+}
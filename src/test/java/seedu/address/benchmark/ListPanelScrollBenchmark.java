@@ -0,0 +1,95 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.testfx.api.FxToolkit;
+
+import javafx.collections.FXCollections;
+import javafx.scene.Node;
+import javafx.scene.Scene;
+import javafx.scene.control.ListCell;
+import javafx.scene.control.ListView;
+import javafx.scene.layout.Region;
+import javafx.util.Callback;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.task.Task;
+import seedu.address.ui.ExpenditureCard;
+import seedu.address.ui.ExpenditureListPanel;
+import seedu.address.ui.TaskCard;
+import seedu.address.ui.TaskListPanel;
+import seedu.address.ui.UiPart;
+
+/**
+ * Measures the frame time and allocation of scrolling the task and expenditure list panels through 50k rows,
+ * with the panels' recycling cells and with cells that build a new card for every update (as the panels used to).
+ * Each frame scrolls the list by a page and lays it out, which is when the cells are updated.
+ */
+public class ListPanelScrollBenchmark {
+
+    private static final int ROW_COUNT = 50_000;
+    private static final int ROWS_PER_PAGE = 10;
+    private static final int WARMUPS = 200;
+    private static final int FRAMES = 1000;
+    private static final double WIDTH = 600;
+    private static final double HEIGHT = 800;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        FxToolkit.registerPrimaryStage();
+
+        TaskListPanel taskListPanel = new TaskListPanel(FXCollections.observableList(BenchmarkData.tasks(ROW_COUNT)));
+        run("tasks", taskListPanel, "#taskListView", view -> new ListCell<Task>() {
+            @Override
+            protected void updateItem(Task task, boolean empty) {
+                super.updateItem(task, empty);
+                setGraphic(empty || task == null ? null : new TaskCard(task, getIndex() + 1).getRoot());
+            }
+        });
+
+        ExpenditureListPanel expenditureListPanel =
+                new ExpenditureListPanel(FXCollections.observableList(BenchmarkData.expenditures(ROW_COUNT)));
+        run("expenditures", expenditureListPanel, "#expenditureListView", view -> new ListCell<Expenditure>() {
+            @Override
+            protected void updateItem(Expenditure expenditure, boolean empty) {
+                super.updateItem(expenditure, empty);
+                setGraphic(empty || expenditure == null ? null
+                        : new ExpenditureCard(expenditure, getIndex() + 1).getRoot());
+            }
+        });
+
+        FxToolkit.cleanupStages();
+        System.exit(0);
+    }
+
+    /**
+     * Shows {@code panel} and scrolls its list with the panel's own cells, then with {@code cardPerUpdateCells}.
+     */
+    private static <T> void run(String rows, UiPart<Region> panel, String listViewId,
+                                Callback<ListView<T>, ListCell<T>> cardPerUpdateCells) throws Exception {
+        FxToolkit.setupScene(() -> new Scene(panel.getRoot(), WIDTH, HEIGHT));
+        FxToolkit.showStage();
+        ListView<T> listView = lookupListView(panel.getRoot(), listViewId);
+
+        scroll("scroll 50k " + rows + ", recycled cards", listView);
+        FxToolkit.setupFixture(() -> listView.setCellFactory(cardPerUpdateCells));
+        scroll("scroll 50k " + rows + ", new card per update", listView);
+    }
+
+    /**
+     * Scrolls {@code listView} a page at a time on the JavaFX application thread, measuring each frame.
+     */
+    private static void scroll(String name, ListView<?> listView) throws Exception {
+        AtomicInteger topRow = new AtomicInteger();
+        FxToolkit.setupFixture(() -> Benchmark.run(name, WARMUPS, FRAMES, () -> {
+            listView.scrollTo(topRow.getAndAdd(ROWS_PER_PAGE) % ROW_COUNT);
+            listView.layout();
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ListView<T> lookupListView(Node root, String listViewId) {
+        return (ListView<T>) root.lookup(listViewId);
+    }
+}
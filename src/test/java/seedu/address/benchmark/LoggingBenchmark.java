@@ -0,0 +1,52 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.logging.FileHandler;
+import java.util.logging.Handler;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+import seedu.address.commons.core.AsyncLogHandler;
+
+/**
+ * Measures how long logging a message keeps the caller waiting, with the message written to a log file by a
+ * {@code FileHandler} on the calling thread (as {@code LogsCenter} used to do), and handed to an
+ * {@code AsyncLogHandler} that writes it on its own thread.
+ */
+public class LoggingBenchmark {
+
+    private static final int WARMUPS = 2_000;
+    private static final int ITERATIONS = 20_000;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        Path logFolder = Files.createTempDirectory("logging-benchmark");
+
+        Logger syncLogger = newLogger("sync", newFileHandler(logFolder.resolve("sync.log")));
+        Benchmark.run("log to file, on calling thread", WARMUPS, ITERATIONS, () ->
+                syncLogger.info("Command executed: add_task n/read chapter 3 d/01-03"));
+
+        AsyncLogHandler asyncHandler = new AsyncLogHandler(4096, 256, newFileHandler(logFolder.resolve("async.log")));
+        Logger asyncLogger = newLogger("async", asyncHandler);
+        Benchmark.run("log to file, on writer thread", WARMUPS, ITERATIONS, () ->
+                asyncLogger.info("Command executed: add_task n/read chapter 3 d/01-03"));
+        asyncHandler.close();
+        System.out.println("Records dropped by the writer thread: " + asyncHandler.getDroppedCount());
+    }
+
+    private static Logger newLogger(String name, Handler handler) {
+        Logger logger = Logger.getLogger(LoggingBenchmark.class.getName() + "." + name);
+        logger.setUseParentHandlers(false);
+        logger.addHandler(handler);
+        return logger;
+    }
+
+    private static FileHandler newFileHandler(Path logFile) throws Exception {
+        FileHandler fileHandler = new FileHandler(logFile.toString());
+        fileHandler.setFormatter(new SimpleFormatter());
+        return fileHandler;
+    }
+}
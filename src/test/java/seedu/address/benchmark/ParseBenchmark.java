@@ -0,0 +1,138 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.commands.HelpCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.logic.parser.AddExpenditureCommandParser;
+import seedu.address.logic.parser.AddTaskCommandParser;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CheckCommandParser;
+import seedu.address.logic.parser.CheckExpenditureCommandParser;
+import seedu.address.logic.parser.CompleteTaskCommandParser;
+import seedu.address.logic.parser.DeleteExpenditureCommandParser;
+import seedu.address.logic.parser.DeleteTaskCommandParser;
+import seedu.address.logic.parser.EditExpenditureCommandParser;
+import seedu.address.logic.parser.EditTaskCommandParser;
+import seedu.address.logic.parser.ExpenditureGetAdviceCommandParser;
+import seedu.address.logic.parser.FindExpenditureCommandParser;
+import seedu.address.logic.parser.FindTaskCommandParser;
+import seedu.address.logic.parser.Parser;
+import seedu.address.logic.parser.SortTaskCommandParser;
+import seedu.address.logic.parser.UncompleteTaskCommandParser;
+import seedu.address.logic.parser.ViewExpenditureCommandParser;
+import seedu.address.logic.parser.ViewTaskCommandParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.storage.TextCommandHistoryStorage;
+
+/**
+ * Measures the time taken to parse a replayed log of commands, by matching a regular expression and creating a new
+ * parser for each command (as {@code AddressBookParser} used to do) and by looking up the parser registered for the
+ * command word.
+ * The log is read from the command history file given as the first argument, if any, or else is a typical session.
+ */
+public class ParseBenchmark {
+
+    private static final int WARMUPS = 200;
+    private static final int ITERATIONS = 2_000;
+    private static final int MAX_LOG_SIZE = 10_000;
+    private static final List<String> TYPICAL_SESSION = Arrays.asList(
+            "TDL_view all", "TDL_add t/Tutorial 5 m/CS2101 d/12-09 p/1", "TDL_add t/Lab 3 m/CS2113 d/01-11 p/2",
+            "TDL_sort date", "TDL_find lab tutorial", "TDL_complete 1", "TDL_edit 2 t/Lab 4 m/CS2113",
+            "TDL_view completed", "TDL_uncomplete 1", "TDL_delete 3", "TDL_view uncompleted",
+            "ET_add e/Chicken rice d/25-10-2018 m/4.50 c/Food", "ET_add e/Bus d/25-10-2018 m/1.20 c/Travels",
+            "ET_view Food", "ET_view 25-10-2018", "ET_find chicken", "ET_edit 1 e/Duck rice m/5",
+            "ET_check start/01-10-2018 end/31-10-2018", "ET_advice m/1000 numofdays/30", "ET_delete 2",
+            "check d/25-10-2018", "history", "stats", "help", "TDL_vew", "TDL_add t/Essay");
+
+    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        List<String> log = args.length > 0
+                ? new TextCommandHistoryStorage(Paths.get(args[0])).readCommandHistory(MAX_LOG_SIZE)
+                : TYPICAL_SESSION;
+        Map<String, Supplier<Parser<?>>> parserFactories = getParserFactories();
+        AddressBookParser addressBookParser = new AddressBookParser();
+
+        Benchmark.run(log.size() + " commands, regex and new parser each", WARMUPS, ITERATIONS, () -> {
+            for (String userInput : log) {
+                parseQuietly(() -> parseWithNewParser(parserFactories, userInput));
+            }
+        });
+        Benchmark.run(log.size() + " commands, registered parser", WARMUPS, ITERATIONS, () -> {
+            for (String userInput : log) {
+                parseQuietly(() -> addressBookParser.parseCommand(userInput));
+            }
+        });
+    }
+
+    /**
+     * Parses {@code userInput} as {@code AddressBookParser} used to, creating the parser of the command.
+     */
+    private static Object parseWithNewParser(Map<String, Supplier<Parser<?>>> parserFactories, String userInput)
+            throws ParseException {
+        Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
+        if (!matcher.matches()) {
+            throw new ParseException("Invalid command format");
+        }
+        Supplier<Parser<?>> parserFactory = parserFactories.get(matcher.group("commandWord"));
+        if (parserFactory == null) {
+            throw new ParseException("Unknown command");
+        }
+        return parserFactory.get().parse(matcher.group("arguments"));
+    }
+
+    private static Map<String, Supplier<Parser<?>>> getParserFactories() {
+        Map<String, Supplier<Parser<?>>> parserFactories = new HashMap<>();
+        parserFactories.put("TDL_add", AddTaskCommandParser::new);
+        parserFactories.put("ET_add", AddExpenditureCommandParser::new);
+        parserFactories.put("TDL_edit", EditTaskCommandParser::new);
+        parserFactories.put("ET_edit", EditExpenditureCommandParser::new);
+        parserFactories.put("ET_delete", DeleteExpenditureCommandParser::new);
+        parserFactories.put("TDL_delete", DeleteTaskCommandParser::new);
+        parserFactories.put("TDL_complete", CompleteTaskCommandParser::new);
+        parserFactories.put("TDL_uncomplete", UncompleteTaskCommandParser::new);
+        parserFactories.put("ET_advice", ExpenditureGetAdviceCommandParser::new);
+        parserFactories.put("check", CheckCommandParser::new);
+        parserFactories.put("ET_check", CheckExpenditureCommandParser::new);
+        parserFactories.put("ET_view", ViewExpenditureCommandParser::new);
+        parserFactories.put("TDL_view", ViewTaskCommandParser::new);
+        parserFactories.put("TDL_sort", SortTaskCommandParser::new);
+        parserFactories.put("TDL_find", FindTaskCommandParser::new);
+        parserFactories.put("ET_find", FindExpenditureCommandParser::new);
+        parserFactories.put("history", () -> arguments -> new HistoryCommand());
+        parserFactories.put("stats", () -> arguments -> new StatsCommand());
+        parserFactories.put("help", () -> arguments -> new HelpCommand());
+        return parserFactories;
+    }
+
+    /**
+     * Runs {@code parse}, ignoring the commands in the log that are not valid, as users also enter those.
+     */
+    private static void parseQuietly(ParseAction parse) {
+        try {
+            parse.run();
+        } catch (ParseException e) {
+            // invalid commands are part of the log
+        }
+    }
+
+    /**
+     * Parses a command.
+     */
+    @FunctionalInterface
+    private interface ParseAction {
+        Object run() throws ParseException;
+    }
+}
@@ -0,0 +1,53 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import seedu.address.commons.util.SortComparator;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Measures 1M comparisons of task names, by lower-casing both names on every comparison (as
+ * {@code SortComparator.compareName} used to do) and by comparing the collation keys cached on the names.
+ */
+public class SortBenchmark {
+
+    private static final int TASK_COUNT = 10_000;
+    private static final int COMPARISON_COUNT = 1_000_000;
+    private static final int WARMUPS = 5;
+    private static final int ITERATIONS = 20;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        List<Task> tasks = new ArrayList<>();
+        for (Task task : BenchmarkData.tasks(TASK_COUNT)) {
+            // Capitalised, so that lower-casing a name has to copy it, as for most names typed in
+            String name = task.getName().fullName;
+            String capitalisedName = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+            tasks.add(new TaskBuilder(task).withName(capitalisedName).build());
+        }
+        Comparator<Task> lowerCaseEachTime = Comparator.comparing(task -> task.getName().fullName.toLowerCase());
+
+        Benchmark.run("1M name comparisons, lower case each time", WARMUPS, ITERATIONS, () ->
+                compareAll(tasks, lowerCaseEachTime));
+        Benchmark.run("1M name comparisons, cached collation key", WARMUPS, ITERATIONS, () ->
+                compareAll(tasks, SortComparator.compareName()));
+    }
+
+    /**
+     * Compares {@value #COMPARISON_COUNT} pairs of tasks spread over {@code tasks}, and returns the sum of the signs
+     * of the results so that the comparisons cannot be optimised away.
+     */
+    private static int compareAll(List<Task> tasks, Comparator<Task> comparator) {
+        int sum = 0;
+        int size = tasks.size();
+        for (int i = 0; i < COMPARISON_COUNT; i++) {
+            sum += Integer.signum(comparator.compare(tasks.get(i % size), tasks.get((i * 7 + 1) % size)));
+        }
+        return sum;
+    }
+}
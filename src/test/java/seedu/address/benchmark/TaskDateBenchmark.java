@@ -0,0 +1,72 @@
+package seedu.address.benchmark;
+
+import java.time.MonthDay;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.commons.util.TimeUtil;
+import seedu.address.model.task.DeadlineStatusService;
+import seedu.address.model.task.Task;
+
+/**
+ * Measures sorting, range filtering and deadline checks over a large to-do list, by re-parsing the date strings
+ * on every comparison (as {@code Task} used to do) and with the month and day that {@code TaskDate} now holds.
+ */
+public class TaskDateBenchmark {
+
+    private static final int TASK_COUNT = 100_000;
+    private static final int WARMUPS = 5;
+    private static final int ITERATIONS = 20;
+
+    private static final Comparator<Task> BY_DATE_STRING = Comparator
+            .comparing((Task task) -> task.getDate().value.substring(3, 5))
+            .thenComparing(task -> task.getDate().value.substring(0, 2));
+    private static final Comparator<Task> BY_MONTH_DAY = Comparator.comparing(task -> task.getDate().toMonthDay());
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        List<Task> tasks = BenchmarkData.tasks(TASK_COUNT);
+        Collections.shuffle(tasks, new Random(0));
+        MonthDay start = MonthDay.of(3, 1);
+        MonthDay end = MonthDay.of(3, 31);
+
+        Benchmark.run("sort 100k tasks by date, date strings", WARMUPS, ITERATIONS, () ->
+                new ArrayList<>(tasks).sort(BY_DATE_STRING));
+        Benchmark.run("sort 100k tasks by date, month and day", WARMUPS, ITERATIONS, () ->
+                new ArrayList<>(tasks).sort(BY_MONTH_DAY));
+
+        Benchmark.run("filter tasks due in a month, date strings", WARMUPS, ITERATIONS, () ->
+                tasks.stream().filter(task -> isInMarchByString(task)).count());
+        Benchmark.run("filter tasks due in a month, month and day", WARMUPS, ITERATIONS, () ->
+                tasks.stream().filter(task -> !task.getDate().toMonthDay().isBefore(start)
+                        && !task.getDate().toMonthDay().isAfter(end)).count());
+
+        Benchmark.run("deadline check, SimpleDateFormat round trip", WARMUPS, ITERATIONS, () ->
+                tasks.forEach(TaskDateBenchmark::notificationByDateFormat));
+        DeadlineStatusService deadlineStatusService = DeadlineStatusService.getInstance();
+        Benchmark.run("deadline check, epoch days", WARMUPS, ITERATIONS, () ->
+                tasks.forEach(deadlineStatusService::getStatus));
+    }
+
+    private static boolean isInMarchByString(Task task) {
+        return Integer.parseInt(task.getDate().value.substring(3, 5)) == 3;
+    }
+
+    /**
+     * Classifies a deadline the way {@code Task#notification()} used to, building a {@code java.util.Date} for
+     * every check.
+     */
+    private static int notificationByDateFormat(Task task) {
+        TimeUtil timeUtil = new TimeUtil();
+        String today = timeUtil.dateToStringConverter(new java.util.Date());
+        java.util.Date due = timeUtil.stringToDateConverter(task.getDate().value.replace('-', '/')
+                + '/' + today.substring(6, 10));
+        int interval = timeUtil.getDayInterval(timeUtil.getCurrentDate(), due);
+        return interval < 0 ? -1 : interval > 7 ? 0 : 1;
+    }
+}
@@ -0,0 +1,35 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.storage.XmlExpenditureTrackerStorage;
+import seedu.address.storage.XmlSerializableExpenditureTracker;
+
+/**
+ * Measures the latency and allocation of loading a large expenditure tracker file, through a JAXB object tree of
+ * the whole file (as {@code XmlExpenditureTrackerStorage} used to do) and with the streaming {@code XmlRecordReader}.
+ */
+public class XmlLoadBenchmark {
+
+    private static final int RECORD_COUNT = 50_000;
+    private static final int WARMUPS = 5;
+    private static final int ITERATIONS = 20;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        Path file = Files.createTempFile("xmlLoadBenchmark", ".xml");
+        XmlExpenditureTrackerStorage storage = new XmlExpenditureTrackerStorage(file);
+        storage.saveExpenditureTracker(BenchmarkData.expenditureTracker(RECORD_COUNT));
+
+        Benchmark.run("load expenditure tracker, JAXB object tree", WARMUPS, ITERATIONS, () ->
+                XmlUtil.getDataFromFile(file, XmlSerializableExpenditureTracker.class).toModelType());
+        Benchmark.run("load expenditure tracker, streaming", WARMUPS, ITERATIONS, () ->
+                storage.readExpenditureTracker());
+
+        Files.delete(file);
+    }
+}
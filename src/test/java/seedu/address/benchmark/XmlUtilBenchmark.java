@@ -0,0 +1,52 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import javax.xml.bind.JAXBContext;
+import javax.xml.bind.Marshaller;
+
+import seedu.address.commons.util.XmlUtil;
+import seedu.address.storage.XmlSerializableExpenditureTracker;
+import seedu.address.storage.XmlSerializableTodoList;
+
+/**
+ * Measures the latency of saving the to-do list and the expenditure tracker to XML, with a new
+ * {@code JAXBContext} for every save (as {@code XmlUtil} used to do) and with {@code XmlUtil}'s cached contexts.
+ */
+public class XmlUtilBenchmark {
+
+    private static final int RECORD_COUNT = 2000;
+    private static final int WARMUPS = 20;
+    private static final int ITERATIONS = 100;
+
+    /**
+     * Runs the benchmark and prints the results.
+     */
+    public static void main(String[] args) throws Exception {
+        Path file = Files.createTempFile("xmlUtilBenchmark", ".xml");
+        XmlSerializableTodoList todoList = new XmlSerializableTodoList(BenchmarkData.todoList(RECORD_COUNT));
+        XmlSerializableExpenditureTracker expenditureTracker =
+                new XmlSerializableExpenditureTracker(BenchmarkData.expenditureTracker(RECORD_COUNT));
+
+        Benchmark.run("save todo list, new context per save", WARMUPS, ITERATIONS, () ->
+                saveWithNewContext(file, todoList));
+        Benchmark.run("save todo list, cached context", WARMUPS, ITERATIONS, () ->
+                XmlUtil.saveDataToFile(file, todoList));
+        Benchmark.run("save expenditure tracker, new context per save", WARMUPS, ITERATIONS, () ->
+                saveWithNewContext(file, expenditureTracker));
+        Benchmark.run("save expenditure tracker, cached context", WARMUPS, ITERATIONS, () ->
+                XmlUtil.saveDataToFile(file, expenditureTracker));
+
+        Files.delete(file);
+    }
+
+    /**
+     * Saves {@code data} the way {@code XmlUtil#saveDataToFile} did before contexts were cached.
+     */
+    private static void saveWithNewContext(Path file, Object data) throws Exception {
+        Marshaller m = JAXBContext.newInstance(data.getClass()).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
+        m.marshal(data, file.toFile());
+    }
+}
@@ -0,0 +1,148 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class AsyncLogHandlerTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final RecordingHandler target = new RecordingHandler();
+    private AsyncLogHandler asyncHandler;
+
+    @After
+    public void tearDown() {
+        target.release.countDown();
+        if (asyncHandler != null) {
+            asyncHandler.close();
+        }
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new AsyncLogHandler(0, 1, target);
+    }
+
+    @Test
+    public void publish_thenFlush_writtenInOrderOnWriterThread() {
+        target.release.countDown();
+        asyncHandler = new AsyncLogHandler(10, 2, target);
+        for (int i = 1; i <= 5; i++) {
+            asyncHandler.publish(new LogRecord(Level.INFO, "message " + i));
+        }
+        asyncHandler.flush();
+
+        assertEquals(List.of("message 1", "message 2", "message 3", "message 4", "message 5"), target.messages);
+        assertNotSame(Thread.currentThread(), target.threads.get(0));
+        assertTrue(target.flushCount > 0);
+    }
+
+    @Test
+    public void publish_belowLevel_notWritten() {
+        target.release.countDown();
+        asyncHandler = new AsyncLogHandler(10, 2, target);
+        asyncHandler.setLevel(Level.INFO);
+        asyncHandler.publish(new LogRecord(Level.FINE, "fine"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "info"));
+        asyncHandler.flush();
+
+        assertEquals(List.of("info"), target.messages);
+    }
+
+    @Test
+    public void publish_queueFull_infoDroppedAndReported() throws Exception {
+        asyncHandler = new AsyncLogHandler(1, 1, target);
+        asyncHandler.publish(new LogRecord(Level.INFO, "taken by writer"));
+        target.isWriting.await();
+        asyncHandler.publish(new LogRecord(Level.INFO, "queued"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "dropped 1"));
+        asyncHandler.publish(new LogRecord(Level.INFO, "dropped 2"));
+        assertEquals(2, asyncHandler.getDroppedCount());
+
+        target.release.countDown();
+        asyncHandler.flush();
+        assertEquals(List.of("taken by writer", "Dropped 2 log records as the log queue was full", "queued"),
+                target.messages);
+    }
+
+    @Test
+    public void publish_queueFullWithWarning_waitsForRoom() throws Exception {
+        asyncHandler = new AsyncLogHandler(1, 1, target);
+        asyncHandler.publish(new LogRecord(Level.INFO, "taken by writer"));
+        target.isWriting.await();
+        asyncHandler.publish(new LogRecord(Level.INFO, "queued"));
+
+        Thread warningThread = new Thread(() -> asyncHandler.publish(new LogRecord(Level.WARNING, "warning")));
+        warningThread.start();
+        warningThread.join(100);
+        assertTrue(warningThread.isAlive());
+
+        target.release.countDown();
+        warningThread.join();
+        asyncHandler.flush();
+        assertEquals(List.of("taken by writer", "queued", "warning"), target.messages);
+        assertEquals(0, asyncHandler.getDroppedCount());
+    }
+
+    @Test
+    public void close_recordsQueued_writtenBeforeTargetClosed() {
+        target.release.countDown();
+        asyncHandler = new AsyncLogHandler(10, 2, target);
+        asyncHandler.publish(new LogRecord(Level.INFO, "last words"));
+        asyncHandler.close();
+
+        assertEquals(List.of("last words"), target.messages);
+        assertTrue(target.isClosed);
+
+        asyncHandler.publish(new LogRecord(Level.INFO, "after close"));
+        assertEquals(1, target.messages.size());
+    }
+
+    /**
+     * Records the messages it is given and the threads they are given on, waiting for {@code release} before each.
+     */
+    private static class RecordingHandler extends Handler {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final CountDownLatch isWriting = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        volatile int flushCount;
+        volatile boolean isClosed;
+
+        @Override
+        public void publish(LogRecord record) {
+            isWriting.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            messages.add(record.getMessage());
+            threads.add(Thread.currentThread());
+        }
+
+        @Override
+        public void flush() {
+            flushCount++;
+        }
+
+        @Override
+        public void close() {
+            isClosed = true;
+        }
+    }
+}
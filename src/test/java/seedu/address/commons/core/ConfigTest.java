@@ -16,7 +16,11 @@ public class ConfigTest {
     public void toString_defaultObject_stringReturned() {
         String defaultConfigAsString = "App title : Something Daily\n"
                 + "Current log level : INFO\n"
-                + "Preference file Location : preferences.json";
+                + "Preference file Location : preferences.json\n"
+                + "Event sample interval : 100\n"
+                + "Command metrics enabled : false\n"
+                + "Metrics file Location : metrics.txt\n"
+                + "Metrics dump interval in seconds : 60";
 
         assertEquals(defaultConfigAsString, new Config().toString());
     }
@@ -0,0 +1,122 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventTraceTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final Logger logger = Logger.getAnonymousLogger();
+    private final List<LogRecord> logged = new ArrayList<>();
+
+    @Before
+    public void setUp() {
+        logger.setUseParentHandlers(false);
+        logger.addHandler(new Handler() {
+            @Override
+            public void publish(LogRecord record) {
+                logged.add(record);
+            }
+
+            @Override
+            public void flush() {
+            }
+
+            @Override
+            public void close() {
+            }
+        });
+    }
+
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new EventTrace(logger, 0);
+    }
+
+    @Test
+    public void getRecentEvents_moreEventsThanCapacity_lastEventsOldestFirst() {
+        EventTrace trace = new EventTrace(logger, 3);
+        for (int i = 1; i <= 5; i++) {
+            trace.record(new TestEvent(i));
+        }
+
+        List<String> recentEvents = trace.getRecentEvents();
+        assertEquals(3, recentEvents.size());
+        assertTrue(recentEvents.get(0).endsWith("test event 3"));
+        assertTrue(recentEvents.get(2).endsWith("test event 5"));
+        assertTrue(recentEvents.get(2).contains("[" + Thread.currentThread().getName() + "]"));
+    }
+
+    @Test
+    public void getRecentEvents_noEvents_emptyList() {
+        assertTrue(new EventTrace(logger, 3).getRecentEvents().isEmpty());
+    }
+
+    @Test
+    public void record_infoLevel_logsOneInSampleInterval() {
+        logger.setLevel(Level.INFO);
+        EventTrace trace = new EventTrace(logger, 3);
+        trace.setSampleInterval(4);
+        for (int i = 1; i <= 10; i++) {
+            trace.record(new TestEvent(i));
+        }
+
+        assertEquals(2, logged.size());
+        assertEquals(Level.INFO, logged.get(0).getLevel());
+        assertTrue(logged.get(0).getMessage().endsWith("test event 4"));
+        assertTrue(logged.get(1).getMessage().endsWith("test event 8"));
+    }
+
+    @Test
+    public void record_nonPositiveSampleInterval_nothingLoggedAtInfo() {
+        logger.setLevel(Level.INFO);
+        EventTrace trace = new EventTrace(logger, 3);
+        trace.setSampleInterval(0);
+        for (int i = 1; i <= 10; i++) {
+            trace.record(new TestEvent(i));
+        }
+        assertTrue(logged.isEmpty());
+    }
+
+    @Test
+    public void record_fineLevel_logsEveryEvent() {
+        logger.setLevel(Level.FINE);
+        EventTrace trace = new EventTrace(logger, 3);
+        for (int i = 1; i <= 5; i++) {
+            trace.record(new TestEvent(i));
+        }
+
+        assertEquals(5, logged.size());
+        assertEquals(Level.FINE, logged.get(4).getLevel());
+    }
+
+    /** An event identified by a number. */
+    private static class TestEvent extends BaseEvent {
+        private final int id;
+
+        TestEvent(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return "test event " + id;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private final ExecutorService fxExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService ioExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService computeExecutor = Executors.newFixedThreadPool(2);
+
+    private EventsCenter eventsCenter;
+
+    @Before
+    public void setUp() {
+        EventsCenter.clearSubscribers();
+        eventsCenter = EventsCenter.getInstance();
+    }
+
+    @After
+    public void tearDown() {
+        EventsCenter.clearSubscribers();
+        MetricsCenter.finishCommand();
+        MetricsCenter.setEnabled(false);
+        MetricsCenter.reset();
+        fxExecutor.shutdownNow();
+        ioExecutor.shutdownNow();
+        computeExecutor.shutdownNow();
+    }
+
+    @Test
+    public void post_synchronous_allHandlersRunOnPoster() {
+        PosterHandler posterHandler = new PosterHandler();
+        IoHandler ioHandler = new IoHandler();
+        eventsCenter.registerHandler(posterHandler);
+        eventsCenter.registerHandler(ioHandler);
+
+        eventsCenter.post(new TestEvent(1));
+        assertSame(Thread.currentThread(), posterHandler.threads.get(0));
+        assertSame(Thread.currentThread(), ioHandler.threads.get(0));
+        assertTrue(eventsCenter.getDispatchLatencies().isEmpty());
+    }
+
+    @Test
+    public void post_asynchronous_handlersRunOnDeclaredThreads() throws Exception {
+        PosterHandler posterHandler = new PosterHandler();
+        IoHandler ioHandler = new IoHandler();
+        eventsCenter.registerHandler(posterHandler);
+        eventsCenter.registerHandler(ioHandler);
+        eventsCenter.startAsyncDispatch(fxExecutor, ioExecutor, computeExecutor);
+        Thread ioThread = ioExecutor.submit(Thread::currentThread).get();
+
+        eventsCenter.post(new TestEvent(1));
+        eventsCenter.post(new TestEvent(2));
+        assertTrue(eventsCenter.flush(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        assertSame(Thread.currentThread(), posterHandler.threads.get(0));
+        assertEquals(2, ioHandler.threads.size());
+        assertSame(ioThread, ioHandler.threads.get(0));
+        assertEquals(List.of(1, 2), ioHandler.ids);
+    }
+
+    @Test
+    public void post_asynchronous_latencyRecordedPerEventType() {
+        eventsCenter.registerHandler(new IoHandler());
+        eventsCenter.startAsyncDispatch(fxExecutor, ioExecutor, computeExecutor);
+
+        eventsCenter.post(new TestEvent(1));
+        eventsCenter.post(new TestEvent(2));
+        assertTrue(eventsCenter.flush(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+
+        EventsCenter.DispatchLatency latency = eventsCenter.getDispatchLatencies().get("TestEvent");
+        assertEquals(2, latency.getCount());
+        assertTrue(latency.getMaxMillis() >= latency.getMeanMillis());
+    }
+
+    @Test
+    public void flush_handlerStillRunning_waitsOrTimesOut() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        IoHandler ioHandler = new IoHandler(release);
+        eventsCenter.registerHandler(ioHandler);
+        eventsCenter.startAsyncDispatch(fxExecutor, ioExecutor, computeExecutor);
+
+        eventsCenter.post(new TestEvent(1));
+        assertFalse(eventsCenter.flush(50, TimeUnit.MILLISECONDS));
+
+        release.countDown();
+        assertTrue(eventsCenter.flush(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of(1), ioHandler.ids);
+    }
+
+    @Test
+    public void flush_calledByHandler_doesNotWaitForItself() {
+        FlushingIoHandler flushingHandler = new FlushingIoHandler();
+        eventsCenter.registerHandler(flushingHandler);
+        eventsCenter.startAsyncDispatch(fxExecutor, ioExecutor, computeExecutor);
+
+        eventsCenter.post(new TestEvent(1));
+        assertTrue(eventsCenter.flush(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertTrue(flushingHandler.isFlushed);
+    }
+
+    @Test
+    public void flush_eventsPostedByHandlers_waitsForThemToo() {
+        IoHandler ioHandler = new IoHandler();
+        eventsCenter.registerHandler(new ForwardingComputeHandler(eventsCenter));
+        eventsCenter.registerHandler(ioHandler);
+        eventsCenter.startAsyncDispatch(fxExecutor, ioExecutor, computeExecutor);
+
+        eventsCenter.post(new ForwardedEvent());
+        assertTrue(eventsCenter.flush(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals(List.of(ForwardingComputeHandler.FORWARDED_ID), ioHandler.ids);
+    }
+
+    @Test
+    public void stopAsyncDispatch_handlersRunOnPosterAgain() {
+        IoHandler ioHandler = new IoHandler();
+        eventsCenter.registerHandler(ioHandler);
+        eventsCenter.startAsyncDispatch(fxExecutor, ioExecutor, computeExecutor);
+        eventsCenter.stopAsyncDispatch();
+
+        eventsCenter.post(new TestEvent(1));
+        assertSame(Thread.currentThread(), ioHandler.threads.get(0));
+    }
+
+    @Test
+    public void post_synchronousWhileCommandExecutes_eventsOfCommandRecordedOnce() {
+        MetricsCenter.setEnabled(true);
+        eventsCenter.registerHandler(new ForwardingComputeHandler(eventsCenter));
+        eventsCenter.registerHandler(new PosterHandler());
+
+        MetricsCenter.startCommand("TDL_add");
+        eventsCenter.post(new ForwardedEvent());
+        eventsCenter.post(new TestEvent(1));
+        MetricsCenter.finishCommand();
+        assertEquals("1", getEventsRuns("TDL_add"));
+    }
+
+    @Test
+    public void post_asynchronousWhileCommandExecutes_recordedOnceAfterEventsHandled() {
+        MetricsCenter.setEnabled(true);
+        eventsCenter.registerHandler(new ForwardingComputeHandler(eventsCenter));
+        eventsCenter.registerHandler(new IoHandler());
+        eventsCenter.registerHandler(new PosterHandler());
+        eventsCenter.startAsyncDispatch(fxExecutor, ioExecutor, computeExecutor);
+
+        MetricsCenter.startCommand("TDL_add");
+        eventsCenter.post(new ForwardedEvent());
+        MetricsCenter.finishCommand();
+        assertNull(getEventsRuns("TDL_add"));
+
+        assertTrue(eventsCenter.flush(TIMEOUT_SECONDS, TimeUnit.SECONDS));
+        assertEquals("1", getEventsRuns("TDL_add"));
+    }
+
+    /**
+     * Returns how many times the events of {@code commandWord} have been recorded in {@code MetricsCenter}, or null
+     * if they never have been.
+     */
+    private static String getEventsRuns(String commandWord) {
+        String[] lines = MetricsCenter.getReport().split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            if (!lines[i].equals(commandWord)) {
+                continue;
+            }
+            for (int j = i + 1; j < lines.length && lines[j].startsWith(" "); j++) {
+                if (lines[j].startsWith("  events")) {
+                    return lines[j].trim().split("\\s+")[1];
+                }
+            }
+        }
+        return null;
+    }
+
+    /** An event identified by a number. */
+    private static class TestEvent extends BaseEvent {
+        private final int id;
+
+        TestEvent(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public String toString() {
+            return "test event " + id;
+        }
+    }
+
+    /** An event that makes {@code ForwardingComputeHandler} post a {@code TestEvent}. */
+    private static class ForwardedEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "forwarded event";
+        }
+    }
+
+    /** Records the threads it handles events on. */
+    private static class PosterHandler {
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            threads.add(Thread.currentThread());
+        }
+    }
+
+    /** Records the events it handles and the threads it handles them on, optionally waiting before each. */
+    @DispatchOn(DispatchThread.IO)
+    private static class IoHandler {
+        final List<Thread> threads = new CopyOnWriteArrayList<>();
+        final List<Integer> ids = new CopyOnWriteArrayList<>();
+        private final CountDownLatch release;
+
+        IoHandler() {
+            this(new CountDownLatch(0));
+        }
+
+        IoHandler(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) throws InterruptedException {
+            release.await();
+            threads.add(Thread.currentThread());
+            ids.add(event.id);
+        }
+    }
+
+    /** Flushes the events center while handling an event. */
+    @DispatchOn(DispatchThread.IO)
+    private static class FlushingIoHandler {
+        private volatile boolean isFlushed;
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            isFlushed = EventsCenter.getInstance().flush(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    /** Posts a {@code TestEvent} for every {@code ForwardedEvent}. */
+    @DispatchOn(DispatchThread.COMPUTE)
+    private static class ForwardingComputeHandler {
+        static final int FORWARDED_ID = 42;
+        private final EventsCenter eventsCenter;
+
+        ForwardingComputeHandler(EventsCenter eventsCenter) {
+            this.eventsCenter = eventsCenter;
+        }
+
+        @Subscribe
+        public void handleForwardedEvent(ForwardedEvent event) throws InterruptedException {
+            Thread.sleep(20);
+            eventsCenter.post(new TestEvent(FORWARDED_ID));
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Test
+    public void getPercentileMillis_empty_zero() {
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getPercentileMillis(50), DELTA);
+        assertEquals(0, histogram.getMeanMillis(), DELTA);
+    }
+
+    @Test
+    public void record_durations_countMeanAndMaxExact() {
+        histogram.record(1_000_000);
+        histogram.record(3_000_000);
+
+        assertEquals(2, histogram.getCount());
+        assertEquals(2, histogram.getMeanMillis(), DELTA);
+        assertEquals(3, histogram.getMaxMillis(), DELTA);
+    }
+
+    @Test
+    public void getPercentileMillis_durations_upperEndOfBucketCappedAtMax() {
+        for (int i = 0; i < 90; i++) {
+            histogram.record(3_000); // 3 us, in the bucket of 2 to 4 us
+        }
+        for (int i = 0; i < 10; i++) {
+            histogram.record(5_000_000); // 5 ms
+        }
+
+        assertEquals(0.004, histogram.getPercentileMillis(50), DELTA);
+        assertEquals(0.004, histogram.getPercentileMillis(90), DELTA);
+        assertEquals(5, histogram.getPercentileMillis(95), DELTA);
+        assertEquals(5, histogram.getPercentileMillis(100), DELTA);
+    }
+
+    @Test
+    public void getPercentileMillis_longDurations_overestimatedByAtMostAnEighth() {
+        histogram.record(2_100_000);
+        histogram.record(9_000_000);
+
+        double median = histogram.getPercentileMillis(50);
+        assertTrue(median >= 2.1);
+        assertTrue(median <= 2.1 * 1.125);
+    }
+
+    @Test
+    public void record_negativeDuration_countedAsZero() {
+        histogram.record(-5);
+        assertEquals(1, histogram.getCount());
+        assertEquals(0, histogram.getMaxMillis(), DELTA);
+    }
+}
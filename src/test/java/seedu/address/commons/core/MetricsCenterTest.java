@@ -0,0 +1,85 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.MetricsCenter.Stage;
+import seedu.address.commons.util.FileUtil;
+
+public class MetricsCenterTest {
+
+    @Before
+    public void setUp() {
+        MetricsCenter.reset();
+        MetricsCenter.setEnabled(true);
+    }
+
+    @After
+    public void tearDown() {
+        MetricsCenter.stopPeriodicDump();
+        MetricsCenter.finishCommand();
+        MetricsCenter.setEnabled(false);
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void startTimer_disabled_notTimed() {
+        MetricsCenter.setEnabled(false);
+        assertEquals(MetricsCenter.NOT_TIMED, MetricsCenter.startTimer());
+    }
+
+    @Test
+    public void getCurrentCommand_disabled_null() {
+        MetricsCenter.startCommand("TDL_add");
+        assertEquals("TDL_add", MetricsCenter.getCurrentCommand());
+
+        MetricsCenter.setEnabled(false);
+        assertNull(MetricsCenter.getCurrentCommand());
+    }
+
+    @Test
+    public void getReport_disabled_saysDisabled() {
+        MetricsCenter.setEnabled(false);
+        assertEquals("Command metrics are disabled.", MetricsCenter.getReport());
+    }
+
+    @Test
+    public void getReport_nothingRecorded_saysNothingTimed() {
+        MetricsCenter.record(null, Stage.PARSE, MetricsCenter.startTimer());
+        MetricsCenter.record("TDL_add", Stage.PARSE, MetricsCenter.NOT_TIMED);
+        assertEquals("No commands have been timed yet.", MetricsCenter.getReport());
+    }
+
+    @Test
+    public void getReport_stagesRecorded_onlyRecordedStagesListedByCommandWord() {
+        MetricsCenter.record("TDL_view", Stage.PARSE, MetricsCenter.startTimer());
+        MetricsCenter.record("TDL_add", Stage.PARSE, MetricsCenter.startTimer());
+        MetricsCenter.record("TDL_add", Stage.SAVE, MetricsCenter.startTimer());
+
+        String[] lines = MetricsCenter.getReport().split("\n");
+        assertEquals(6, lines.length);
+        assertEquals("TDL_add", lines[1]);
+        assertTrue(lines[2].startsWith("  parse "));
+        assertTrue(lines[3].startsWith("  save "));
+        assertEquals("TDL_view", lines[4]);
+        assertTrue(lines[5].startsWith("  parse "));
+    }
+
+    @Test
+    public void stopPeriodicDump_started_reportWritten() throws Exception {
+        Path metricsFile = Files.createTempDirectory("metrics").resolve("metrics.txt");
+        MetricsCenter.record("TDL_add", Stage.EXECUTE, MetricsCenter.startTimer());
+        MetricsCenter.startPeriodicDump(metricsFile, 3600);
+        MetricsCenter.stopPeriodicDump();
+
+        assertEquals(MetricsCenter.getReport() + System.lineSeparator(), FileUtil.readFromFile(metricsFile));
+    }
+}
@@ -0,0 +1,31 @@
+package seedu.address.commons.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class FoldedWordsTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new FoldedWords(null));
+    }
+
+    @Test
+    public void get_repeatedMixedCaseWords_distinctWordsInLowerCaseKept() {
+        FoldedWords foldedWords = new FoldedWords("Lab  LAB report");
+        assertEquals(Arrays.asList("lab", "report"), foldedWords.get());
+        assertSame(foldedWords.get(), foldedWords.get());
+    }
+
+    @Test
+    public void get_blankText_noWords() {
+        assertEquals(Collections.emptyList(), new FoldedWords("  ").get());
+    }
+}
@@ -2,10 +2,14 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.Rule;
@@ -137,6 +141,82 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for splitIntoWords --------------------------------------
+
+    @Test
+    public void splitIntoWords_nullSentence_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        StringUtil.splitIntoWords(null);
+    }
+
+    @Test
+    public void splitIntoWords_validInputs_sameWordsAsRegexSplit() {
+        assertEquals(Collections.emptyList(), StringUtil.splitIntoWords(""));
+        assertEquals(Collections.emptyList(), StringUtil.splitIntoWords(" \t\n"));
+        assertEquals(Arrays.asList("aaa"), StringUtil.splitIntoWords("aaa"));
+        assertEquals(Arrays.asList("AAA", "bBb", "ccc"), StringUtil.splitIntoWords("  AAA \t bBb\u000Bccc\r\n"));
+    }
+
+    //---------------- Tests for toFoldedWords --------------------------------------
+
+    @Test
+    public void toFoldedWords_validInputs_distinctWordsInLowerCase() {
+        assertEquals(Collections.emptyList(), StringUtil.toFoldedWords("  "));
+        assertEquals(Arrays.asList("aaa", "bbb", "c@1"), StringUtil.toFoldedWords(" AAA bBb\taaa C@1 BBB"));
+    }
+
+    @Test
+    public void toFoldedWords_result_isImmutable() {
+        thrown.expect(UnsupportedOperationException.class);
+        StringUtil.toFoldedWords("aaa").add("bbb");
+    }
+
+    //---------------- Tests for toFoldedKeywords and containsAnyWord ------------------------
+
+    @Test
+    public void toFoldedKeywords_multipleWords_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        thrown.expectMessage("Word parameter should be a single word");
+        StringUtil.toFoldedKeywords(Arrays.asList("aaa", "aaa bbb"));
+    }
+
+    @Test
+    public void toFoldedKeywords_validInputs_trimmedInLowerCase() {
+        assertEquals(Arrays.asList("aaa", "ccc@1"), StringUtil.toFoldedKeywords(Arrays.asList("  AaA ", "CCc@1")));
+    }
+
+    @Test
+    public void containsAnyWord_asciiInputs_sameResultAsOnSentence() {
+        String[] sentences = {"", "aaa bBb ccc", "aaa bBb ccc@1", "  AAA   bBb   ccc  "};
+        String[] words = {"abc", "bb", "bbbb", "Bbb", "CCc@1", "aaa", "  ccc  "};
+        for (String sentence : sentences) {
+            List<String> foldedWords = StringUtil.toFoldedWords(sentence);
+            for (String word : words) {
+                assertEquals(StringUtil.containsWordIgnoreCase(sentence, word), StringUtil.containsAnyWord(
+                        foldedWords, StringUtil.toFoldedKeywords(Collections.singletonList(word))));
+            }
+        }
+    }
+
+    @Test
+    public void containsAnyWord_severalKeywords_trueIfAnyContained() {
+        List<String> foldedWords = StringUtil.toFoldedWords("aaa bBb ccc");
+        assertTrue(StringUtil.containsAnyWord(foldedWords, StringUtil.toFoldedKeywords(Arrays.asList("x", "BBB"))));
+        assertFalse(StringUtil.containsAnyWord(foldedWords, StringUtil.toFoldedKeywords(Arrays.asList("x", "bb"))));
+        assertFalse(StringUtil.containsAnyWord(foldedWords, Collections.emptyList()));
+    }
+
+    //---------------- Tests for escapeLine and unescapeLine --------------------------------------
+
+    @Test
+    public void escapeLine_controlCharactersAndBackslashes_escapedOnOneLine() {
+        String value = "a\tb\nc\rd\\n";
+        String escaped = StringUtil.escapeLine(value);
+        assertEquals("a\\tb\\nc\\rd\\\\n", escaped);
+        assertEquals(value, StringUtil.unescapeLine(escaped));
+        assertEquals("plain", StringUtil.unescapeLine(StringUtil.escapeLine("plain")));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -7,6 +7,10 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlRootElement;
@@ -75,6 +79,20 @@ public class XmlUtilTest {
         assertEquals(9, dataFromFile.getPersonList().size());
     }
 
+    @Test
+    public void getDataFromFile_concurrentReads_validResults() throws Exception {
+        Callable<Integer> read = () -> XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class)
+                .toModelType().getPersonList().size();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (Future<Integer> result : executor.invokeAll(Collections.nCopies(32, read))) {
+                assertEquals(Integer.valueOf(9), result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     @Test
     public void xmlAdaptedPersonFromFile_fileWithMissingPersonField_validResult() throws Exception {
         XmlAdaptedPerson actualPerson = XmlUtil.getDataFromFile(
@@ -6,11 +6,17 @@ import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.ExpectedException;
 
 public class CommandHistoryTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
     private CommandHistory history;
 
     @Before
@@ -36,6 +42,46 @@ public class CommandHistoryTest {
         assertEquals(Arrays.asList(validCommand, invalidCommand), history.getHistory());
     }
 
+    @Test
+    public void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new CommandHistory(0);
+    }
+
+    @Test
+    public void constructor_withUserInputs_mostRecentKept() {
+        CommandHistory restoredHistory = new CommandHistory(2, Arrays.asList("a", "b", "c"));
+        assertEquals(Arrays.asList("b", "c"), restoredHistory.getHistory());
+    }
+
+    @Test
+    public void add_historyFull_oldestInputForgotten() {
+        CommandHistory boundedHistory = new CommandHistory(3);
+        for (int i = 0; i < 100; i++) {
+            boundedHistory.add(Integer.toString(i));
+        }
+        assertEquals(Arrays.asList("97", "98", "99"), boundedHistory.getHistory());
+    }
+
+    @Test
+    public void getHistory_inputAddedLater_snapshotUnchanged() {
+        CommandHistory boundedHistory = new CommandHistory(3);
+        boundedHistory.add("a");
+        boundedHistory.add("b");
+        List<String> snapshot = boundedHistory.getHistory();
+        for (int i = 0; i < 100; i++) {
+            boundedHistory.add(Integer.toString(i));
+        }
+        assertEquals(Arrays.asList("a", "b"), snapshot);
+    }
+
+    @Test
+    public void getHistory_modifySnapshot_throwsUnsupportedOperationException() {
+        history.add("clear");
+        thrown.expect(UnsupportedOperationException.class);
+        history.getHistory().add("list");
+    }
+
     @Test
     public void equals() {
         final CommandHistory commandHistoryWithA = new CommandHistory();
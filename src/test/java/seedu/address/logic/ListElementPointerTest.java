@@ -35,6 +35,20 @@ public class ListElementPointerTest {
         assertEquals(emptyPointer, pointer);
     }
 
+    @Test
+    public void ofSnapshot_elementAdded_snapshotUnmodified() {
+        List<String> snapshot = Collections.singletonList(FIRST_ELEMENT);
+        pointer = ListElementPointer.ofSnapshot(snapshot);
+        pointer.add(SECOND_ELEMENT);
+
+        ListElementPointer expectedPointer = new ListElementPointer(Collections.singletonList(FIRST_ELEMENT));
+        expectedPointer.add(SECOND_ELEMENT);
+        assertEquals(expectedPointer, pointer);
+        assertEquals(Collections.singletonList(FIRST_ELEMENT), snapshot);
+        assertNextSuccess(SECOND_ELEMENT);
+        assertPreviousSuccess(FIRST_ELEMENT);
+    }
+
     @Test
     public void emptyList() {
         pointer = new ListElementPointer(new ArrayList<>());
@@ -1,12 +1,18 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalExpenditures.getTypicalExpenditureTracker;
 
+import java.util.Collections;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.logic.autocomplete.Completion;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ViewTaskCommand;
@@ -15,6 +21,7 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.testutil.TaskBuilder;
 
 
 public class LogicManagerTest {
@@ -45,6 +52,32 @@ public class LogicManagerTest {
         assertHistoryCorrect(viewTaskCommand);
     }
 
+    @Test
+    public void execute_metricsEnabled_parseAndExecuteRecordedUnderCommandWord() throws Exception {
+        MetricsCenter.reset();
+        MetricsCenter.setEnabled(true);
+        try {
+            logic.execute("  " + HistoryCommand.COMMAND_WORD + " ");
+            String[] report = MetricsCenter.getReport().split("\n");
+            assertEquals(HistoryCommand.COMMAND_WORD, report[1]);
+            assertTrue(report[2].startsWith("  parse "));
+            assertTrue(report[3].startsWith("  execute "));
+            assertNull(MetricsCenter.getCurrentCommand());
+        } finally {
+            MetricsCenter.setEnabled(false);
+            MetricsCenter.reset();
+        }
+    }
+
+    @Test
+    public void getCompletion_taskAdded_moduleSuggested() {
+        assertEquals(Collections.emptyList(), logic.getCompletion("TDL_add m/cs", 12).getSuggestions());
+
+        model.addTask(new TaskBuilder().withModule("CS2113").build());
+        assertEquals(new Completion(10, 12, Collections.singletonList("CS2113")),
+                logic.getCompletion("TDL_add m/cs", 12));
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
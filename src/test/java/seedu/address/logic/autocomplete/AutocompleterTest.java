@@ -0,0 +1,85 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.CliSyntax;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.ExpenditureBuilder;
+import seedu.address.testutil.TaskBuilder;
+
+public class AutocompleterTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final ObservableList<Task> tasks = FXCollections.observableArrayList(
+            new TaskBuilder().withName("Lab 1").withModule("CS2113").build(),
+            new TaskBuilder().withName("Lab 2").withModule("CS2113").build(),
+            new TaskBuilder().withName("Quiz").withModule("CS2101").build());
+    private final ObservableList<Expenditure> expenditures = FXCollections.observableArrayList(
+            new ExpenditureBuilder().withDescription("Chicken rice").withCategory("Food").build(),
+            new ExpenditureBuilder().withDescription("Chicken soup").withCategory("Food").build(),
+            new ExpenditureBuilder().withDescription("Bus").withCategory("Travels").build());
+    private final Autocompleter autocompleter = new Autocompleter(new AddressBookParser().getCommandWords(),
+            CliSyntax.ALL_PREFIXES, FXCollections.unmodifiableObservableList(tasks),
+            FXCollections.unmodifiableObservableList(expenditures));
+
+    @Test
+    public void complete_caretOutsideText_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        autocompleter.complete("TDL", 4);
+    }
+
+    @Test
+    public void complete_commandWord_commandWordsReplacingWord() {
+        assertCompletion("  TDL_a", 7, 2, 7, "TDL_add");
+        assertCompletion("et_ad", 5, 0, 5, "ET_add", "ET_advice");
+        // only the part before the caret is completed
+        assertCompletion("TDL_v n/x", 3, 0, 3, "TDL_add", "TDL_edit", "TDL_find", "TDL_sort", "TDL_view",
+                "TDL_delete", "TDL_complete", "TDL_uncomplete");
+        // typo
+        assertCompletion("TDL_vx", 6, 0, 6, "TDL_view");
+    }
+
+    @Test
+    public void complete_argument_prefixes() {
+        assertCompletion("ET_view st", 10, 8, 10, "start/");
+        assertCompletion("TDL_add t/Lab 2 m/CS2113 d", 26, 25, 26, "d/");
+        // values that are not completed
+        assertCompletion("ET_add m/12", 11, 11, 11);
+    }
+
+    @Test
+    public void complete_valueOfPrefix_valuesFromModelRankedByRecords() {
+        assertCompletion("TDL_add t/Lab 3 m/cs", 20, 18, 20, "CS2113", "CS2101");
+        assertCompletion("ET_add e/Chicken r", 18, 9, 18, "Chicken rice");
+        assertCompletion("ET_add e/Bus c/", 15, 15, 15, "Food", "Travels");
+        // m/ is the amount of an expenditure, and c/ is not a prefix of tasks
+        assertCompletion("ET_add m/C", 10, 10, 10);
+        assertCompletion("TDL_view c/F", 12, 12, 12);
+    }
+
+    @Test
+    public void complete_recordsChanged_valuesUpdated() {
+        tasks.add(new TaskBuilder().withName("Essay").withModule("GE1000").build());
+        tasks.remove(2);
+        expenditures.set(2, new ExpenditureBuilder().withDescription("Taxi").withCategory("Travels").build());
+
+        assertCompletion("TDL_add m/", 10, 10, 10, "CS2113", "GE1000");
+        assertCompletion("ET_add e/", 9, 9, 9, "Taxi", "Chicken rice", "Chicken soup");
+    }
+
+    private void assertCompletion(String text, int caretPosition, int start, int end, String... suggestions) {
+        Completion expected = new Completion(start, end, Arrays.asList(suggestions));
+        assertEquals(expected, autocompleter.complete(text, caretPosition));
+    }
+}
@@ -0,0 +1,33 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+public class CompletionTest {
+
+    @Test
+    public void getCommonPrefix() {
+        // no suggestions
+        assertEquals("", Completion.none(3).getCommonPrefix());
+
+        // one suggestion
+        assertEquals("TDL_add", new Completion(0, 3, Collections.singletonList("TDL_add")).getCommonPrefix());
+
+        // shared start, ignoring case, as in the first suggestion
+        assertEquals("Chicken ", new Completion(0, 3, Arrays.asList("Chicken rice", "chicken soup", "CHICKEN "))
+                .getCommonPrefix());
+
+        // nothing shared
+        assertEquals("", new Completion(0, 3, Arrays.asList("Food", "Travel")).getCommonPrefix());
+    }
+
+    @Test
+    public void applyTo_replacesCompletedPartOnly() {
+        Completion completion = new Completion(8, 10, Arrays.asList("start/", "st"));
+        assertEquals("ET_view start/ end/", completion.applyTo("ET_view st end/", "start/"));
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.logic.autocomplete;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class CompletionTrieTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CompletionTrie trie = new CompletionTrie();
+
+    @Test
+    public void add_null_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        trie.add(null);
+    }
+
+    @Test
+    public void complete_nonPositiveLimit_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        trie.complete("a", 0);
+    }
+
+    @Test
+    public void complete_prefixIgnoringCase_rankedByCountThenLengthThenAlphabetically() {
+        trie.add("CS2103");
+        trie.add("CS2101");
+        trie.add("CS2040");
+        trie.add("cs2040");
+        trie.add("CS1010");
+        trie.add("CS2103T");
+
+        assertEquals(Arrays.asList("CS2040", "CS2101", "CS2103", "CS2103T"), trie.complete("cs2", 4));
+        assertEquals(Arrays.asList("CS2040", "CS1010"), trie.complete("Cs", 2));
+        assertEquals(Arrays.asList("CS2103", "CS2103T"), trie.complete("CS2103", 10));
+        assertEquals(Collections.emptyList(), trie.complete("MA", 10));
+    }
+
+    @Test
+    public void complete_noPrefixMatch_termsStartingWithinOneEdit() {
+        trie.add("lunch");
+        trie.add("launch party");
+        trie.add("lecture notes");
+        trie.add("lunar");
+
+        // "lanch" is one edit from "launch" and "lunch", but further from "lunar" and "lecture"
+        assertEquals(Arrays.asList("lunch", "launch party"), trie.complete("lanch", 10));
+        // "lunx" is one edit from "lun" and "lunc"
+        assertEquals(Arrays.asList("lunar", "lunch"), trie.complete("lunx", 10));
+        assertEquals(Collections.singletonList("lunar"), trie.complete("lunx", 1));
+        // swapped letters are one edit
+        assertEquals(Collections.singletonList("lunch"), trie.complete("lnuc", 10));
+        // too short to match approximately
+        assertEquals(Collections.emptyList(), trie.complete("lx", 10));
+    }
+
+    @Test
+    public void remove_oneOccurrence_countDecreasedAndRankUpdated() {
+        trie.add("Food");
+        trie.add("Food");
+        trie.add("Fees");
+        trie.remove("food");
+        assertEquals(1, trie.count("Food"));
+        assertEquals(Arrays.asList("Fees", "Food"), trie.complete("f", 10));
+
+        trie.remove("Food");
+        trie.remove("Food");
+        trie.remove("Drinks");
+        assertEquals(0, trie.count("Food"));
+        assertEquals(1, trie.size());
+        assertEquals(Collections.singletonList("Fees"), trie.complete("f", 10));
+        assertTrue(trie.complete("foo", 10).isEmpty());
+    }
+
+    @Test
+    public void add_afterAllRemoved_suggestedAsAddedAgain() {
+        trie.add("travel");
+        trie.remove("travel");
+        trie.add("Travel");
+        assertEquals(Collections.singletonList("Travel"), trie.complete("tr", 10));
+    }
+}
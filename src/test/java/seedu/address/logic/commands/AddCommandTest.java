@@ -7,6 +7,7 @@ import static org.junit.Assert.assertTrue;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -22,7 +23,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyExpenditureTracker;
 import seedu.address.model.ReadOnlyTodoList;
+import seedu.address.model.expenditureinfo.CategoryTotal;
+import seedu.address.model.expenditureinfo.Date;
 import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.expenditureinfo.ExpenditureSummary;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
 import seedu.address.model.task.Task;
@@ -106,7 +110,17 @@ public class AddCommandTest {
         }
 
         @Override
-        public String checkRecords(String date) {
+        public List<Expenditure> getExpendituresBetween(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public ExpenditureSummary getExpenditureSummary(Date start, Date end) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Task> getTasksDueBetween(Date start, Date end) {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -126,7 +140,7 @@ public class AddCommandTest {
         }
 
         @Override
-        public Map getExpenditureRecords () {
+        public Map<String, CategoryTotal> getCategoryTotals() {
             throw new AssertionError("This method should not be called.");
         }
 
@@ -220,11 +234,21 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredTaskListByName(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void updateFilteredExpenditureList(Predicate<Expenditure> predicate) {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void updateFilteredExpenditureListByDescription(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void rankFilteredTaskDeadline() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,100 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_EXPENDITURE_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalExpenditures.CHICKEN;
+import static seedu.address.testutil.TypicalExpenditures.NIKE;
+import static seedu.address.testutil.TypicalExpenditures.getTypicalExpenditureTracker;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTasks.getTypicalTodoList;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.model.expenditureinfo.ExpenditureNameContainsKeywordsPredicate;
+import seedu.address.testutil.ExpenditureBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindExpenditureCommand}.
+ */
+public class FindExpenditureCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalTodoList(),
+            getTypicalExpenditureTracker(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalTodoList(),
+            getTypicalExpenditureTracker(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        ExpenditureNameContainsKeywordsPredicate firstPredicate =
+                new ExpenditureNameContainsKeywordsPredicate(Collections.singletonList("first"));
+        ExpenditureNameContainsKeywordsPredicate secondPredicate =
+                new ExpenditureNameContainsKeywordsPredicate(Collections.singletonList("second"));
+
+        FindExpenditureCommand findFirstCommand = new FindExpenditureCommand(firstPredicate);
+        FindExpenditureCommand findSecondCommand = new FindExpenditureCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        FindExpenditureCommand findFirstCommandCopy = new FindExpenditureCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_zeroKeywords_noExpenditureFound() {
+        String expectedMessage = String.format(MESSAGE_EXPENDITURE_LISTED_OVERVIEW, 0);
+        ExpenditureNameContainsKeywordsPredicate predicate = preparePredicate(" ");
+        FindExpenditureCommand command = new FindExpenditureCommand(predicate);
+        expectedModel.updateFilteredExpenditureList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredExpenditureList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_multipleExpendituresFound() {
+        String expectedMessage = String.format(MESSAGE_EXPENDITURE_LISTED_OVERVIEW, 2);
+        ExpenditureNameContainsKeywordsPredicate predicate = preparePredicate("RICE shoes hood");
+        FindExpenditureCommand command = new FindExpenditureCommand(predicate);
+        expectedModel.updateFilteredExpenditureList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(CHICKEN, NIKE), model.getFilteredExpenditureList());
+    }
+
+    @Test
+    public void execute_expenditureEditedAfterFind_filterFollowsEdit() {
+        new FindExpenditureCommand(preparePredicate("rice")).execute(model, commandHistory);
+        Expenditure friedRice = new ExpenditureBuilder(CHICKEN).withDescription("Fried rice").build();
+        model.deleteExpenditure(CHICKEN);
+        model.updateExpenditure(NIKE, friedRice);
+
+        assertEquals(Collections.singletonList(friedRice), model.getFilteredExpenditureList());
+    }
+
+    /**
+     * Parses {@code userInput} into an {@code ExpenditureNameContainsKeywordsPredicate}.
+     */
+    private ExpenditureNameContainsKeywordsPredicate preparePredicate(String userInput) {
+        return new ExpenditureNameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
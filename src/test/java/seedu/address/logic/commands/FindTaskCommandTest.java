@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_TASKS_LISTED_OVERVIEW;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalExpenditures.getTypicalExpenditureTracker;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalTasks.ASSIGNMENT;
+import static seedu.address.testutil.TypicalTasks.QUIZ;
+import static seedu.address.testutil.TypicalTasks.WEBCAST;
+import static seedu.address.testutil.TypicalTasks.getTypicalTodoList;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
+import seedu.address.testutil.TaskBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FindTaskCommand}.
+ */
+public class FindTaskCommandTest {
+    private Model model = new ModelManager(getTypicalAddressBook(), getTypicalTodoList(),
+            getTypicalExpenditureTracker(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalAddressBook(), getTypicalTodoList(),
+            getTypicalExpenditureTracker(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Test
+    public void equals() {
+        TaskNameContainsKeywordsPredicate firstPredicate =
+                new TaskNameContainsKeywordsPredicate(Collections.singletonList("first"));
+        TaskNameContainsKeywordsPredicate secondPredicate =
+                new TaskNameContainsKeywordsPredicate(Collections.singletonList("second"));
+
+        FindTaskCommand findFirstCommand = new FindTaskCommand(firstPredicate);
+        FindTaskCommand findSecondCommand = new FindTaskCommand(secondPredicate);
+
+        // same object -> returns true
+        assertTrue(findFirstCommand.equals(findFirstCommand));
+
+        // same values -> returns true
+        FindTaskCommand findFirstCommandCopy = new FindTaskCommand(firstPredicate);
+        assertTrue(findFirstCommand.equals(findFirstCommandCopy));
+
+        // different types -> returns false
+        assertFalse(findFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(findFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(findFirstCommand.equals(findSecondCommand));
+    }
+
+    @Test
+    public void execute_zeroKeywords_noTaskFound() {
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 0);
+        TaskNameContainsKeywordsPredicate predicate = preparePredicate(" ");
+        FindTaskCommand command = new FindTaskCommand(predicate);
+        expectedModel.updateFilteredTaskList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_multipleKeywords_multipleTasksFound() {
+        String expectedMessage = String.format(MESSAGE_TASKS_LISTED_OVERVIEW, 3);
+        TaskNameContainsKeywordsPredicate predicate = preparePredicate("quiz LECTURE assignment");
+        FindTaskCommand command = new FindTaskCommand(predicate);
+        expectedModel.updateFilteredTaskList(predicate);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(ASSIGNMENT, QUIZ, WEBCAST), model.getFilteredTaskList());
+    }
+
+    @Test
+    public void execute_taskEditedAfterFind_filterFollowsEdit() {
+        new FindTaskCommand(preparePredicate("Quiz")).execute(model, commandHistory);
+        Task renamedAssignment = new TaskBuilder(ASSIGNMENT).withName("Quiz 10").build();
+        model.updateTask(ASSIGNMENT, renamedAssignment);
+        model.updateTask(QUIZ, new TaskBuilder(QUIZ).withName("Midterm").build());
+
+        assertEquals(Collections.singletonList(renamedAssignment), model.getFilteredTaskList());
+    }
+
+    /**
+     * Parses {@code userInput} into a {@code TaskNameContainsKeywordsPredicate}.
+     */
+    private TaskNameContainsKeywordsPredicate preparePredicate(String userInput) {
+        return new TaskNameContainsKeywordsPredicate(Arrays.asList(userInput.split("\\s+")));
+    }
+}
@@ -0,0 +1,37 @@
+package seedu.address.logic.commands;
+
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+
+import org.junit.After;
+import org.junit.Test;
+
+import seedu.address.commons.core.MetricsCenter;
+import seedu.address.commons.core.MetricsCenter.Stage;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+public class StatsCommandTest {
+    private CommandHistory history = new CommandHistory();
+    private Model model = new ModelManager();
+    private Model expectedModel = new ModelManager();
+
+    @After
+    public void tearDown() {
+        MetricsCenter.setEnabled(false);
+        MetricsCenter.reset();
+    }
+
+    @Test
+    public void execute_metricsDisabled_showsDisabled() {
+        MetricsCenter.setEnabled(false);
+        assertCommandSuccess(new StatsCommand(), model, history, "Command metrics are disabled.", expectedModel);
+    }
+
+    @Test
+    public void execute_commandsTimed_showsReport() {
+        MetricsCenter.setEnabled(true);
+        MetricsCenter.record(HistoryCommand.COMMAND_WORD, Stage.EXECUTE, MetricsCenter.startTimer());
+        assertCommandSuccess(new StatsCommand(), model, history, MetricsCenter.getReport(), expectedModel);
+    }
+}
@@ -1,11 +1,17 @@
 package seedu.address.logic.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_TASK;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
@@ -16,12 +22,17 @@ import seedu.address.logic.commands.DeleteTaskCommand;
 import seedu.address.logic.commands.EditTaskCommand;
 import seedu.address.logic.commands.EditTaskCommand.EditTaskDescriptor;
 import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.FindExpenditureCommand;
+import seedu.address.logic.commands.FindTaskCommand;
 import seedu.address.logic.commands.HelpCommand;
 import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.UncompleteTaskCommand;
 import seedu.address.logic.commands.ViewTaskCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.expenditureinfo.ExpenditureNameContainsKeywordsPredicate;
 import seedu.address.model.task.Task;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
 import seedu.address.testutil.EditTaskDescriptorBuilder;
 import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TaskUtil;
@@ -145,6 +156,28 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(HistoryCommand.COMMAND_ALIAS + " 3") instanceof HistoryCommand);
     }*/
 
+    @Test
+    public void parseCommand_findTask() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FindTaskCommand command = (FindTaskCommand) parser.parseCommand(
+                FindTaskCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindTaskCommand(new TaskNameContainsKeywordsPredicate(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_findExpenditure() throws Exception {
+        List<String> keywords = Arrays.asList("foo", "bar", "baz");
+        FindExpenditureCommand command = (FindExpenditureCommand) parser.parseCommand(
+                FindExpenditureCommand.COMMAND_WORD + " " + keywords.stream().collect(Collectors.joining(" ")));
+        assertEquals(new FindExpenditureCommand(new ExpenditureNameContainsKeywordsPredicate(keywords)), command);
+    }
+
+    @Test
+    public void parseCommand_stats() throws Exception {
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD) instanceof StatsCommand);
+        assertTrue(parser.parseCommand(StatsCommand.COMMAND_WORD + " 3") instanceof StatsCommand);
+    }
+
     @Test
     public void parseCommand_viewTask() throws Exception {
         assertTrue(parser.parseCommand(ViewTaskCommand.COMMAND_WORD + " completed") instanceof ViewTaskCommand);
@@ -184,6 +217,40 @@ public class AddressBookParserTest {
         parser.parseCommand("");
     }
 
+    @Test
+    public void parseCommand_commandWords_allRecognised() {
+        for (String commandWord : parser.getCommandWords()) {
+            try {
+                parser.parseCommand(commandWord);
+            } catch (ParseException pe) {
+                // recognised, but missing arguments
+                assertNotEquals(commandWord, MESSAGE_UNKNOWN_COMMAND, pe.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void parseCommand_argumentsAfterWhitespace_passedToParser() throws Exception {
+        assertEquals(new CompleteTaskCommand(INDEX_FIRST_TASK), parser.parseCommand("  "
+                + CompleteTaskCommand.COMMAND_WORD + "\t" + INDEX_FIRST_TASK.getOneBased() + " "));
+    }
+
+    @Test
+    public void register_newCommandWordAndAlias_parsedByParser() throws Exception {
+        parser.register(arguments -> new StatsCommand(), "statistics", "st");
+
+        assertTrue(parser.parseCommand("statistics") instanceof StatsCommand);
+        assertTrue(parser.parseCommand("st 3") instanceof StatsCommand);
+        assertTrue(parser.getCommandWords().contains("statistics"));
+        assertFalse(parser.getCommandWords().contains("st"));
+    }
+
+    @Test
+    public void register_commandWordAlreadyRegistered_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        parser.register(arguments -> new StatsCommand(), "statistics", HistoryCommand.COMMAND_WORD);
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() throws Exception {
         thrown.expect(ParseException.class);
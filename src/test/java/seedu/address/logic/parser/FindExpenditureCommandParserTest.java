@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindExpenditureCommand;
+import seedu.address.model.expenditureinfo.ExpenditureNameContainsKeywordsPredicate;
+
+public class FindExpenditureCommandParserTest {
+
+    private FindExpenditureCommandParser parser = new FindExpenditureCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindExpenditureCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindExpenditureCommand() {
+        // no leading and trailing whitespaces
+        FindExpenditureCommand expectedFindExpenditureCommand = new FindExpenditureCommand(
+                new ExpenditureNameContainsKeywordsPredicate(Arrays.asList("Chicken", "rice")));
+        assertParseSuccess(parser, "Chicken rice", expectedFindExpenditureCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Chicken \n \t rice  \t", expectedFindExpenditureCommand);
+    }
+
+}
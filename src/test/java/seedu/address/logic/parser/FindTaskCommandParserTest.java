@@ -0,0 +1,35 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindTaskCommand;
+import seedu.address.model.task.TaskNameContainsKeywordsPredicate;
+
+public class FindTaskCommandParserTest {
+
+    private FindTaskCommandParser parser = new FindTaskCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindTaskCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsFindTaskCommand() {
+        // no leading and trailing whitespaces
+        FindTaskCommand expectedFindTaskCommand =
+                new FindTaskCommand(new TaskNameContainsKeywordsPredicate(Arrays.asList("Assignment", "Quiz")));
+        assertParseSuccess(parser, "Assignment Quiz", expectedFindTaskCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n Assignment \n \t Quiz  \t", expectedFindTaskCommand);
+    }
+
+}
@@ -22,6 +22,7 @@ import static seedu.address.testutil.TypicalTasks.WEBCAST;
 
 import java.nio.file.Paths;
 import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -30,9 +31,11 @@ import org.junit.rules.ExpectedException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
+import seedu.address.model.task.Task;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.ExpenditureTrackerBuilder;
 import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.TaskBuilder;
 import seedu.address.testutil.TodoListBuilder;
 
 public class ModelManagerTest {
@@ -93,6 +96,33 @@ public class ModelManagerTest {
         assertEquals(expectedModelManager, modelManager);
     }
 
+    @Test
+    public void updateFilteredTaskListByName_taskDeletedThenFilterUpdated_shownListFollows() {
+        TodoList todoList = new TodoListBuilder().withTask(TUTORIAL).withTask(WEBCAST).withTask(ESSAY).build();
+        modelManager = new ModelManager(new AddressBook(), todoList, new ExpenditureTracker(), new UserPrefs());
+
+        modelManager.updateFilteredTaskListByName(Arrays.asList("essay", "TUTORIAL"));
+        assertEquals(Arrays.asList(TUTORIAL, ESSAY), modelManager.getFilteredTaskList());
+
+        modelManager.deleteTask(TUTORIAL);
+        assertEquals(Collections.singletonList(ESSAY), modelManager.getFilteredTaskList());
+
+        modelManager.updateFilteredTaskList(PREDICATE_SHOW_ALL_TASKS);
+        assertEquals(Arrays.asList(WEBCAST, ESSAY), modelManager.getFilteredTaskList());
+    }
+
+    @Test
+    public void updateFilteredTaskListByName_taskRenamedToMatch_shownInListOrder() {
+        TodoList todoList = new TodoListBuilder().withTask(TUTORIAL).withTask(WEBCAST).withTask(ESSAY).build();
+        modelManager = new ModelManager(new AddressBook(), todoList, new ExpenditureTracker(), new UserPrefs());
+        modelManager.updateFilteredTaskListByName(Arrays.asList("essay", "reflection"));
+        assertEquals(Collections.singletonList(ESSAY), modelManager.getFilteredTaskList());
+
+        Task webcastReflection = new TaskBuilder(WEBCAST).withName("Webcast reflection").build();
+        modelManager.updateTask(WEBCAST, webcastReflection);
+        assertEquals(Arrays.asList(webcastReflection, ESSAY), modelManager.getFilteredTaskList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
@@ -199,6 +199,40 @@ public class VersionedExpenditureTrackerTest {
         assertThrows(VersionedExpenditureTracker.NoRedoableStateException.class, versionedExpenditureTracker::redo);
     }
 
+    @Test
+    public void commit_pastMaxHistoryDepth_earliestStatesDropped() {
+        VersionedExpenditureTracker versionedExpenditureTracker =
+                new VersionedExpenditureTracker(emptyExpenditureTracker, 2);
+        versionedExpenditureTracker.resetData(expenditureTrackerWithChicken);
+        versionedExpenditureTracker.commit();
+        versionedExpenditureTracker.resetData(expenditureTrackerWithIphone);
+        versionedExpenditureTracker.commit();
+        versionedExpenditureTracker.resetData(expenditureTrackerWithSpeaker);
+        versionedExpenditureTracker.commit();
+
+        assertExpenditureTrackerStatus(versionedExpenditureTracker,
+                Arrays.asList(expenditureTrackerWithChicken, expenditureTrackerWithIphone),
+                expenditureTrackerWithSpeaker,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_expenditureLevelChangesSinceCommit_previousStateRestored() {
+        VersionedExpenditureTracker versionedExpenditureTracker =
+                prepareExpenditureTracker(expenditureTrackerWithChicken);
+        versionedExpenditureTracker.addExpenditure(IPHONE);
+        versionedExpenditureTracker.updateExpenditure(CHICKEN, SPEAKER);
+        versionedExpenditureTracker.removeExpenditure(IPHONE);
+        versionedExpenditureTracker.commit();
+        assertEquals(expenditureTrackerWithSpeaker, new ExpenditureTracker(versionedExpenditureTracker));
+
+        versionedExpenditureTracker.undo();
+        assertEquals(expenditureTrackerWithChicken, new ExpenditureTracker(versionedExpenditureTracker));
+
+        versionedExpenditureTracker.redo();
+        assertEquals(expenditureTrackerWithSpeaker, new ExpenditureTracker(versionedExpenditureTracker));
+    }
+
     @Test
     public void equals() {
         VersionedExpenditureTracker versionedExpenditureTracker =
@@ -208,6 +208,41 @@ public class VersionedTodoListTest {
         assertThrows(VersionedTodoList.NoRedoableStateException.class, versionedTodoList::redo);
     }
 
+    @Test
+    public void commit_pastMaxHistoryDepth_earliestStatesDropped() {
+        VersionedTodoList versionedTodoList = new VersionedTodoList(emptyTodoList, 2);
+        versionedTodoList.resetData(todoListWithReflection);
+        versionedTodoList.commit();
+        versionedTodoList.resetData(todoListWithRevision);
+        versionedTodoList.commit();
+        versionedTodoList.resetData(todoListWithSurvey);
+        versionedTodoList.commit();
+
+        assertTodoListStatus(versionedTodoList,
+                Arrays.asList(todoListWithReflection, todoListWithRevision),
+                todoListWithSurvey,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void undo_taskLevelChangesSinceCommit_previousStateRestored() {
+        VersionedTodoList versionedTodoList = prepareTodoList(todoListWithReflection);
+        versionedTodoList.addTask(REVISION);
+        versionedTodoList.addTask(SURVEY);
+        versionedTodoList.removeTask(REFLECTION);
+        versionedTodoList.sortTaskDefault();
+        versionedTodoList.commit();
+        ReadOnlyTodoList committedState = new TodoList(versionedTodoList);
+
+        // uncommitted changes are discarded by undo
+        versionedTodoList.updateTask(SURVEY, REFLECTION);
+        versionedTodoList.undo();
+        assertEquals(todoListWithReflection, new TodoList(versionedTodoList));
+
+        versionedTodoList.redo();
+        assertEquals(committedState, new TodoList(versionedTodoList));
+    }
+
     @Test
     public void equals() {
         VersionedTodoList versionedTodoList = prepareTodoList(todoListWithReflection, todoListWithRevision);
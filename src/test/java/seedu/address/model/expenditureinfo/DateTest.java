@@ -1,9 +1,12 @@
 //@@author SHININGGGG
 package seedu.address.model.expenditureinfo;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -40,4 +43,12 @@ public class DateTest {
         assertTrue(Date.isValidDate("17-09-2018"));
         assertTrue(Date.isValidDate("14-12-2018"));
     }
+
+    @Test
+    public void toEpochDay() {
+        assertEquals(0, new Date("01-01-1970").toEpochDay());
+        assertEquals(LocalDate.of(2018, 2, 24).toEpochDay(), new Date("24-02-2018").toEpochDay());
+        assertEquals(LocalDate.of(2016, 2, 29), new Date("29-02-2016").toLocalDate());
+        assertTrue(new Date("31-12-2017").toEpochDay() < new Date("01-01-2018").toEpochDay());
+    }
 }
@@ -1,9 +1,13 @@
 //@@author SHININGGGG
 package seedu.address.model.expenditureinfo;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -35,4 +39,11 @@ public class DescriptionTest {
         assertTrue(Description.isValidDescription("-")); // one character
         assertTrue(Description.isValidDescription("Food")); // specified category
     }
+
+    @Test
+    public void getFoldedWordsRepeatedMixedCaseWordsDistinctWordsInLowerCase() {
+        Description description = new Description("Chicken  RICE and chicken soup");
+        assertEquals(Arrays.asList("chicken", "rice", "and", "soup"), description.getFoldedWords());
+        assertSame(description.getFoldedWords(), description.getFoldedWords());
+    }
 }
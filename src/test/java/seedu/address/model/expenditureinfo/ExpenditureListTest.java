@@ -4,9 +4,13 @@ package seedu.address.model.expenditureinfo;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalExpenditures.AIRCON;
 import static seedu.address.testutil.TypicalExpenditures.CHICKEN;
+import static seedu.address.testutil.TypicalExpenditures.HM;
 import static seedu.address.testutil.TypicalExpenditures.IPHONE;
+import static seedu.address.testutil.TypicalExpenditures.NIKE;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
@@ -16,6 +20,7 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.model.expenditureinfo.exceptions.DuplicateExpenditureException;
 import seedu.address.model.expenditureinfo.exceptions.ExpenditureNotFoundException;
+import seedu.address.testutil.ExpenditureBuilder;
 
 public class ExpenditureListTest {
     @Rule
@@ -141,6 +146,73 @@ public class ExpenditureListTest {
         assertEquals(expectedExpenditureList, expenditureList);
     }
 
+    @Test
+    public void containsafterRemoveAndSetExpendituresindexKeptConsistent() {
+        expenditureList.add(CHICKEN);
+        expenditureList.add(CHICKEN);
+        expenditureList.remove(CHICKEN);
+        assertTrue(expenditureList.contains(CHICKEN));
+
+        expenditureList.setExpenditures(CHICKEN, IPHONE);
+        assertFalse(expenditureList.contains(CHICKEN));
+        assertTrue(expenditureList.contains(IPHONE));
+
+        expenditureList.replaceRange(0, 1, Collections.singletonList(CHICKEN));
+        assertTrue(expenditureList.contains(CHICKEN));
+        assertFalse(expenditureList.contains(IPHONE));
+    }
+
+    @Test
+    public void getExpendituresBetweenafterChangesexpendituresInDateOrder() {
+        expenditureList.setExpenditures(Arrays.asList(NIKE, CHICKEN, AIRCON, IPHONE, HM));
+        assertEquals(Arrays.asList(CHICKEN, HM, IPHONE),
+                expenditureList.getExpendituresBetween(new Date("01-01-2018"), new Date("03-02-2018")));
+
+        expenditureList.remove(HM);
+        expenditureList.setExpenditures(IPHONE, new ExpenditureBuilder(IPHONE).withDate("06-12-2018").build());
+        assertEquals(Arrays.asList(AIRCON, CHICKEN),
+                expenditureList.getExpendituresBetween(new Date("01-01-2017"), new Date("01-12-2018")));
+        assertEquals(Collections.emptyList(),
+                expenditureList.getExpendituresBetween(new Date("03-02-2018"), new Date("01-01-2018")));
+    }
+
+    @Test
+    public void getSummaryBetweenperiodWithRepeatedDescriptiontotalsOfPeriodOnly() {
+        Expenditure secondChicken = new ExpenditureBuilder(CHICKEN).withDate("02-01-2018").withMoney("3.5").build();
+        expenditureList.setExpenditures(Arrays.asList(AIRCON, CHICKEN, HM, secondChicken, IPHONE));
+        ExpenditureSummary summary = expenditureList.getSummaryBetween(new Date("01-01-2018"), new Date("02-01-2018"));
+
+        assertEquals(3, summary.getCount());
+        assertEquals(11550, summary.getTotalCents());
+        assertEquals(Arrays.asList("Chicken rice", "HM hoodie"),
+                Arrays.asList(summary.getTotalsByDescription().keySet().toArray()));
+        assertEquals(Long.valueOf(1550), summary.getTotalsByDescription().get("Chicken rice"));
+
+        assertEquals(0, expenditureList.getSummaryBetween(new Date("02-02-2018"), new Date("02-02-2018")).getCount());
+    }
+
+    @Test
+    public void getCategoryTotalsafterChangestotalsKeptUpToDate() {
+        Expenditure secondChicken = new ExpenditureBuilder(CHICKEN).withDate("02-01-2018").withMoney("3.5").build();
+        expenditureList.setExpenditures(Arrays.asList(CHICKEN, HM, secondChicken));
+        assertEquals(new CategoryTotal(1550, 2), expenditureList.getCategoryTotals().get("Food"));
+        assertEquals(new CategoryTotal(10000, 1), expenditureList.getCategoryTotals().get("Clothing"));
+
+        expenditureList.remove(CHICKEN);
+        expenditureList.setExpenditures(HM, IPHONE);
+        expenditureList.replaceRange(1, 0, Collections.singletonList(AIRCON));
+        assertEquals(new CategoryTotal(350, 1), expenditureList.getCategoryTotals().get("Food"));
+        assertEquals(new CategoryTotal(200000, 1), expenditureList.getCategoryTotals().get("Electronics"));
+        assertEquals(new CategoryTotal(70000, 1), expenditureList.getCategoryTotals().get("Furniture"));
+        assertFalse(expenditureList.getCategoryTotals().containsKey("Clothing"));
+    }
+
+    @Test
+    public void getCategoryTotalsmodifyMapthrowsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        expenditureList.getCategoryTotals().clear();
+    }
+
     @Test
     public void asUnmodifiableObservableListmodifyListthrowsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
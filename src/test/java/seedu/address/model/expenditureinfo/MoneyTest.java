@@ -1,6 +1,7 @@
 //@@author SHININGGGG
 package seedu.address.model.expenditureinfo;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -40,5 +41,32 @@ public class MoneyTest {
         assertTrue(Money.isValidMoney("12")); // integer
         assertTrue(Money.isValidMoney("3.4")); // floating point number
         assertTrue(Money.isValidMoney("4.")); // incomplete floating point number without digits after '.'
+
+        // too large to be held in cents
+        assertFalse(Money.isValidMoney("92233720368547758.08"));
+    }
+
+    @Test
+    public void getCents() {
+        assertEquals(1200, new Money("12").getCents());
+        assertEquals(340, new Money("3.4").getCents());
+        assertEquals(400, new Money("4.").getCents());
+        assertEquals(1, new Money("0.01").getCents());
+        assertEquals(13, new Money("0.125").getCents()); // rounded half up
+        assertEquals(Long.MAX_VALUE, new Money("92233720368547758.07").getCents());
+    }
+
+    @Test
+    public void compareTo() {
+        assertEquals(0, new Money("12").compareTo(new Money("12.00")));
+        assertTrue(new Money("3.4").compareTo(new Money("12")) < 0);
+        assertTrue(new Money("0.1").compareTo(new Money("0.09")) > 0);
+    }
+
+    @Test
+    public void formatCents() {
+        assertEquals("12.50", Money.formatCents(1250));
+        assertEquals("0.05", Money.formatCents(5));
+        assertEquals("0.00", Money.formatCents(0));
     }
 }
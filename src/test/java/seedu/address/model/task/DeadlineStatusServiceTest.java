@@ -0,0 +1,116 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.commons.events.model.DayChangedEvent;
+import seedu.address.testutil.TaskBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
+
+public class DeadlineStatusServiceTest {
+
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
+    private final int year = LocalDate.now().getYear();
+    private final SettableClock clock = new SettableClock(LocalDate.of(year, 10, 1));
+    private final DeadlineStatusService deadlineStatusService = new DeadlineStatusService(clock);
+
+    @Test
+    public void getStatus_relativeToToday() {
+        assertEquals(DeadlineStatus.OVERDUE, deadlineStatusService.getStatus(taskDueOn("30-09")));
+        assertEquals(DeadlineStatus.DUE_SOON, deadlineStatusService.getStatus(taskDueOn("01-10")));
+        assertEquals(DeadlineStatus.DUE_SOON, deadlineStatusService.getStatus(taskDueOn("08-10")));
+        assertEquals(DeadlineStatus.NOT_DUE, deadlineStatusService.getStatus(taskDueOn("09-10")));
+    }
+
+    @Test
+    public void updateToday_sameDay_noEvent() {
+        deadlineStatusService.updateToday();
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void updateToday_nextDay_statusesMoveAndEventPosted() {
+        Task task = taskDueOn("01-10");
+        clock.setDate(LocalDate.of(year, 10, 2));
+        assertEquals(DeadlineStatus.DUE_SOON, deadlineStatusService.getStatus(task));
+
+        deadlineStatusService.updateToday();
+        assertEquals(LocalDate.of(year, 10, 2), deadlineStatusService.getToday());
+        assertEquals(DeadlineStatus.OVERDUE, deadlineStatusService.getStatus(task));
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DayChangedEvent);
+    }
+
+    @Test
+    public void updateToday_eventsCenterReplaced_eventPostedToCurrentEventsCenter() {
+        EventsCenter.clearSubscribers();
+        EventsCollectorRule.EventsCollector eventsCollector = eventsCollectorRule.new EventsCollector();
+
+        clock.setDate(LocalDate.of(year, 10, 2));
+        deadlineStatusService.updateToday();
+        assertTrue(eventsCollector.getMostRecent() instanceof DayChangedEvent);
+    }
+
+    @Test
+    public void updateToday_nextYear_datesTakenToBeInNewYear() {
+        clock.setDate(LocalDate.of(year, 12, 31));
+        deadlineStatusService.updateToday();
+        Task dueOnLastDay = taskDueOn("31-12");
+        Task dueOnFirstDay = taskDueOn("01-01");
+        assertEquals(DeadlineStatus.DUE_SOON, deadlineStatusService.getStatus(dueOnLastDay));
+        assertEquals(DeadlineStatus.OVERDUE, deadlineStatusService.getStatus(dueOnFirstDay));
+
+        // tasks built in the old year are taken to be due in the new year, as are tasks built after midnight
+        clock.setDate(LocalDate.of(year + 1, 1, 1));
+        deadlineStatusService.updateToday();
+        assertEquals(year + 1, deadlineStatusService.getCurrentYear());
+        assertEquals(DeadlineStatus.NOT_DUE, deadlineStatusService.getStatus(dueOnLastDay));
+        assertEquals(DeadlineStatus.DUE_SOON, deadlineStatusService.getStatus(dueOnFirstDay));
+        assertEquals(DeadlineStatus.DUE_SOON, deadlineStatusService.getStatus(taskDueOn("01-01")));
+    }
+
+    private Task taskDueOn(String date) {
+        return new TaskBuilder().withDate(date).build();
+    }
+
+    /**
+     * A clock whose date can be changed by the test.
+     */
+    private static class SettableClock extends Clock {
+        private Instant instant;
+
+        SettableClock(LocalDate date) {
+            setDate(date);
+        }
+
+        void setDate(LocalDate date) {
+            instant = date.atStartOfDay(ZoneOffset.UTC).toInstant();
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
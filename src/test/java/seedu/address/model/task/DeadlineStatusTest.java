@@ -0,0 +1,18 @@
+package seedu.address.model.task;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class DeadlineStatusTest {
+
+    @Test
+    public void of() {
+        long today = 17000;
+
+        assertEquals(DeadlineStatus.OVERDUE, DeadlineStatus.of(today - 1, today));
+        assertEquals(DeadlineStatus.DUE_SOON, DeadlineStatus.of(today, today));
+        assertEquals(DeadlineStatus.DUE_SOON, DeadlineStatus.of(today + DeadlineStatus.DUE_SOON_DAYS, today));
+        assertEquals(DeadlineStatus.NOT_DUE, DeadlineStatus.of(today + DeadlineStatus.DUE_SOON_DAYS + 1, today));
+    }
+}
@@ -1,9 +1,12 @@
 //@@author arty9
 package seedu.address.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.time.LocalDate;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -51,4 +54,12 @@ public class TaskDateTest {
         assertTrue(TaskDate.isValidDate("23-01"));
         assertTrue(TaskDate.isValidDate("23-12"));
     }
+
+    @Test
+    public void toEpochDay_inGivenYear() {
+        assertEquals(LocalDate.of(2018, 9, 16), new TaskDate("16-09").toLocalDate(2018));
+        assertEquals(LocalDate.of(2019, 9, 16).toEpochDay(), new TaskDate("16-09").toEpochDay(2019));
+        assertTrue(new TaskDate("31-01").toEpochDay(2018) < new TaskDate("01-02").toEpochDay(2018));
+        assertTrue(new TaskDate("31-01").toMonthDay().isBefore(new TaskDate("01-02").toMonthDay()));
+    }
 }
@@ -1,9 +1,13 @@
 //@@author arty9
 package seedu.address.model.task;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Arrays;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -41,4 +45,18 @@ public class TaskNameTest {
         assertTrue(TaskName.isValidName("#7 Quiz")); // starts with non-alphanumeric characters
         assertTrue(TaskName.isValidName("CG2028 Lab Assignment 3 for Week 4")); // long names
     }
+
+    @Test
+    public void getFoldedWordsRepeatedMixedCaseWordsDistinctWordsInLowerCase() {
+        TaskName taskName = new TaskName("CG2028 Lab  lab Report");
+        assertEquals(Arrays.asList("cg2028", "lab", "report"), taskName.getFoldedWords());
+        assertSame(taskName.getFoldedWords(), taskName.getFoldedWords());
+    }
+
+    @Test
+    public void getCollationKeyMixedCaseNameWholeNameInLowerCase() {
+        TaskName taskName = new TaskName("CG2028 Lab  lab Report");
+        assertEquals("cg2028 lab  lab report", taskName.getCollationKey());
+        assertSame(taskName.getCollationKey(), taskName.getCollationKey());
+    }
 }
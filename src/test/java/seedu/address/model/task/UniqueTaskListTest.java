@@ -7,7 +7,9 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TASK_MODULE_TUTORIAL;
 import static seedu.address.testutil.TypicalTasks.LAB;
 import static seedu.address.testutil.TypicalTasks.PROJECT;
+import static seedu.address.testutil.TypicalTasks.TUTORIAL;
 
+import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -22,6 +24,8 @@ import seedu.address.model.task.exceptions.TaskNotFoundException;
 import seedu.address.testutil.TaskBuilder;
 
 public class UniqueTaskListTest {
+    private static final int YEAR = 2018;
+
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
@@ -138,6 +142,35 @@ public class UniqueTaskListTest {
         assertEquals(expectedUniqueTaskList, uniqueTaskList);
     }
 
+    @Test
+    public void remove_taskCompletedInPlace_noLongerFoundByName() {
+        Task lab = new TaskBuilder(LAB).build();
+        uniqueTaskList.add(lab);
+
+        lab.setAsCompleted();
+        uniqueTaskList.setTask(lab, lab);
+        assertEquals(Collections.singletonList(lab),
+                uniqueTaskList.getTasksWithNameMatchingAny(Collections.singletonList("lab")));
+
+        uniqueTaskList.remove(lab);
+        assertEquals(Collections.emptyList(),
+                uniqueTaskList.getTasksWithNameMatchingAny(Collections.singletonList("lab")));
+    }
+
+    @Test
+    public void getTasksWithNameMatchingAny_afterSortAndReplaceRange_tasksInListOrder() {
+        Task quiz = new TaskBuilder(TUTORIAL).withName("Quiz 1").build();
+        uniqueTaskList.setTasks(Arrays.asList(PROJECT, LAB, TUTORIAL, quiz));
+        List<String> keywords = Arrays.asList("quiz", "lab", "tutorial");
+        assertEquals(Arrays.asList(LAB, TUTORIAL, quiz), uniqueTaskList.getTasksWithNameMatchingAny(keywords));
+
+        uniqueTaskList.reverseTask();
+        assertEquals(Arrays.asList(quiz, TUTORIAL, LAB), uniqueTaskList.getTasksWithNameMatchingAny(keywords));
+
+        uniqueTaskList.replaceRange(1, 2, Collections.singletonList(TUTORIAL));
+        assertEquals(Arrays.asList(quiz, TUTORIAL), uniqueTaskList.getTasksWithNameMatchingAny(keywords));
+    }
+
     @Test
     public void setTasks_nullUniqueTaskList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -176,6 +209,60 @@ public class UniqueTaskListTest {
         uniqueTaskList.setTasks(listWithDuplicateTasks);
     }
 
+    @Test
+    public void contains_afterRemoveAndSetTask_indexKeptConsistent() {
+        uniqueTaskList.add(LAB);
+        uniqueTaskList.setTask(LAB, PROJECT);
+        assertFalse(uniqueTaskList.contains(LAB));
+        assertTrue(uniqueTaskList.contains(PROJECT));
+
+        uniqueTaskList.remove(PROJECT);
+        assertFalse(uniqueTaskList.contains(PROJECT));
+
+        uniqueTaskList.setTasks(Arrays.asList(LAB, PROJECT));
+        uniqueTaskList.sortDefault();
+        assertTrue(uniqueTaskList.contains(LAB));
+        assertTrue(uniqueTaskList.contains(PROJECT));
+    }
+
+    @Test
+    public void replaceRange_replacesTasksAndIndex() {
+        uniqueTaskList.setTasks(Arrays.asList(LAB, PROJECT));
+        uniqueTaskList.replaceRange(0, 1, Collections.emptyList());
+        assertFalse(uniqueTaskList.contains(LAB));
+
+        uniqueTaskList.replaceRange(1, 0, Collections.singletonList(LAB));
+        UniqueTaskList expectedUniqueTaskList = new UniqueTaskList();
+        expectedUniqueTaskList.setTasks(Arrays.asList(PROJECT, LAB));
+        assertEquals(expectedUniqueTaskList, uniqueTaskList);
+        assertTrue(uniqueTaskList.contains(LAB));
+    }
+
+    @Test
+    public void getTasksDueBetween_afterChanges_tasksInDateOrder() {
+        uniqueTaskList.setTasks(Arrays.asList(PROJECT, LAB, TUTORIAL));
+        assertEquals(Arrays.asList(LAB, TUTORIAL), uniqueTaskList.getTasksDueBetween(
+                LocalDate.of(YEAR, 8, 30), LocalDate.of(YEAR, 9, 26), YEAR));
+
+        uniqueTaskList.remove(TUTORIAL);
+        uniqueTaskList.setTask(LAB, new TaskBuilder(LAB).withDate("11-11").build());
+        assertEquals(Collections.emptyList(), uniqueTaskList.getTasksDueBetween(
+                LocalDate.of(YEAR, 8, 30), LocalDate.of(YEAR, 9, 26), YEAR));
+        assertEquals(2, uniqueTaskList.getTasksDueBetween(
+                LocalDate.of(YEAR, 11, 11), LocalDate.of(YEAR, 11, 11), YEAR).size());
+    }
+
+    @Test
+    public void getTasksDueBetween_rangeAcrossYears_tasksInGivenYear() {
+        uniqueTaskList.setTasks(Arrays.asList(PROJECT, LAB, TUTORIAL));
+        assertEquals(Arrays.asList(LAB, TUTORIAL), uniqueTaskList.getTasksDueBetween(
+                LocalDate.of(YEAR - 1, 12, 1), LocalDate.of(YEAR, 9, 26), YEAR));
+        assertEquals(Arrays.asList(LAB, TUTORIAL, PROJECT), uniqueTaskList.getTasksDueBetween(
+                LocalDate.of(YEAR, 8, 30), LocalDate.of(YEAR + 1, 9, 1), YEAR));
+        assertEquals(Collections.emptyList(), uniqueTaskList.getTasksDueBetween(
+                LocalDate.of(YEAR - 1, 8, 30), LocalDate.of(YEAR - 1, 9, 26), YEAR));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,65 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class DateIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /** Files each string under its length. */
+    private final DateIndex<Integer, String> dateIndex = new DateIndex<>(String::length);
+
+    @Test
+    public void constructor_nullDateOf_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new DateIndex<Integer, String>(null);
+    }
+
+    @Test
+    public void getOn_recordsAdded_inInsertionOrder() {
+        dateIndex.reset(Arrays.asList("bb", "a", "cc"));
+        assertEquals(Arrays.asList("bb", "cc"), dateIndex.getOn(2));
+        assertEquals(Collections.emptyList(), dateIndex.getOn(3));
+    }
+
+    @Test
+    public void getOn_modifyList_throwsUnsupportedOperationException() {
+        dateIndex.add("a");
+        thrown.expect(UnsupportedOperationException.class);
+        dateIndex.getOn(1).remove(0);
+    }
+
+    @Test
+    public void remove_oneOfEqualRecords_otherKept() {
+        dateIndex.reset(Arrays.asList("a", "a", "bb"));
+        dateIndex.remove("a");
+        assertEquals(Collections.singletonList("a"), dateIndex.getOn(1));
+
+        dateIndex.remove("a");
+        dateIndex.remove("ccc");
+        assertEquals(Collections.singletonList("bb"), dateIndex.getBetween(0, 5));
+    }
+
+    @Test
+    public void getBetween_inclusiveRange_inDateOrder() {
+        dateIndex.reset(Arrays.asList("dddd", "a", "ccc", "bb", "b"));
+        assertEquals(Arrays.asList("bb", "ccc"), dateIndex.getBetween(2, 3));
+        assertEquals(Arrays.asList("a", "b", "bb", "ccc", "dddd"), dateIndex.getBetween(1, 4));
+        assertEquals(Collections.emptyList(), dateIndex.getBetween(3, 2));
+    }
+
+    @Test
+    public void forEachBetween_inclusiveRange_visitsOnlyRange() {
+        dateIndex.reset(Arrays.asList("dddd", "a", "ccc", "bb"));
+        StringBuilder visited = new StringBuilder();
+        dateIndex.forEachBetween(2, 3, visited::append);
+        assertEquals("bbccc", visited.toString());
+    }
+}
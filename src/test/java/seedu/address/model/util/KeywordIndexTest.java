@@ -0,0 +1,142 @@
+package seedu.address.model.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.task.Task;
+import seedu.address.testutil.TaskBuilder;
+
+public class KeywordIndexTest {
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    /** Files each string under its own words. */
+    private final KeywordIndex<String> keywordIndex = new KeywordIndex<>(StringUtil::toFoldedWords);
+
+    @Test
+    public void constructor_nullFoldedWordsOf_throwsNullPointerException() {
+        thrown.expect(NullPointerException.class);
+        new KeywordIndex<String>(null);
+    }
+
+    @Test
+    public void getMatchingAny_wholeWordsIgnoringCase_unionOfMatchesInListOrder() {
+        keywordIndex.reset(Arrays.asList("Assignment 2", "Lab  1", "assignment\tdraft", "Lecture"));
+
+        assertEquals(Arrays.asList("Assignment 2", "Lab  1", "assignment\tdraft"),
+                keywordIndex.getMatchingAny(Arrays.asList("lab", "ASSIGNMENT")));
+        assertEquals(Collections.emptyList(), keywordIndex.getMatchingAny(Arrays.asList("Assign", "Lab 1", "")));
+    }
+
+    @Test
+    public void getMatchingAny_afterSetAndReorder_matchesInListOrder() {
+        keywordIndex.reset(Arrays.asList("Quiz 9", "Lab 1", "Quiz 10"));
+        keywordIndex.set("Quiz 9", "Quiz 11");
+        keywordIndex.add("Quiz 12");
+        assertEquals(Arrays.asList("Quiz 11", "Quiz 10", "Quiz 12"),
+                keywordIndex.getMatchingAny(Collections.singletonList("quiz")));
+
+        keywordIndex.reorder(Arrays.asList("Quiz 12", "Lab 1", "Quiz 11", "Quiz 10"));
+        assertEquals(Arrays.asList("Quiz 12", "Quiz 11", "Quiz 10"),
+                keywordIndex.getMatchingAny(Collections.singletonList("quiz")));
+    }
+
+    @Test
+    public void getMatchingAll_wholeWordsIgnoringCase_intersectionOfMatchesInListOrder() {
+        keywordIndex.reset(Arrays.asList("Lab 2 report", "Lab 1", "report draft", "lab report"));
+
+        assertEquals(Arrays.asList("Lab 2 report", "lab report"),
+                keywordIndex.getMatchingAll(Arrays.asList("REPORT", "lab")));
+        assertEquals(Collections.emptyList(), keywordIndex.getMatchingAll(Arrays.asList("lab", "quiz")));
+        assertEquals(Collections.emptyList(), keywordIndex.getMatchingAll(Collections.emptyList()));
+    }
+
+    @Test
+    public void trackMatchingAny_indexChanged_matchesUpdatedInListOrder() {
+        keywordIndex.reset(Arrays.asList("Quiz 9", "Lab 1", "Quiz 10"));
+        KeywordIndex.Matches<String> matches = keywordIndex.trackMatchingAny(Arrays.asList("QUIZ", "tea"));
+        ObservableList<String> records = matches.asUnmodifiableObservableList();
+        assertEquals(Arrays.asList("Quiz 9", "Quiz 10"), records);
+
+        keywordIndex.set("Quiz 9", "Quiz 11");
+        keywordIndex.add("Lab 2");
+        keywordIndex.add("tea break");
+        keywordIndex.remove("Quiz 10");
+        assertEquals(Arrays.asList("Quiz 11", "tea break"), records);
+
+        keywordIndex.reorder(Arrays.asList("tea break", "Lab 2", "Quiz 11", "Lab 1"));
+        assertEquals(Arrays.asList("tea break", "Quiz 11"), records);
+
+        keywordIndex.reset(Arrays.asList("Quiz 12", "Lab 1"));
+        assertEquals(Collections.singletonList("Quiz 12"), records);
+
+        matches.close();
+        keywordIndex.add("Quiz 13");
+        assertEquals(Collections.singletonList("Quiz 12"), records);
+    }
+
+    @Test
+    public void trackMatchingAny_recordAdded_onlyThatRecordAdded() {
+        keywordIndex.reset(Arrays.asList("Quiz 9", "Lab 1"));
+        ObservableList<String> records = keywordIndex.trackMatchingAny(Collections.singletonList("quiz"))
+                .asUnmodifiableObservableList();
+        List<String> addedRecords = new ArrayList<>();
+        records.addListener((ListChangeListener<String>) change -> {
+            while (change.next()) {
+                assertFalse(change.wasRemoved());
+                addedRecords.addAll(change.getAddedSubList());
+            }
+        });
+
+        keywordIndex.add("Lab 2");
+        keywordIndex.add("Quiz 10");
+        assertEquals(Collections.singletonList("Quiz 10"), addedRecords);
+    }
+
+    @Test
+    public void remove_oneOfEqualRecords_otherKept() {
+        keywordIndex.add("Quiz 9");
+        keywordIndex.add("Quiz 9");
+        keywordIndex.remove("Quiz 9");
+        assertEquals(Collections.singletonList("Quiz 9"),
+                keywordIndex.getMatchingAny(Collections.singletonList("quiz")));
+
+        keywordIndex.remove("Quiz 9");
+        assertTrue(keywordIndex.getMatchingAny(Collections.singletonList("quiz")).isEmpty());
+    }
+
+    @Test
+    public void add_wordRepeatedInRecord_removedOnce() {
+        keywordIndex.add("tea tea");
+        keywordIndex.remove("tea tea");
+        assertTrue(keywordIndex.getMatchingAny(Collections.singletonList("tea")).isEmpty());
+    }
+
+    @Test
+    public void remove_recordChangedInPlace_indexEmpty() {
+        KeywordIndex<Task> nameIndex = new KeywordIndex<>(task -> task.getName().getFoldedWords());
+        Task lab = new TaskBuilder().withName("Lab 1").build();
+        nameIndex.add(lab);
+
+        // as completing a task does, which changes its hash code
+        lab.setAsCompleted();
+        nameIndex.set(lab, lab);
+        assertEquals(Collections.singletonList(lab), nameIndex.getMatchingAny(Collections.singletonList("lab")));
+
+        nameIndex.remove(lab);
+        assertTrue(nameIndex.isEmpty());
+    }
+}
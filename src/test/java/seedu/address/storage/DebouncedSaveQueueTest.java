@@ -0,0 +1,112 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class DebouncedSaveQueueTest {
+
+    private static final Path FILE_A = Paths.get("a.xml");
+    private static final Path FILE_B = Paths.get("b.xml");
+    private static final long LONG_QUIET_PERIOD = 60_000;
+
+    private final List<String> writes = Collections.synchronizedList(new ArrayList<>());
+    private final List<IOException> failures = Collections.synchronizedList(new ArrayList<>());
+    private DebouncedSaveQueue saveQueue;
+
+    @After
+    public void tearDown() {
+        if (saveQueue != null) {
+            saveQueue.shutdown();
+        }
+    }
+
+    @Test
+    public void submit_burstForSameFile_onlyLatestWritten() {
+        saveQueue = new DebouncedSaveQueue(LONG_QUIET_PERIOD, failures::add);
+        for (int i = 0; i < 10; i++) {
+            String snapshot = "snapshot " + i;
+            saveQueue.submit(FILE_A, () -> writes.add(snapshot));
+        }
+        assertEquals(1, saveQueue.getQueueDepth());
+
+        saveQueue.flush();
+        assertEquals(Collections.singletonList("snapshot 9"), writes);
+        assertEquals(1, saveQueue.getWriteCount());
+        assertEquals(9, saveQueue.getCoalescedCount());
+        assertEquals(0, saveQueue.getQueueDepth());
+    }
+
+    @Test
+    public void submit_differentFiles_allWritten() {
+        saveQueue = new DebouncedSaveQueue(LONG_QUIET_PERIOD, failures::add);
+        saveQueue.submit(FILE_A, () -> writes.add("a"));
+        saveQueue.submit(FILE_B, () -> writes.add("b"));
+        assertEquals(2, saveQueue.getQueueDepth());
+
+        saveQueue.flush();
+        assertEquals(2, writes.size());
+        assertTrue(writes.contains("a"));
+        assertTrue(writes.contains("b"));
+    }
+
+    @Test
+    public void submit_quietPeriodElapses_writtenWithoutFlush() throws Exception {
+        saveQueue = new DebouncedSaveQueue(10, failures::add);
+        CountDownLatch written = new CountDownLatch(1);
+        saveQueue.submit(FILE_A, written::countDown);
+        assertTrue(written.await(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void flush_singleFile_otherFilesStillQueued() {
+        saveQueue = new DebouncedSaveQueue(LONG_QUIET_PERIOD, failures::add);
+        saveQueue.submit(FILE_A, () -> writes.add("a"));
+        saveQueue.submit(FILE_B, () -> writes.add("b"));
+
+        saveQueue.flush(FILE_A);
+        assertEquals(Collections.singletonList("a"), writes);
+        assertEquals(1, saveQueue.getQueueDepth());
+    }
+
+    @Test
+    public void submit_saveThrows_failureReported() {
+        saveQueue = new DebouncedSaveQueue(LONG_QUIET_PERIOD, failures::add);
+        saveQueue.submit(FILE_A, () -> {
+            throw new IOException("dummy exception");
+        });
+
+        saveQueue.flush();
+        assertEquals(1, failures.size());
+        assertEquals(1, saveQueue.getFailureCount());
+    }
+
+    @Test
+    public void append_severalAppends_writtenInOrderWithoutCoalescing() {
+        saveQueue = new DebouncedSaveQueue(LONG_QUIET_PERIOD, failures::add);
+        for (int i = 0; i < 10; i++) {
+            String line = "line " + i;
+            saveQueue.append(FILE_A, () -> writes.add(line));
+        }
+
+        saveQueue.flush();
+        List<String> expectedWrites = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            expectedWrites.add("line " + i);
+        }
+        assertEquals(expectedWrites, writes);
+        assertEquals(10, saveQueue.getWriteCount());
+        assertEquals(0, saveQueue.getCoalescedCount());
+    }
+}
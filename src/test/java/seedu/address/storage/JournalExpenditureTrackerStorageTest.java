@@ -0,0 +1,174 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalExpenditures.AIRCON;
+import static seedu.address.testutil.TypicalExpenditures.CHICKEN;
+import static seedu.address.testutil.TypicalExpenditures.COKE;
+import static seedu.address.testutil.TypicalExpenditures.getTypicalExpenditureTracker;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ExpenditureTracker;
+import seedu.address.model.ReadOnlyExpenditureTracker;
+import seedu.address.model.expenditureinfo.Expenditure;
+import seedu.address.testutil.ExpenditureBuilder;
+
+public class JournalExpenditureTrackerStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readExpenditureTracker_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalExpenditureTrackerStorage(getTempFilePath("missing.journal"))
+                .readExpenditureTracker().isPresent());
+    }
+
+    @Test
+    public void readAndSaveExpenditureTracker_allInOrder_success() throws Exception {
+        Path filePath = getTempFilePath("et.journal");
+        JournalExpenditureTrackerStorage storage = new JournalExpenditureTrackerStorage(filePath);
+        ExpenditureTracker original = getTypicalExpenditureTracker();
+
+        // save and read
+        storage.saveExpenditureTracker(original);
+        assertSameRecords(original, readFromNewStorage(filePath));
+
+        // add, edit and remove, each appended to the journal
+        original.addExpenditure(new ExpenditureBuilder().withDescription("Tab\tand \\ backslash").build());
+        original.updateExpenditure(COKE, new ExpenditureBuilder(COKE).withMoney("2.50").build());
+        original.removeExpenditure(CHICKEN);
+        storage.saveExpenditureTracker(original);
+        assertSameRecords(original, readFromNewStorage(filePath));
+    }
+
+    @Test
+    public void saveExpenditureTracker_pastThreshold_compactedInBackground() throws Exception {
+        Path filePath = getTempFilePath("et.journal");
+        JournalExpenditureTrackerStorage storage = new JournalExpenditureTrackerStorage(filePath, 2);
+        ExpenditureTracker original = getTypicalExpenditureTracker();
+        assertTrue(original.getExpenditureList().size() > 2);
+        storage.saveExpenditureTracker(original);
+
+        waitUntilCompacted(storage);
+        assertTrue(Files.readAllLines(filePath).isEmpty());
+        assertSameRecords(original, readFromNewStorage(filePath));
+
+        // not past the threshold again, so the entry stays in the journal
+        original.removeExpenditure(AIRCON);
+        storage.saveExpenditureTracker(original);
+        assertEquals(1, storage.getJournalEntryCount());
+        assertSameRecords(original, readFromNewStorage(filePath));
+    }
+
+    @Test
+    public void compact_journalEntriesBelowThreshold_compacted() throws Exception {
+        Path filePath = getTempFilePath("et.journal");
+        JournalExpenditureTrackerStorage storage = new JournalExpenditureTrackerStorage(filePath, 100);
+        ExpenditureTracker original = getTypicalExpenditureTracker();
+        storage.saveExpenditureTracker(original);
+
+        storage.compact();
+        assertEquals(0, storage.getJournalEntryCount());
+        assertTrue(Files.readAllLines(filePath).isEmpty());
+        assertSameRecords(original, readFromNewStorage(filePath));
+
+        original.removeExpenditure(AIRCON);
+        storage.saveExpenditureTracker(original);
+        assertEquals(1, storage.getJournalEntryCount());
+        assertSameRecords(original, readFromNewStorage(filePath));
+    }
+
+    @Test
+    public void readExpenditureTracker_journalEntriesAlreadyInSnapshot_skipped() throws Exception {
+        Path filePath = getTempFilePath("et.journal");
+        JournalExpenditureTrackerStorage storage = new JournalExpenditureTrackerStorage(filePath);
+        ExpenditureTracker original = getTypicalExpenditureTracker();
+        storage.saveExpenditureTracker(original);
+        List<String> journal = Files.readAllLines(filePath);
+
+        // simulates the app stopping after the snapshot was written but before the journal was emptied
+        storage.compact();
+        Files.write(filePath, journal, StandardCharsets.UTF_8);
+        assertSameRecords(original, readFromNewStorage(filePath));
+    }
+
+    @Test
+    public void readExpenditureTracker_incompleteLastEntry_ignored() throws Exception {
+        Path filePath = getTempFilePath("et.journal");
+        new JournalExpenditureTrackerStorage(filePath).saveExpenditureTracker(getTypicalExpenditureTracker());
+        Files.write(filePath, "99\tadd\t0\tCut sh".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        assertSameRecords(getTypicalExpenditureTracker(), readFromNewStorage(filePath));
+    }
+
+    @Test
+    public void readExpenditureTracker_invalidEntry_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("et.journal");
+        Files.write(filePath, "1\tadd\t0\tCoke\t01-13-2018\t1\tDrink\n2\tremove\t0\n".getBytes(StandardCharsets.UTF_8));
+
+        thrown.expect(DataConversionException.class);
+        new JournalExpenditureTrackerStorage(filePath).readExpenditureTracker();
+    }
+
+    @Test
+    public void importIfMissing_xmlFileExists_imported() throws Exception {
+        XmlExpenditureTrackerStorage xmlStorage = new XmlExpenditureTrackerStorage(getTempFilePath("et.xml"));
+        xmlStorage.saveExpenditureTracker(getTypicalExpenditureTracker());
+        Path filePath = getTempFilePath("et.journal");
+        JournalExpenditureTrackerStorage storage = new JournalExpenditureTrackerStorage(filePath);
+
+        assertTrue(storage.importIfMissing(xmlStorage));
+        assertSameRecords(getTypicalExpenditureTracker(), readFromNewStorage(filePath));
+
+        // an existing journal is never overwritten
+        assertFalse(storage.importIfMissing(xmlStorage));
+    }
+
+    private ReadOnlyExpenditureTracker readFromNewStorage(Path filePath) throws Exception {
+        return new JournalExpenditureTrackerStorage(filePath).readExpenditureTracker().get();
+    }
+
+    /**
+     * Waits until the journal of {@code storage} has been folded into the snapshot by its background thread.
+     */
+    private void waitUntilCompacted(JournalExpenditureTrackerStorage storage) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (storage.getJournalEntryCount() > 0) {
+            assertTrue("Journal was not compacted in time", System.nanoTime() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same expenditures as {@code expected}, in the same order.
+     */
+    private void assertSameRecords(ReadOnlyExpenditureTracker expected, ReadOnlyExpenditureTracker actual) {
+        List<Expenditure> expectedList = expected.getExpenditureList();
+        List<Expenditure> actualList = actual.getExpenditureList();
+        assertEquals(expectedList.size(), actualList.size());
+        for (int i = 0; i < expectedList.size(); i++) {
+            assertTrue(expectedList.get(i).isSameExpenditure(actualList.get(i)));
+        }
+    }
+}
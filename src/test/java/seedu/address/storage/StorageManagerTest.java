@@ -1,20 +1,25 @@
 package seedu.address.storage;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 import static seedu.address.testutil.TypicalTasks.getTypicalTodoList;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.TemporaryFolder;
 
+import seedu.address.commons.events.logic.CommandHistoryChangedEvent;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.model.ExpenditureTrackerChangedEvent;
 import seedu.address.commons.events.model.TodoListChangedEvent;
@@ -137,6 +142,36 @@ public class StorageManagerTest {
         assertEquals(original, new TodoList(retrieved));
     }
 
+    @Test
+    public void handleTodoListChangedEvent_withQuietPeriod_savedBeforeRead() throws Exception {
+        Storage storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new XmlExpenditureTrackerStorage(getTempFilePath("et")),
+                new XmlTodoListStorage(getTempFilePath("td")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        TodoList original = getTypicalTodoList();
+        storage.handleTodoListChangedEvent(new TodoListChangedEvent(new TodoList()));
+        storage.handleTodoListChangedEvent(new TodoListChangedEvent(original));
+
+        // pending saves are flushed before the file is read
+        ReadOnlyTodoList retrieved = storage.readTodoList().get();
+        assertEquals(original, new TodoList(retrieved));
+    }
+
+    @Test
+    public void flushPendingSaves_withQuietPeriod_dataWritten() throws Exception {
+        Storage storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new XmlExpenditureTrackerStorage(getTempFilePath("et")),
+                new XmlTodoListStorage(getTempFilePath("td")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), 60_000);
+        AddressBook original = getTypicalAddressBook();
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(original));
+        assertFalse(Files.exists(getTempFilePath("ab")));
+
+        storage.flushPendingSaves();
+        assertTrue(Files.exists(getTempFilePath("ab")));
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
     @Test
     public void getTodoListFilePath() {
         assertNotNull(storageManager.getTodoListFilePath());
@@ -153,6 +188,27 @@ public class StorageManagerTest {
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleCommandHistoryChangedEvent_commandHistoryStored_commandAppended() throws Exception {
+        Storage storage = new StorageManager(new XmlAddressBookStorage(getTempFilePath("ab")),
+                new XmlExpenditureTrackerStorage(getTempFilePath("et")),
+                new XmlTodoListStorage(getTempFilePath("td")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")),
+                new TextCommandHistoryStorage(getTempFilePath("history")), 60_000);
+        storage.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("TDL_view"));
+        storage.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("history"));
+
+        // appends are not held back by the quiet period
+        assertEquals(Arrays.asList("TDL_view", "history"), storage.readCommandHistory(10));
+    }
+
+    @Test
+    public void handleCommandHistoryChangedEvent_commandHistoryNotStored_nothingStored() throws Exception {
+        storageManager.handleCommandHistoryChangedEvent(new CommandHistoryChangedEvent("TDL_view"));
+        assertEquals(null, storageManager.getCommandHistoryFilePath());
+        assertEquals(Collections.emptyList(), storageManager.readCommandHistory(10));
+    }
+
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -0,0 +1,80 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class TextCommandHistoryStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readCommandHistory_missingFile_emptyResult() throws Exception {
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(getTempFilePath("missing.txt"));
+        assertEquals(Collections.emptyList(), storage.readCommandHistory(10));
+    }
+
+    @Test
+    public void readCommandHistory_nonPositiveMaxEntries_throwsIllegalArgumentException() throws Exception {
+        thrown.expect(IllegalArgumentException.class);
+        new TextCommandHistoryStorage(getTempFilePath("history.txt")).readCommandHistory(0);
+    }
+
+    @Test
+    public void appendAndReadCommandHistory_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("data").resolve("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        storage.appendCommandHistory("TDL_add t/Lab m/CS2113");
+        storage.appendCommandHistory("");
+        storage.appendCommandHistory("ET_add e/Line\nbreak and \\ backslash");
+
+        assertEquals(Arrays.asList("TDL_add t/Lab m/CS2113", "", "ET_add e/Line\nbreak and \\ backslash"),
+                new TextCommandHistoryStorage(filePath).readCommandHistory(10));
+    }
+
+    @Test
+    public void readCommandHistory_moreEntriesThanMax_mostRecentEntriesRead() throws Exception {
+        Path filePath = getTempFilePath("history.txt");
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+        for (int i = 1; i <= 5; i++) {
+            storage.appendCommandHistory("command " + i);
+        }
+
+        assertEquals(Arrays.asList("command 4", "command 5"), storage.readCommandHistory(2));
+        // most of the file was older entries, so it is trimmed
+        assertEquals(Arrays.asList("command 4", "command 5"), storage.readCommandHistory(10));
+
+        storage.appendCommandHistory("command 6");
+        assertEquals(Arrays.asList("command 4", "command 5", "command 6"), storage.readCommandHistory(10));
+    }
+
+    @Test
+    public void readCommandHistory_lastLineCutShort_nextEntryOnNewLine() throws Exception {
+        Path filePath = getTempFilePath("history.txt");
+        Files.write(filePath, "TDL_view\r\nhist".getBytes(StandardCharsets.UTF_8));
+        TextCommandHistoryStorage storage = new TextCommandHistoryStorage(filePath);
+
+        assertEquals(Arrays.asList("TDL_view", "hist"), storage.readCommandHistory(10));
+        storage.appendCommandHistory("history");
+        assertEquals(Arrays.asList("TDL_view", "hist", "history"), storage.readCommandHistory(10));
+        assertTrue(new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8).endsWith("hist\nhistory\n"));
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -73,6 +73,14 @@ public class XmlAddressBookStorageTest {
         readAddressBook("invalidAndValidPersonAddressBook.xml");
     }
 
+    @Test
+    public void readAddressBook_invalidAndValidPersonAddressBookSkippingInvalidRecords_validPersonsRead()
+            throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidAndValidPersonAddressBook.xml");
+        ReadOnlyAddressBook readBack = new XmlAddressBookStorage(filePath, true).readAddressBook().get();
+        assertEquals(1, readBack.getPersonList().size());
+    }
+
     @Test
     public void readAndSaveAddressBook_allInOrder_success() throws Exception {
         Path filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
@@ -0,0 +1,123 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.FileNotFoundException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.storage.XmlRecordReader.RecordConverter;
+
+public class XmlRecordReaderTest {
+
+    private static final String VALID_RECORDS = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n"
+            + "<root>\n"
+            + "    <!-- comment -->\n"
+            + "    <item><value>first</value><tag>a</tag><tag>b</tag></item>\n"
+            + "    <other><value>ignored</value></other>\n"
+            + "    <item><value>sec<nested>x</nested>ond</value></item>\n"
+            + "</root>\n";
+
+    private static final String INVALID_RECORDS = "<root>\n"
+            + "    <item><value>first</value></item>\n"
+            + "    <item><value>invalid</value></item>\n"
+            + "    <item><value>third</value></item>\n"
+            + "</root>\n";
+
+    private static final RecordConverter<String> REJECT_INVALID = record -> {
+        if ("invalid".equals(record.get("value"))) {
+            throw new IllegalValueException("invalid value");
+        }
+        return record.get("value");
+    };
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final List<String> values = new ArrayList<>();
+
+    @Test
+    public void read_validRecords_allRecordsInOrder() throws Exception {
+        List<List<String>> tags = new ArrayList<>();
+        XmlRecordReader reader = new XmlRecordReader(createFile(VALID_RECORDS), false);
+        reader.read("root", "item", record -> {
+            tags.add(record.getAll("tag"));
+            return record.get("value");
+        }, values::add);
+
+        assertEquals(Arrays.asList("first", "second"), values);
+        assertEquals(Arrays.asList(Arrays.asList("a", "b"), new ArrayList<>()), tags);
+        assertEquals(2, reader.getRecordCount());
+    }
+
+    @Test
+    public void read_invalidRecordSkipped_otherRecordsRead() throws Exception {
+        XmlRecordReader reader = new XmlRecordReader(createFile(INVALID_RECORDS), true);
+        reader.read("root", "item", REJECT_INVALID, values::add);
+
+        assertEquals(Arrays.asList("first", "third"), values);
+        assertEquals(3, reader.getRecordCount());
+        assertEquals(1, reader.getRecordErrors().size());
+        assertTrue(reader.getRecordErrors().get(0).contains("Record 2 (line 3)"));
+    }
+
+    @Test
+    public void read_invalidRecordNotSkipped_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlRecordReader(createFile(INVALID_RECORDS), false).read("root", "item", REJECT_INVALID, values::add);
+    }
+
+    @Test
+    public void read_consumerRejectsRecord_recordSkipped() throws Exception {
+        XmlRecordReader reader = new XmlRecordReader(createFile(VALID_RECORDS), true);
+        reader.read("root", "item", record -> record.get("value"), value -> {
+            if (!values.isEmpty()) {
+                throw new IllegalValueException("duplicate");
+            }
+            values.add(value);
+        });
+
+        assertEquals(Arrays.asList("first"), values);
+        assertEquals(1, reader.getRecordErrors().size());
+    }
+
+    @Test
+    public void read_wrongRootElement_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlRecordReader(createFile(VALID_RECORDS), true).read("other", "item", REJECT_INVALID, values::add);
+    }
+
+    @Test
+    public void read_notXmlFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        new XmlRecordReader(createFile("not xml format!"), true).read("root", "item", REJECT_INVALID, values::add);
+    }
+
+    @Test
+    public void read_missingFile_throwsFileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        new XmlRecordReader(testFolder.getRoot().toPath().resolve("missing.xml"), true)
+                .read("root", "item", REJECT_INVALID, values::add);
+    }
+
+    private Path createFile(String content) throws Exception {
+        Path file = testFolder.newFile().toPath();
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
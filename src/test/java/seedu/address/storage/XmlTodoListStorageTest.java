@@ -70,6 +70,13 @@ public class XmlTodoListStorageTest {
         readTodoList("invalidAndValidTaskTodoList.xml");
     }
 
+    @Test
+    public void readTodoList_invalidAndValidTaskTodoListSkippingInvalidRecords_validTasksRead() throws Exception {
+        Path filePath = TEST_DATA_FOLDER.resolve("invalidAndValidTaskTodoList.xml");
+        ReadOnlyTodoList readBack = new XmlTodoListStorage(filePath, true).readTodoList().get();
+        assertEquals(1, readBack.getTaskList().size());
+    }
+
     @Test
     public void readAndSaveTodoList_allInOrder_success() throws Exception {
         Path filePath = testFolder.getRoot().toPath().resolve("TempTodoList.xml");
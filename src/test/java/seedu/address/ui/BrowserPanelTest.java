@@ -2,6 +2,7 @@ package seedu.address.ui;
 
 import static guitests.guihandles.WebViewUtil.waitUntilBrowserLoaded;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
 import static seedu.address.testutil.EventsUtil.postNow;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.ui.BrowserPanel.DEFAULT_PAGE;
@@ -20,6 +21,7 @@ public class BrowserPanelTest extends GuiUnitTest {
     private PersonPanelSelectionChangedEvent selectionChangedEventStub;
 
     private BrowserPanel browserPanel;
+    private BrowserPanel unshownBrowserPanel;
     private BrowserPanelHandle browserPanelHandle;
 
     @Before
@@ -45,4 +47,10 @@ public class BrowserPanelTest extends GuiUnitTest {
         waitUntilBrowserLoaded(browserPanelHandle);
         assertEquals(expectedPersonUrl, browserPanelHandle.getLoadedUrl());
     }
+
+    @Test
+    public void constructor_notInScene_noWebViewTaken() {
+        guiRobot.interact(() -> unshownBrowserPanel = new BrowserPanel());
+        assertNull(unshownBrowserPanel.getRoot().lookup(BrowserPanelHandle.BROWSER_ID));
+    }
 }
@@ -23,6 +23,16 @@ public class ExpenditureCardTest extends GuiUnitTest {
         assertCardDisplay(expenditureCard, expenditure, 1);
     }
 
+    @Test
+    public void display_cardReused_showsNewExpenditure() {
+        ExpenditureCard expenditureCard = new ExpenditureCard(new ExpenditureBuilder().build(), 1);
+        uiPartRule.setUiPart(expenditureCard);
+
+        Expenditure otherExpenditure = new ExpenditureBuilder().withDescription("Other").withMoney("2.50").build();
+        guiRobot.interact(() -> expenditureCard.setExpenditure(otherExpenditure, 2));
+        assertCardDisplay(expenditureCard, otherExpenditure, 2);
+    }
+
     @Test
     public void equals() {
         Expenditure expenditure = new ExpenditureBuilder().build();
@@ -0,0 +1,83 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.testutil.Assert;
+
+public class FxmlTemplateCacheTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private final FxmlTemplateCache templateCache = new FxmlTemplateCache(getClass().getClassLoader());
+
+    @Test
+    public void openDocument_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> templateCache.openDocument(null));
+    }
+
+    @Test
+    public void openDocument_missingFile_throwsIoException() throws Exception {
+        URL missingFileUrl = testFolder.getRoot().toPath().resolve("missing.fxml").toUri().toURL();
+        Assert.assertThrows(IOException.class, () -> templateCache.openDocument(missingFileUrl));
+    }
+
+    @Test
+    public void openDocument_fileChangedAfterFirstOpen_returnsFirstContents() throws Exception {
+        Path file = testFolder.newFile("document.fxml").toPath();
+        Files.write(file, "first".getBytes(StandardCharsets.UTF_8));
+        URL fileUrl = file.toUri().toURL();
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), readAll(templateCache.openDocument(fileUrl)));
+
+        Files.write(file, "second".getBytes(StandardCharsets.UTF_8));
+        assertArrayEquals("first".getBytes(StandardCharsets.UTF_8), readAll(templateCache.openDocument(fileUrl)));
+    }
+
+    @Test
+    public void getClassLoader_existingClass_returnsSameClass() throws Exception {
+        assertSame(String.class, templateCache.getClassLoader().loadClass("java.lang.String"));
+        assertSame(String.class, templateCache.getClassLoader().loadClass("java.lang.String"));
+    }
+
+    @Test
+    public void getClassLoader_missingClass_throwsClassNotFoundException() {
+        for (int i = 0; i < 2; i++) {
+            Assert.assertThrows(ClassNotFoundException.class, () ->
+                    templateCache.getClassLoader().loadClass("javafx.scene.layout.NoSuchClass"));
+        }
+    }
+
+    @Test
+    public void getLoadTimes_loadsRecorded_slowestFirst() throws Exception {
+        templateCache.recordLoad(new URL("file:/view/Fast.fxml"), 1_000_000);
+        templateCache.recordLoad(new URL("file:/view/Slow.fxml"), 2_000_000);
+        templateCache.recordLoad(new URL("file:/view/Fast.fxml"), 500_000);
+        templateCache.recordLoad(new URL("file:/view/Slow.fxml"), 2_000_000);
+
+        assertEquals(Arrays.asList("Slow.fxml", "Fast.fxml"), new ArrayList<>(templateCache.getLoadTimes().keySet()));
+        FxmlTemplateCache.LoadTime fastLoadTime = templateCache.getLoadTimes().get("Fast.fxml");
+        assertEquals(2, fastLoadTime.getCount());
+        assertEquals(1_500_000, fastLoadTime.getTotalNanos());
+    }
+
+    private static byte[] readAll(InputStream stream) throws IOException {
+        try (InputStream document = stream) {
+            return document.readAllBytes();
+        }
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.ui;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assume.assumeFalse;
 import static seedu.address.ui.HelpWindow.USERGUIDE_FILE_PATH;
@@ -13,6 +15,7 @@ import org.junit.Test;
 import org.testfx.api.FxToolkit;
 
 import guitests.guihandles.HelpWindowHandle;
+import javafx.scene.Node;
 import javafx.stage.Stage;
 
 public class HelpWindowTest extends GuiUnitTest {
@@ -34,6 +37,20 @@ public class HelpWindowTest extends GuiUnitTest {
         assertEquals(expectedHelpPage, helpWindowHandle.getLoadedUrl());
     }
 
+    @Test
+    public void constructor_helpWindowNotShown_userGuideNotLoaded() {
+        assertNull(lookupBrowser());
+    }
+
+    @Test
+    public void hide_helpWindowIsShowing_browserReleased() {
+        guiRobot.interact(helpWindow::show);
+        assertNotNull(lookupBrowser());
+
+        guiRobot.interact(helpWindow.getRoot()::hide);
+        assertNull(lookupBrowser());
+    }
+
     @Test
     public void isShowing_helpWindowIsShowing_returnsTrue() {
         guiRobot.interact(helpWindow::show);
@@ -70,4 +87,8 @@ public class HelpWindowTest extends GuiUnitTest {
         guiRobot.interact(helpWindow::focus);
         assertTrue(helpWindow.getRoot().isFocused());
     }
+
+    private Node lookupBrowser() {
+        return helpWindow.getRoot().getScene().lookup("#browser");
+    }
 }
@@ -28,6 +28,17 @@ public class PersonCardTest extends GuiUnitTest {
         assertCardDisplay(personCard, personWithTags, 2);
     }
 
+    @Test
+    public void display_cardReused_showsNewPerson() {
+        Person personWithTags = new PersonBuilder().build();
+        PersonCard personCard = new PersonCard(personWithTags, 1);
+        uiPartRule.setUiPart(personCard);
+
+        Person personWithNoTags = new PersonBuilder().withName("Other Name").withTags(new String[0]).build();
+        guiRobot.interact(() -> personCard.setPerson(personWithNoTags, 2));
+        assertCardDisplay(personCard, personWithNoTags, 2);
+    }
+
     @Test
     public void equals() {
         Person person = new PersonBuilder().build();
@@ -23,6 +23,16 @@ public class TaskCardTest extends GuiUnitTest {
         assertCardDisplay(taskCard, task, 1);
     }
 
+    @Test
+    public void display_cardReused_showsNewTask() {
+        TaskCard taskCard = new TaskCard(new TaskBuilder().build(), 1);
+        uiPartRule.setUiPart(taskCard);
+
+        Task otherTask = new TaskBuilder().withName("Other task").withPriority("3").build();
+        guiRobot.interact(() -> taskCard.setTask(otherTask, 2));
+        assertCardDisplay(taskCard, otherTask, 2);
+    }
+
     /**
      * Asserts that {@code taskCard} displays the details of {@code expectedTask} correctly and matches
      * {@code expectedId}.
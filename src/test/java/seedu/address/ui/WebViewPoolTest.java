@@ -0,0 +1,69 @@
+package seedu.address.ui;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.Test;
+
+import javafx.scene.layout.StackPane;
+import javafx.scene.web.WebView;
+
+public class WebViewPoolTest extends GuiUnitTest {
+
+    private final WebViewPool webViewPool = new WebViewPool();
+
+    private WebView first;
+    private WebView second;
+    private WebView third;
+
+    @Test
+    public void acquire_noneReleased_createsNewWebViews() {
+        guiRobot.interact(() -> {
+            first = webViewPool.acquire();
+            second = webViewPool.acquire();
+        });
+        assertNotSame(first, second);
+        assertEquals(2, webViewPool.getCreatedCount());
+    }
+
+    @Test
+    public void acquire_afterRelease_reusesWebView() {
+        guiRobot.interact(() -> {
+            first = webViewPool.acquire();
+            webViewPool.release(first);
+            second = webViewPool.acquire();
+        });
+        assertSame(first, second);
+        assertEquals(1, webViewPool.getCreatedCount());
+    }
+
+    @Test
+    public void acquire_twoReleased_onlyOneReused() {
+        guiRobot.interact(() -> {
+            first = webViewPool.acquire();
+            second = webViewPool.acquire();
+            webViewPool.release(first);
+            webViewPool.release(second);
+            third = webViewPool.acquire();
+            webViewPool.acquire();
+        });
+        assertSame(first, third);
+        assertEquals(3, webViewPool.getCreatedCount());
+    }
+
+    @Test
+    public void release_webViewShown_removedFromParent() {
+        StackPane placeholder = new StackPane();
+        guiRobot.interact(() -> {
+            first = webViewPool.acquire();
+            first.setId("browser");
+            placeholder.getChildren().add(first);
+            webViewPool.release(first);
+        });
+        assertEquals(0, placeholder.getChildren().size());
+        assertNull(first.getParent());
+        assertNull(first.getId());
+    }
+}
@@ -17,6 +17,7 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.After;
 import org.junit.Before;
@@ -52,6 +53,7 @@ public abstract class AddressBookSystemTest {
     @ClassRule
     public static ClockRule clockRule = new ClockRule();
 
+    private static final long EVENTS_FLUSH_TIMEOUT_SECONDS = 10;
     private static final List<String> COMMAND_BOX_DEFAULT_STYLE = Arrays.asList("text-input", "text-field");
     private static final List<String> COMMAND_BOX_ERROR_STYLE =
             Arrays.asList("text-input", "text-field", CommandBox.ERROR_STYLE_CLASS);
@@ -71,6 +73,7 @@ public abstract class AddressBookSystemTest {
         testApp = setupHelper.setupApplication(this::getInitialData, getDataFileLocation());
         mainWindowHandle = setupHelper.setupMainWindowHandle();
 
+        waitUntilEventsHandled();
         waitUntilBrowserLoaded(getBrowserPanel());
         assertApplicationStartingStateIsCorrect();
     }
@@ -135,9 +138,17 @@ public abstract class AddressBookSystemTest {
 
         mainWindowHandle.getCommandBox().run(command);
 
+        waitUntilEventsHandled();
         waitUntilBrowserLoaded(getBrowserPanel());
     }
 
+    /**
+     * Waits until the events raised so far have been handled on the threads their handlers are dispatched on.
+     */
+    protected void waitUntilEventsHandled() {
+        assertTrue(EventsCenter.getInstance().flush(EVENTS_FLUSH_TIMEOUT_SECONDS, TimeUnit.SECONDS));
+    }
+
     /**
      * Displays all persons in the address book.
      */